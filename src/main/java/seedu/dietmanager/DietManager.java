@@ -1,19 +1,77 @@
 package seedu.dietmanager;
 
+import seedu.dietmanager.commons.core.MessageBank;
 import seedu.dietmanager.logic.AppManager;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 /**
  * DietManager is the main class responsible for launching the application.
  */
 
 public class DietManager {
 
+    private static final String BATCH_OPTION = "--batch";
+
+    private static final String FLUSH_OPTION = "--flush-every";
+
+    private static final String SERVER_OPTION = "--server";
+
+    private static final int MAX_PORT = 65535;
+
     /**
-     * Launches the Diet Manager application.
+     * Launches the Diet Manager application. <br>
+     * With {@code --batch SCRIPT}, the commands of the script are run without user interaction, and with
+     * {@code --flush-every N} the changes are saved every N commands instead of only at the end. With
+     * {@code --server PORT}, users connect to a local TCP port instead, each to a session of their own.
+     *
+     * @param args no argument, the batch options or the server option.
      */
 
     public static void main(String[] args) {
-        AppManager.launch();
+        if (args.length == 0) {
+            AppManager.launch();
+            return;
+        }
+        Runnable launcher;
+        try {
+            launcher = args[0].equals(SERVER_OPTION) ? parseServerOptions(args) : parseBatchOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(MessageBank.USAGE_MESSAGE);
+            return;
+        }
+        launcher.run();
+    }
+
+    private static Runnable parseServerOptions(String[] args) throws IllegalArgumentException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException();
+        }
+        int port = Integer.parseInt(args[1]);
+        if (port < 0 || port > MAX_PORT) {
+            throw new IllegalArgumentException();
+        }
+        return () -> AppManager.launchServer(port);
+    }
+
+    private static Runnable parseBatchOptions(String[] args) throws IllegalArgumentException {
+        if (!args[0].equals(BATCH_OPTION) || (args.length != 2 && args.length != 4)) {
+            throw new IllegalArgumentException();
+        }
+        Path script = Paths.get(args[1]);
+        int flushInterval = 0;
+        if (args.length == 4) {
+            if (!args[2].equals(FLUSH_OPTION)) {
+                throw new IllegalArgumentException();
+            }
+            flushInterval = Integer.parseInt(args[3]);
+            if (flushInterval <= 0) {
+                throw new IllegalArgumentException();
+            }
+        }
+        int interval = flushInterval;
+        return () -> AppManager.launchBatch(script, interval);
     }
 
 }
@@ -27,6 +27,31 @@ public class MessageBank {
 
     public static String EXIT_APP_MESSAGE = "Thanks for using Diet Manager! See you again soon. :)";
 
+    public static String USAGE_MESSAGE = "Usage: java -jar DietManager.jar [--batch SCRIPT [--flush-every N]"
+            + " | --server PORT]\n"
+            + "SCRIPT is a file of commands, one per line. N is a positive number of commands.\n"
+            + "PORT is the local TCP port the server listens on, from 0 to 65535.";
+
+    public static String BATCH_FILE_ERROR_MESSAGE = "The batch script %s cannot be read to its end.";
+
+    public static String BATCH_SUMMARY_MESSAGE = "Ran %d command(s) from %d line(s) in %.2f s (%.0f commands/s).";
+
+    public static String BATCH_FAILED_LINES_MESSAGE = "%d line(s) failed: %s";
+
+    public static String BATCH_NO_FAILURE_MESSAGE = "No line failed.";
+
+    public static String SERVER_STARTED_MESSAGE = "Diet Manager server listening on %s port %d. "
+            + "Press Ctrl+C to stop.";
+
+    public static String SERVER_PORT_ERROR_MESSAGE = "The server cannot listen on port %d.";
+
+    public static String USER_ID_PROMPT = "Please key in your user ID:";
+
+    public static String INVALID_USER_ID_MESSAGE = "Sorry, a user ID has 1 to 32 letters, digits, hyphens "
+            + "or underscores.";
+
+    public static String USER_CONNECTED_MESSAGE = "Sorry, user %s is already connected.";
+
     public static String NAME_CHANGE_MESSAGE = "Your username has been changed to ";
 
     public static String GENDER_CHANGE_MESSAGE = "Your gender has been changed to ";
@@ -74,6 +99,9 @@ public class MessageBank {
 
     public static String INVALID_FOOD_FORMAT_ERROR = "Some food/foods are not added due to invalid calories info.";
 
+    public static String FOOD_NAME_CORRECTED_MESSAGE = "Some foods are not in our database, "
+            + "so the closest foods were recorded: ";
+
     public static String CALORIES_MESSAGE = "Total calculable calories intake for the entire day: ";
 
     public static String TIME_CALORIES_MESSAGE = "total calculable calories intake: ";
@@ -97,9 +125,25 @@ public class MessageBank {
     public static String NO_DESCRIPTION_MESSAGE = "This command must follow by description! Please input again!";
 
     public static String INVALID_DATE_MESSAGE = "You should choose a date from {Monday} to {Sunday}!\n"
-            + "Either uppercase or lowercase is supported!";
+            + "Either uppercase or lowercase is supported!\n"
+            + "Dates of other weeks from 1900 to 2099 are given as {yyyy-MM-dd}, such as 2020-04-06.";
+
+    public static String DAILY_CALORIES_SUMMARY_MESSAGE = "Days with calories data: %d. "
+            + "Daily intake: average %.2f, lowest %.2f, highest %.2f.";
+
+    public static String TREND_HEADER_MESSAGE = "Calories trend up to %s, against the requirement of %.2fcal a day "
+            + "for %s activity level:\n";
+
+    public static String TREND_WINDOW_MESSAGE = "Last %d days: average %.2fcal over %d day(s) with records, "
+            + "a daily %s of %.2fcal.\n";
+
+    public static String TREND_NO_CALORIES_MESSAGE = "Last %d days: no calories recorded.\n";
 
-    public static String RECORDS_CLEARED_MESSAGE = "You have just cleared all food records in the week!";
+    public static String TREND_STREAK_MESSAGE = "You have met your calories target %d day(s) in a row.";
+
+    public static String INVALID_DATE_RANGE_MESSAGE = "The first date of the period should not be after the last date!";
+
+    public static String RECORDS_CLEARED_MESSAGE = "You have just cleared all food records!";
 
     public static String LINE_SEPARATOR = "----------------------------------------------------------------";
 
@@ -109,6 +153,31 @@ public class MessageBank {
 
     public static String WEIGHT_GOAL_NOT_ACHIEVED_MESSAGE = "%.2f kg more to go to meet your dream girl/boy!";
 
+    public static String WEIGHT_FORECAST_TREND_MESSAGE = "Your weight changes by %.2fkg a week on average.";
+
+    public static String WEIGHT_FORECAST_MESSAGE = "At this rate, you will reach your weight goal of %.2fkg around %s.";
+
+    public static String WEIGHT_FORECAST_AWAY_FROM_GOAL_MESSAGE =
+            "At this rate, you are not getting any closer to your weight goal of %.2fkg.";
+
+    public static String WEIGHT_FORECAST_TOO_SLOW_MESSAGE =
+            "At this rate, you will not reach your weight goal of %.2fkg within the next 100 years.";
+
+    public static String WEIGHT_FORECAST_NO_TREND_MESSAGE =
+            "Record your weight on at least two different days to get a forecast of your weight goal.";
+
+    public static String WEIGHT_CHART_TITLE = "Your weight in kg over %d record(s):";
+
+    public static String CALORIES_CHART_TITLE = "Your calories intake over %d day(s) with calories data:";
+
+    public static String NO_WEIGHT_CHART_MESSAGE = "You have no weight records to chart yet.";
+
+    public static String NO_CALORIES_CHART_MESSAGE = "You have no calories records to chart yet.";
+
+    public static String INVALID_CHART_TYPE_MESSAGE = "Chart type must be one of -- weight/calories.";
+
+    public static String WEIGHT_FORECAST_GOAL_REACHED_MESSAGE = "You have already reached your weight goal of %.2fkg!";
+
     public static String INCORRECT_CALORIES_INFO_MESSAGE =
             "Sorry, to add new food to database you must input correct calories info."
                     + System.lineSeparator() + "It has to be positive Integer or Float";
@@ -123,13 +192,44 @@ public class MessageBank {
 
     public static String FOOD_DELETED_MESSAGE = "You have just deleted this food from the database: ";
 
+    public static String FOOD_FOUND_MESSAGE = "These are the foods in our database starting with: ";
+
+    public static String NO_FOOD_FOUND_MESSAGE = "Sorry, no food in our database starts with: ";
+
+    public static String MORE_FOOD_FOUND_MESSAGE = "Only the first %d foods are shown. "
+            + "Type more of the name to narrow down the search.";
+
     public static String INCORRECT_PARAMS_TO_BUILD_RECIPE_MESSAGE = "You have given wrong format for parameters!!!\n"
             + "First parameter is maximum food types, need to provide an integer.\n"
-            + "Second parameter is activity level, choose from -- low/moderate/high.";
+            + "Second parameter is activity level, choose from -- low/moderate/high.\n"
+            + "Optionally end with seed/SEED, where SEED is an integer, to get the same recipe again.";
+
+    public static String RECIPE_SEED_MESSAGE = "Recipe seed: %1$d "
+            + "(add seed/%1$d to the command to get this recipe again)\n";
 
     public static String EXCEEDS_MAX_FOOD_TYPES_MESSAGE = "We support at most 3 kinds of food in a meal, "
             + "otherwise it's easy to overtake calories and not good for your health!\n\n";
 
+    public static String INCORRECT_PARAMS_TO_BUILD_PLAN_MESSAGE = "You have given wrong format for parameters!!!\n"
+            + "First parameter is the number of weeks, need to provide an integer from 1 to 52.\n"
+            + "Second parameter is activity level, choose from -- low/moderate/high.\n"
+            + "Optionally end with seed/SEED, where SEED is an integer, to get the same plan again.";
+
+    public static String PLAN_HEADER_MESSAGE = "Meal plan of %1$d week(s) for a daily target of %2$.2fcal.\n"
+            + "Plan seed: %3$d (add seed/%3$d to the command to get this plan again)\n";
+
+    public static String PLAN_WEEK_MESSAGE = "\nWeek %d\n";
+
+    public static String PLAN_DEVIATION_MESSAGE = "\nEach day is on average %.2fcal away from the daily target.\n";
+
+    public static String PLAN_VIOLATIONS_MESSAGE = "%d variety rule(s) could not be kept with the foods "
+            + "in the database: no food more than 3 times a week, and no food in two meals in a row.\n";
+
+    public static String PLAN_TOO_FEW_FOODS_MESSAGE = "The variety rules leave too few foods in the database "
+            + "to reach the daily target. Add more foods with addf to get closer.\n";
+
+    public static String PLAN_NO_FOOD_MESSAGE = "There is no food with calories data in the database to plan with.";
+
     public static String CHECK_REQUIRED_CAL_COMMAND_PROMPT = "check-required-cal";
 
     public static final String FUNCTION_LIST =
@@ -157,6 +257,10 @@ public class MessageBank {
                     + "  Delete weight from the weight progress list   |\n"
                     + "|   set-weight-goal WEIGHT_GOAL                              |"
                     + "  Set the user's new weight goal                |\n"
+                    + "|   weight-forecast                                          |"
+                    + "  Project when the weight goal will be reached  |\n"
+                    + "|   chart CHART_TYPE                                         |"
+                    + "  Chart weight or calories history over time    |\n"
                     + "|   check-bmi                                                |"
                     + "  Show user's BMI and BMI table                 |\n"
                     + "|   record-meal DATE TIME_PERIOD /FOOD_NAME -- CALORIE       |"
@@ -173,12 +277,18 @@ public class MessageBank {
                     + "  Add new food info into database               |\n"
                     + "|   delf FOOD_NAME                                           |"
                     + "  Delete food info from database                |\n"
-                    + "|   new-recipe MAXIMUM_FOOD_TYPES ACTIVITY_LEVEL             |"
-                    + "  Randomly recommend recipe from database       |\n"
+                    + "|   search-food PREFIX                                       |"
+                    + "  Search foods in database by start of name     |\n"
+                    + "|   new-recipe MAXIMUM_FOOD_TYPES ACTIVITY_LEVEL [seed/SEED] |"
+                    + "  Recommend recipe closest to calories need     |\n"
+                    + "|   new-plan WEEKS ACTIVITY_LEVEL [seed/SEED]                |"
+                    + "  Plan meals of several weeks with variety      |\n"
                     + "|   show-recipe                                              |"
                     + "  Show recommended recipe to user               |\n"
                     + "|   check-required-cal DATE ACTIVITY_LEVEL                   |"
                     + "  Check amount of calories required/day         |\n"
+                    + "|   trend ACTIVITY_LEVEL                                     |"
+                    + "  Show 7/30/90-day calorie trend and streak     |\n"
                     + "|   clear-records                                            |"
                     + "  Clear the records in the database             |\n"
                     + "|   help                                                     |"
@@ -188,7 +298,7 @@ public class MessageBank {
                     + "|____________________________________________________________|"
                     + "________________________________________________|\n"
                     + "Syntax Guidelines:\n"
-                    + "DATE: (eg: MONDAY, monday)   TIME_PERIOD: (eg: morning, afternoon, night)\n"
+                    + "DATE: (eg: MONDAY, monday, 2020-04-06)   TIME_PERIOD: (eg: morning, afternoon, night)\n"
                     + "Commands are case in-sensitive. You can refer to the UserGuide for more in-depth tutorial\n"
                     + "\nPlease key in your command:\n";
 
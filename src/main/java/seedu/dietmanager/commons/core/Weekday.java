@@ -1,10 +1,23 @@
 package seedu.dietmanager.commons.core;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
 public enum Weekday {
     MONDAY(1, "MONDAY"), TUESDAY(2, "TUESDAY"), WEDNESDAY(3, "WEDNESDAY"),
     THURSDAY(4, "THURSDAY"), FRIDAY(5, "FRIDAY"), SATURDAY(6, "SATURDAY"),
     SUNDAY(7, "SUNDAY");
 
+    private static final Map<String, Weekday> WEEKDAYS_BY_NAME = new HashMap<>();
+
+    static {
+        for (Weekday weekday : values()) {
+            WEEKDAYS_BY_NAME.put(weekday.name, weekday);
+        }
+    }
+
     private int index;
     private String name;
 
@@ -20,4 +33,20 @@ public enum Weekday {
     public String getName() {
         return this.name;
     }
+
+    /**
+     * Finds the weekday of a name, ignoring case. <br>
+     * A name in upper case is found with a single hash lookup, without case-folding or exceptions.
+     *
+     * @param name the name of the weekday.
+     * @return the weekday of the name, or empty if the name is not a weekday.
+     */
+
+    public static Optional<Weekday> findWeekday(String name) {
+        Weekday weekday = WEEKDAYS_BY_NAME.get(name);
+        if (weekday == null) {
+            weekday = WEEKDAYS_BY_NAME.get(name.toUpperCase(Locale.ROOT));
+        }
+        return Optional.ofNullable(weekday);
+    }
 }
@@ -0,0 +1,4 @@
+package seedu.dietmanager.commons.exceptions;
+
+public class InvalidDateException extends Exception {
+}
@@ -1,73 +1,160 @@
 package seedu.dietmanager.logic;
 
 import seedu.dietmanager.commons.core.LogsCentre;
+import seedu.dietmanager.commons.core.MessageBank;
 import seedu.dietmanager.commons.exceptions.InvalidCommandException;
 import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.logic.commands.Command;
 import seedu.dietmanager.logic.parser.CommandParser;
 import seedu.dietmanager.model.FoodNutritionRecord;
 import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.model.RecipePlanCache;
 import seedu.dietmanager.storage.Storage;
+import seedu.dietmanager.storage.WriteBehindWriter;
 import seedu.dietmanager.ui.UI;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
- * AppManager is the public class responsible for running and handling the logic flow of the application.
+ * AppManager is the public class responsible for running and handling the logic flow of the application. <br>
+ * Each AppManager is one session: it owns its profile, recipe, food database and data directory, and talks to
+ * the user through its own input and output streams, so many sessions can run at once in the same process.
  */
 
 public class AppManager {
 
+    /**
+     * The directory of the data files of the application launched from the command line.
+     */
+
+    private static final Path DEFAULT_DATA_DIRECTORY = Paths.get("data");
+
     /**
      * LogsCentre handles the recording of logs for the application.
      */
 
-    private static LogsCentre logsCentre;
+    private final LogsCentre logsCentre;
 
     /**
      * FoodNutritionRecord handles the storing of food nutritional information.
      */
 
-    private static FoodNutritionRecord foodNutritionRecord;
+    private final FoodNutritionRecord foodNutritionRecord;
 
     /**
      * Profile stores all user-related information.
      */
 
-    private static Profile profile;
+    private final Profile profile;
 
     /**
      * UI handles all user-interface-based functions.
      */
 
-    private static UI ui;
+    private final UI ui;
 
     /**
      * Storage handles all storage-based functions.
      */
 
-    private static Storage storage;
+    private final Storage storage;
+
+    /**
+     * Constructs a session by initialising the required objects and loading its data files. <br>
+     * The log centre may be shared by sessions running at the same time.
+     *
+     * @param dataDirectory the directory of the data files of the session, created if it does not exist.
+     * @param in            the stream of user input.
+     * @param out           the stream the messages are printed to.
+     * @param logsCentre    the object recording the logs.
+     */
+
+    public AppManager(Path dataDirectory, InputStream in, PrintStream out, LogsCentre logsCentre) {
+        this(dataDirectory, in, out, logsCentre, new FoodNutritionRecord(), null);
+    }
+
+    /**
+     * Constructs a session using a food database, which is loaded from and saved to the data directory unless
+     * it is shared with other sessions, and a writer of the data files shared with other sessions.
+     *
+     * @param dataDirectory       the directory of the data files of the session, created if it does not exist.
+     * @param in                  the stream of user input.
+     * @param out                 the stream the messages are printed to.
+     * @param logsCentre          the object recording the logs.
+     * @param foodNutritionRecord the food database of the session.
+     * @param writer              the writer of the data files, or {@code null} for a writer of the session's own.
+     */
+
+    public AppManager(Path dataDirectory, InputStream in, PrintStream out, LogsCentre logsCentre,
+            FoodNutritionRecord foodNutritionRecord, WriteBehindWriter writer) {
+        this.ui = new UI(in, out);
+        this.logsCentre = logsCentre;
+        this.foodNutritionRecord = foodNutritionRecord;
+        this.profile = new Profile(foodNutritionRecord);
+        this.storage = new Storage(ui, logsCentre, profile, foodNutritionRecord, dataDirectory, writer);
+
+        testAssertions();
+    }
 
     /**
      * Launches the application by initialising the required objects and running the application.
      */
 
     public static void launch() {
-        initialiseApplication();
-        runApplication();
+        new AppManager(DEFAULT_DATA_DIRECTORY, System.in, System.out, new LogsCentre()).run();
     }
 
     /**
-     * Runs the application by handling the logic flow and user inputs.
+     * Launches the application without user interaction, running the commands of a script.
+     *
+     * @param script        the file of commands, one per line.
+     * @param flushInterval the number of commands after which changes are saved, or 0 to save them only at the end.
      */
 
-    private static void runApplication() {
+    public static void launchBatch(Path script, int flushInterval) {
+        new AppManager(DEFAULT_DATA_DIRECTORY, System.in, System.out, new LogsCentre()).runBatch(script,
+                flushInterval);
+    }
+
+    /**
+     * Launches the application as a server, running a session for each user connecting to a local TCP port
+     * until the process is stopped.
+     *
+     * @param port the port to listen on, or 0 for any free port.
+     */
+
+    public static void launchServer(int port) {
+        UI ui = new UI();
+        try {
+            SessionServer server = new SessionServer(DEFAULT_DATA_DIRECTORY, port, ui, new LogsCentre());
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "server-shutdown"));
+            server.serve();
+        } catch (IOException e) {
+            ui.showMessage(String.format(MessageBank.SERVER_PORT_ERROR_MESSAGE, port));
+        }
+    }
+
+    /**
+     * Runs the session by handling the logic flow and user inputs, until the user exits or the input ends.
+     */
+
+    public void run() {
 
         logsCentre.logExecuteProgramme();
         ui.displayWelcomeMessage();
         ui.displayHelpMenu();
 
-        while (!ui.isExitStatus()) {
+        while (!ui.isExitStatus() && ui.hasInput()) {
             try {
                 String userInput = ui.readInput();
                 Optional<Command> command = CommandParser.parseInput(userInput);
@@ -88,31 +175,90 @@ public class AppManager {
             } catch (IndexOutOfBoundsException e) {
                 ui.displayIndexOutOfBoundMessage();
             }
-            if (profile.isProfileExist()) {
-                storage.writeProfileFile();
-                storage.writeRecipeFile();
-                storage.writeFoodRecordFile();
-            }
-            storage.writeFoodNutritionRecordFile();
+            storage.saveChanges();
         }
 
+        storage.close();
+        RecipePlanCache planCache = profile.getRecipeManager().getPlanCache();
+        logsCentre.writeFineLog(String.format("Recipe plan cache: %d hit(s), %d miss(es)",
+                planCache.getHitCount(), planCache.getMissCount()));
         ui.displayExitMessage();
         logsCentre.logExitProgramme();
     }
 
     /**
-     * Initialises the application by creating the relevant objects and checking application status.
+     * Runs the commands of a script line by line, skipping blank lines and lines starting with {@code #}. <br>
+     * Neither the banner, the help menu nor the result of each command is shown. Changes are kept in memory and
+     * saved once at the end, or every number of commands, instead of after every command. A summary of the run
+     * gives its throughput and the lines whose command failed.
+     *
+     * @param script        the file of commands, one per line.
+     * @param flushInterval the number of commands after which changes are saved, or 0 to save them only at the end.
      */
 
-    private static void initialiseApplication() {
+    public void runBatch(Path script, int flushInterval) {
+        logsCentre.logExecuteProgramme();
+        long startTime = System.nanoTime();
+        int lineNumber = 0;
+        int commandCount = 0;
+        List<Integer> failedLines = new ArrayList<>();
 
-        ui = new UI();
-        logsCentre = new LogsCentre();
-        profile = new Profile();
-        foodNutritionRecord = FoodNutritionRecord.getInstance();
-        storage = new Storage(ui, logsCentre, profile, foodNutritionRecord);
+        try (BufferedReader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null && !ui.isExitStatus()) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (!trimmedLine.isEmpty() && !trimmedLine.startsWith("#")) {
+                    commandCount++;
+                    if (!runBatchCommand(trimmedLine)) {
+                        failedLines.add(lineNumber);
+                    }
+                    if (flushInterval > 0 && commandCount % flushInterval == 0) {
+                        storage.saveChanges();
+                    }
+                }
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            ui.showMessage(String.format(MessageBank.BATCH_FILE_ERROR_MESSAGE, script));
+        }
 
-        testAssertions();
+        storage.close();
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        ui.showMessage(String.format(MessageBank.BATCH_SUMMARY_MESSAGE, commandCount, lineNumber, seconds,
+                commandCount / seconds));
+        if (failedLines.isEmpty()) {
+            ui.showMessage(MessageBank.BATCH_NO_FAILURE_MESSAGE);
+        } else {
+            StringBuilder lineNumbers = new StringBuilder();
+            for (int failedLine : failedLines) {
+                lineNumbers.append(lineNumbers.length() == 0 ? "" : ", ").append(failedLine);
+            }
+            ui.showMessage(String.format(MessageBank.BATCH_FAILED_LINES_MESSAGE, failedLines.size(), lineNumbers));
+        }
+        logsCentre.logExitProgramme();
+    }
+
+    /**
+     * Runs one command of a script without showing its result.
+     *
+     * @param input the command.
+     * @return true if the command succeeded, false if it is invalid, needs a profile that does not exist, or
+     *         reports a problem with its description.
+     */
+
+    private boolean runBatchCommand(String input) {
+        try {
+            Optional<Command> command = CommandParser.parseInput(input);
+            if (command.isEmpty() || !isCommandValid(command.get())) {
+                return false;
+            }
+            command.get().execute(profile, ui);
+            return command.get().isSuccessful();
+        } catch (InvalidFormatException | NumberFormatException | InvalidCommandException
+                | IndexOutOfBoundsException e) {
+            return false;
+        }
     }
 
     /**
@@ -121,7 +267,7 @@ public class AppManager {
      * @return validity of Command being executed.
      */
 
-    private static boolean isCommandValid(Command command) {
+    private boolean isCommandValid(Command command) {
         if (profile.isProfileExist() || command.getCommand().equals("set-profile")
                 || command.getCommand().equals("help") || command.getCommand().equals("exit")) {
             return true;
@@ -134,7 +280,7 @@ public class AppManager {
      * Assertion testing for the program before running.
      */
 
-    private static void testAssertions() {
+    private void testAssertions() {
         assert (!ui.isExitStatus());
     }
 
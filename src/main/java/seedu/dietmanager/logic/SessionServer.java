@@ -0,0 +1,289 @@
+package seedu.dietmanager.logic;
+
+import seedu.dietmanager.commons.core.LogsCentre;
+import seedu.dietmanager.commons.core.MessageBank;
+import seedu.dietmanager.commons.exceptions.InvalidCaloriesException;
+import seedu.dietmanager.commons.exceptions.InvalidFoodNameException;
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+import seedu.dietmanager.model.FoodNutritionRecord;
+import seedu.dietmanager.model.SharedFoodNutritionRecord;
+import seedu.dietmanager.storage.FoodNutritionLoader;
+import seedu.dietmanager.storage.Storage;
+import seedu.dietmanager.storage.WriteBehindWriter;
+import seedu.dietmanager.ui.UI;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * SessionServer is the public class serving Diet Manager sessions to users connecting to a local TCP port. <br>
+ * A connection starts with the user ID of the user, followed by the same command lines as the terminal, one
+ * per line. Each connection runs an {@code AppManager} session of its own on its own thread, with the data files
+ * of the user in {@code users/USER_ID} of the data directory. A user can only be connected once at a time. All
+ * sessions share one food database, saved by the server in the data directory, which they read without locking.
+ */
+
+public class SessionServer implements Closeable {
+
+    private static final Pattern USER_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,32}");
+
+    /**
+     * The number of bytes read for the user ID before the line is taken as too long.
+     */
+
+    private static final int MAX_USER_ID_LINE_LENGTH = 64;
+
+    /**
+     * The number of connections waiting to be accepted, so that thousands of users can connect at once.
+     */
+
+    private static final int CONNECTION_BACKLOG = 4096;
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final Path usersDirectory;
+
+    private final Path foodNutritionRecordPath;
+
+    private final UI ui;
+
+    private final LogsCentre logsCentre;
+
+    private final SharedFoodNutritionRecord foodNutritionRecord;
+
+    /**
+     * Writes the shared food database and the data files of every session in the background, on one thread
+     * for all sessions.
+     */
+
+    private final WriteBehindWriter writer;
+
+    private final ServerSocket serverSocket;
+
+    /**
+     * Runs each connection on a thread of its own.
+     */
+
+    private final ExecutorService connectionExecutor;
+
+    private final Set<String> connectedUserIds = ConcurrentHashMap.newKeySet();
+
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean isClosed = new AtomicBoolean(false);
+
+    /**
+     * Constructs the server, loading the shared food database and listening on a port of the loopback address.
+     *
+     * @param dataDirectory the directory of the shared food database and of the data files of every user.
+     * @param port          the port to listen on, or 0 for any free port.
+     * @param ui            the object showing messages of the server.
+     * @param logsCentre    the object recording the logs, shared by all sessions.
+     * @throws IOException if the data directory cannot be created or the port cannot be listened on.
+     */
+
+    public SessionServer(Path dataDirectory, int port, UI ui, LogsCentre logsCentre) throws IOException {
+        this.usersDirectory = dataDirectory.resolve("users");
+        this.foodNutritionRecordPath = dataDirectory.resolve("food-nutrition-record.txt");
+        this.ui = ui;
+        this.logsCentre = logsCentre;
+        Files.createDirectories(usersDirectory);
+        this.writer = new WriteBehindWriter(ui, logsCentre);
+        this.foodNutritionRecord = new SharedFoodNutritionRecord(this.loadFoodNutritionRecord(),
+                this::submitFoodNutritionRecord);
+        this.serverSocket = new ServerSocket(port, CONNECTION_BACKLOG, InetAddress.getLoopbackAddress());
+        this.connectionExecutor = newConnectionExecutor();
+    }
+
+    /**
+     * Returns an executor running each task on a new virtual thread if the Java runtime has them, or else on a
+     * cached pool of platform threads.
+     */
+
+    private static ExecutorService newConnectionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "session");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private FoodNutritionRecord loadFoodNutritionRecord() {
+        FoodNutritionRecord foods = new FoodNutritionRecord();
+        if (!Files.exists(foodNutritionRecordPath)) {
+            foods.setModified(true);
+            return foods;
+        }
+        try {
+            foods.setFoodNutritionRecordList(FoodNutritionLoader.load(foodNutritionRecordPath));
+            foods.setModified(false);
+            logsCentre.writeInfoLog("Existing Food Nutrition Record found: " + foodNutritionRecordPath.getFileName());
+        } catch (IOException | InvalidFormatException | InvalidCaloriesException e) {
+            logsCentre.writeWarningLog("Food Nutrition Record Information Invalid, default foods used.");
+            foods.setModified(true);
+        }
+        return foods;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public FoodNutritionRecord getFoodNutritionRecord() {
+        return this.foodNutritionRecord;
+    }
+
+    /**
+     * Accepts connections until the server is closed, running a session for each of them.
+     */
+
+    public void serve() {
+        ui.showMessage(String.format(MessageBank.SERVER_STARTED_MESSAGE,
+                serverSocket.getInetAddress().getHostAddress(), this.getPort()));
+        logsCentre.writeInfoLog("Server started on port " + this.getPort());
+        while (!isClosed.get()) {
+            try {
+                Socket socket = serverSocket.accept();
+                openSockets.add(socket);
+                try {
+                    connectionExecutor.execute(() -> this.runSession(socket));
+                } catch (RejectedExecutionException e) {
+                    openSockets.remove(socket);
+                    this.closeQuietly(socket);
+                }
+            } catch (IOException e) {
+                if (!isClosed.get()) {
+                    logsCentre.writeWarningLog("Error in accepting a connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the session of one connection, after reading and checking the user ID.
+     */
+
+    private void runSession(Socket socket) {
+        try {
+            InputStream in = socket.getInputStream();
+            PrintStream out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            out.println(MessageBank.USER_ID_PROMPT);
+            String userId = readLine(in);
+            if (userId == null || !USER_ID_PATTERN.matcher(userId).matches()) {
+                out.println(MessageBank.INVALID_USER_ID_MESSAGE);
+                return;
+            }
+            if (!connectedUserIds.add(userId)) {
+                out.println(String.format(MessageBank.USER_CONNECTED_MESSAGE, userId));
+                return;
+            }
+            try {
+                new AppManager(usersDirectory.resolve(userId), in, out, logsCentre, foodNutritionRecord,
+                        writer).run();
+            } finally {
+                connectedUserIds.remove(userId);
+            }
+        } catch (IOException e) {
+            logsCentre.writeWarningLog("Connection closed: " + e.getMessage());
+        } catch (RuntimeException e) {
+            logsCentre.writeSevereLog("Session failed: " + e);
+        } finally {
+            openSockets.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    private void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logsCentre.writeWarningLog("Error in closing a connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads one line byte by byte, so that nothing after it is taken from the stream.
+     *
+     * @return the trimmed line, or null if the stream ends first or the line is too long.
+     */
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int nextByte = in.read();
+        while (nextByte != -1 && nextByte != '\n') {
+            if (line.size() >= MAX_USER_ID_LINE_LENGTH) {
+                return null;
+            }
+            line.write(nextByte);
+            nextByte = in.read();
+        }
+        if (nextByte == -1 && line.size() == 0) {
+            return null;
+        }
+        return line.toString(StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Queues a database published by the shared food database to be written. The shared food database calls it
+     * after each command that changes it, in the order the databases were published, so an older database never
+     * overwrites a newer one.
+     */
+
+    private void submitFoodNutritionRecord(FoodNutritionRecord foods) {
+        try {
+            writer.submit(foodNutritionRecordPath, Storage.toFoodNutritionRecordData(foods));
+        } catch (InvalidFoodNameException e) {
+            logsCentre.writeSevereLog("Error in writing the shared Food Nutrition Record");
+        }
+    }
+
+    /**
+     * Stops accepting connections, ends every session after saving its data, and saves the shared food database.
+     */
+
+    @Override
+    public void close() {
+        if (!isClosed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logsCentre.writeWarningLog("Error in closing the server: " + e.getMessage());
+        }
+        for (Socket socket : openSockets) {
+            this.closeQuietly(socket);
+        }
+        connectionExecutor.shutdown();
+        try {
+            connectionExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        foodNutritionRecord.save();
+        writer.close();
+        logsCentre.writeInfoLog("Server stopped");
+    }
+
+}
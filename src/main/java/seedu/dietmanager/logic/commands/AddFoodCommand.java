@@ -4,6 +4,7 @@ import seedu.dietmanager.commons.core.MessageBank;
 import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.logic.Result;
 import seedu.dietmanager.logic.parser.DescriptionParser;
+import seedu.dietmanager.logic.parser.Tokenizer;
 import seedu.dietmanager.model.FoodNutritionRecord;
 import seedu.dietmanager.model.Profile;
 import seedu.dietmanager.ui.UI;
@@ -29,9 +30,13 @@ public class AddFoodCommand extends Command {
 
         try {
             String[] descriptionArray = DescriptionParser.parseDescription(description, ARGUMENTS_REQUIRED);
-            String[] foodDescription = descriptionArray[0].split("--");
-            this.foodName = foodDescription[0].trim().toLowerCase();
-            this.calories = Double.parseDouble(foodDescription[1].trim());
+            Tokenizer foodDescription = new Tokenizer(descriptionArray[0]);
+            foodDescription.nextPart("--");
+            this.foodName = foodDescription.trimmedToken().toLowerCase();
+            if (!foodDescription.nextPart("--")) {
+                throw new NumberFormatException();
+            }
+            this.calories = Double.parseDouble(foodDescription.trimmedToken());
             if (this.calories <= 0) {
                 throw new NumberFormatException();
             }
@@ -46,7 +51,7 @@ public class AddFoodCommand extends Command {
     @Override
     public Result execute(Profile profile, UI ui) {
         if (!this.noDescription && !this.isInvalidCaloriesInfo) {
-            FoodNutritionRecord foodInfo = FoodNutritionRecord.getInstance();
+            FoodNutritionRecord foodInfo = profile.getFoodNutritionRecord();
             this.success = foodInfo.addFoodNutritionRecord(foodName, calories);
         }
         Result result = getResult(profile);
@@ -67,4 +72,9 @@ public class AddFoodCommand extends Command {
         }
         return new Result(this.resultString);
     }
+
+    @Override
+    public boolean isSuccessful() {
+        return !this.noDescription && !this.isInvalidCaloriesInfo && this.success;
+    }
 }
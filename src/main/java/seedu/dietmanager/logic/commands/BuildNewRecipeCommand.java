@@ -5,6 +5,8 @@ import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.commons.exceptions.NegativeNumberException;
 import seedu.dietmanager.logic.Result;
 import seedu.dietmanager.logic.parser.DescriptionParser;
+import seedu.dietmanager.logic.parser.SeedParser;
+import seedu.dietmanager.logic.parser.Tokenizer;
 import seedu.dietmanager.model.Profile;
 import seedu.dietmanager.model.RecipeManager;
 import seedu.dietmanager.ui.UI;
@@ -19,6 +21,7 @@ public class BuildNewRecipeCommand extends Command {
 
     private String activityLevel;
     private int maxFoodNum;
+    private long seed;
 
     /**
      * Constructs the command object.
@@ -38,7 +41,18 @@ public class BuildNewRecipeCommand extends Command {
             String[] descriptionArray = DescriptionParser.parseDescription(description, ARGUMENTS_REQUIRED);
 
             this.maxFoodNum = Integer.parseInt(descriptionArray[0].trim());
-            this.activityLevel = descriptionArray[1].trim().toLowerCase();
+            Tokenizer levelAndSeed = new Tokenizer(descriptionArray[1]);
+            levelAndSeed.nextToken();
+            this.activityLevel = levelAndSeed.token().toLowerCase();
+
+            try {
+                this.seed = SeedParser.parseOptionalSeed(levelAndSeed);
+            } catch (InvalidFormatException e) {
+                isInvalidFormat = true;
+            }
+            if (levelAndSeed.hasMore()) {
+                isInvalidFormat = true;
+            }
 
             switch (activityLevel) {
             case "low":
@@ -67,8 +81,8 @@ public class BuildNewRecipeCommand extends Command {
             noProfileFound = true;
         }
         if (!noDescription && !isInvalidFormat & !noProfileFound) {
-            RecipeManager manager = RecipeManager.getInstance();
-            maxNumOverflow = manager.buildRecipe(profile, maxFoodNum, activityLevel);
+            RecipeManager manager = profile.getRecipeManager();
+            maxNumOverflow = manager.buildRecipe(profile, maxFoodNum, activityLevel, seed);
         }
         Result result = getResult(profile);
         return result;
@@ -88,8 +102,14 @@ public class BuildNewRecipeCommand extends Command {
             if (maxNumOverflow) {
                 this.resultString = MessageBank.EXCEEDS_MAX_FOOD_TYPES_MESSAGE;
             }
-            this.resultString += RecipeManager.getInstance().getRecipe();
+            this.resultString += String.format(MessageBank.RECIPE_SEED_MESSAGE, seed);
+            this.resultString += profile.getRecipeManager().getRecipe();
         }
         return new Result(this.resultString);
     }
+
+    @Override
+    public boolean isSuccessful() {
+        return !noDescription && !noProfileFound && !isInvalidFormat;
+    }
 }
@@ -2,13 +2,19 @@ package seedu.dietmanager.logic.commands;
 
 import seedu.dietmanager.commons.core.MessageBank;
 import seedu.dietmanager.commons.core.Weekday;
+import seedu.dietmanager.commons.exceptions.InvalidDateException;
 import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.logic.Result;
+import seedu.dietmanager.logic.parser.DateParser;
 import seedu.dietmanager.logic.parser.DescriptionParser;
-import seedu.dietmanager.model.DailyFoodRecord;
+import seedu.dietmanager.logic.parser.Tokenizer;
+import seedu.dietmanager.model.CaloriesSummary;
 import seedu.dietmanager.model.Profile;
 import seedu.dietmanager.ui.UI;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+
 public class CalculateCaloriesCommand extends Command {
 
     private static final int ARGUMENTS_REQUIRED = 1;
@@ -39,6 +45,14 @@ public class CalculateCaloriesCommand extends Command {
 
     private boolean isCircle = false;
 
+    private boolean isInvalidRange = false;
+
+    /**
+     * Calories intake of each day during the queried time period.
+     */
+
+    private CaloriesSummary summary;
+
     /**
      * Constructs the Command object.
      *
@@ -55,27 +69,25 @@ public class CalculateCaloriesCommand extends Command {
 
         try {
             String[] descriptionArray = DescriptionParser.parseDescription(description, ARGUMENTS_REQUIRED);
-            String[] timeDescription = descriptionArray[0].split("->");
+            Tokenizer timeDescription = new Tokenizer(descriptionArray[0]);
 
-            this.begin = timeDescription[0].trim().toUpperCase();
-            Weekday.valueOf(this.begin);
+            timeDescription.nextPart("->");
+            this.begin = timeDescription.trimmedToken().toUpperCase();
+            DateParser.parseDate(this.begin, LocalDate.now());
 
-            switch (timeDescription.length) {
-            case 1:
+            if (!timeDescription.nextPart("->")) {
                 isOneDay = true;
-                break;
-            case 2:
-                this.end = timeDescription[1].trim().toUpperCase();
-                Weekday.valueOf(this.end);
-                isOneDay = false;
-                break;
-            default:
+            } else {
+                this.end = timeDescription.trimmedToken().toUpperCase();
+                DateParser.parseDate(this.end, LocalDate.now());
                 isOneDay = false;
-                break;
+                if (timeDescription.nextPart("->")) {
+                    this.isInvalidDate = true;
+                }
             }
         } catch (NullPointerException e) {
             this.noDescription = true;
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | InvalidDateException e) {
             this.isInvalidDate = true;
         }
     }
@@ -93,40 +105,19 @@ public class CalculateCaloriesCommand extends Command {
         if (this.noDescription | this.isInvalidDate) {
             Result result = getResult(profile);
             return result;
-        } else if (this.isOneDay) {
-            DailyFoodRecord record = profile.getRecordOfDay(this.begin);
-
-            if (record.getDailyCalories().isPresent()) {
-                assert record.getDailyCalories().isPresent();
-                sum += record.getDailyCalories().get();
-            }
-        } else {
-            Weekday firstDay;
-            Weekday lastDay;
-            DailyFoodRecord curRecord;
-
-            firstDay = Weekday.valueOf(this.begin);
-            lastDay = Weekday.valueOf(this.end);
-
-            if (lastDay.getIndex() < firstDay.getIndex()) {
-                lastDay = Weekday.valueOf("SUNDAY");
+        }
+        LocalDate firstDay = profile.toDate(this.begin);
+        LocalDate lastDay = this.isOneDay ? firstDay : profile.toDate(this.end);
+        if (lastDay.isBefore(firstDay)) {
+            if (Weekday.findWeekday(this.begin).isPresent() && Weekday.findWeekday(this.end).isPresent()) {
+                lastDay = firstDay.with(ChronoField.DAY_OF_WEEK, Weekday.SUNDAY.getIndex());
                 isCircle = true;
-            }
-
-            for (Weekday day : Weekday.values()) {
-                int curIndex = day.getIndex();
-                if (curIndex >= firstDay.getIndex() && curIndex <= lastDay.getIndex()) {
-                    curRecord = profile.getRecordOfDay(day.getName());
-
-                    if (curRecord.getDailyCalories().isPresent()) {
-                        assert curRecord.getDailyCalories().isPresent();
-                        sum += curRecord.getDailyCalories().get();
-                    }
-                } else if (curIndex > lastDay.getIndex()) {
-                    break;
-                }
+            } else {
+                isInvalidRange = true;
             }
         }
+        this.summary = profile.getFoodRecordHistory().getCaloriesSummary(firstDay, lastDay);
+        sum += summary.getTotalCalories();
         Result result = getResult(profile);
         return result;
     }
@@ -144,6 +135,8 @@ public class CalculateCaloriesCommand extends Command {
             this.resultString = MessageBank.NO_DESCRIPTION_MESSAGE;
         } else if (this.isInvalidDate) {
             this.resultString = MessageBank.INVALID_DATE_MESSAGE;
+        } else if (this.isInvalidRange) {
+            this.resultString = MessageBank.INVALID_DATE_RANGE_MESSAGE;
         } else {
             if (isCircle) {
                 this.resultString = String.format("%s is ahead of %s, so only calories from %s to SUNDAY is calculated",
@@ -152,7 +145,17 @@ public class CalculateCaloriesCommand extends Command {
             } else {
                 this.resultString = MessageBank.CALCULATE_CALORIES_MESSAGE + String.format("%.2f.", sum);
             }
+            if (!this.isOneDay && summary.getDayCount() > 0) {
+                this.resultString += System.lineSeparator() + String.format(MessageBank.DAILY_CALORIES_SUMMARY_MESSAGE,
+                        summary.getDayCount(), summary.getAverageCalories(), summary.getMinCalories(),
+                        summary.getMaxCalories());
+            }
         }
         return new Result(this.resultString);
     }
+
+    @Override
+    public boolean isSuccessful() {
+        return !this.noDescription && !this.isInvalidDate && !this.isInvalidRange;
+    }
 }
@@ -0,0 +1,126 @@
+package seedu.dietmanager.logic.commands;
+
+import seedu.dietmanager.commons.core.MessageBank;
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+import seedu.dietmanager.logic.Result;
+import seedu.dietmanager.logic.parser.DescriptionParser;
+import seedu.dietmanager.model.DailyFoodRecord;
+import seedu.dietmanager.model.FoodRecordHistory;
+import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.model.WeightHistory;
+import seedu.dietmanager.ui.AsciiChart;
+import seedu.dietmanager.ui.UI;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.NavigableSet;
+
+public class ChartCommand extends Command {
+    private static final int ARGUMENTS_REQUIRED = 1;
+
+    private boolean noDescription;
+    private boolean isInvalidChartType;
+    private boolean noProfileFound;
+
+    private String chartType;
+
+    /**
+     * Constructs the command object.
+     *
+     * @param command     the command prompt entered by the user.
+     * @param description the description of the command.
+     * @throws InvalidFormatException if the command doesn't contain correct number of parameters.
+     */
+
+    public ChartCommand(String command, String description) throws InvalidFormatException {
+        super(command);
+        this.noDescription = false;
+        this.isInvalidChartType = false;
+        this.noProfileFound = false;
+
+        try {
+            String[] descriptionArray = DescriptionParser.parseDescription(description, ARGUMENTS_REQUIRED);
+            this.chartType = descriptionArray[0].trim().toLowerCase();
+
+            switch (chartType) {
+            case "weight":
+            case "calories":
+                break;
+            default:
+                isInvalidChartType = true;
+                break;
+            }
+        } catch (NullPointerException e) {
+            this.noDescription = true;
+        }
+    }
+
+    @Override
+    public Result execute(Profile profile, UI ui) {
+        if (!profile.isProfileExist()) {
+            noProfileFound = true;
+        }
+        Result result = getResult(profile);
+        return result;
+    }
+
+    @Override
+    public Result getResult(Profile profile) {
+        if (noDescription) {
+            this.resultString = MessageBank.NO_DESCRIPTION_MESSAGE;
+        } else if (noProfileFound) {
+            this.resultString = MessageBank.INVALID_PROFILE_MESSAGE;
+        } else if (isInvalidChartType) {
+            this.resultString = MessageBank.INVALID_CHART_TYPE_MESSAGE;
+        } else if (chartType.equals("weight")) {
+            this.resultString = drawWeightChart(profile.getWeightHistory());
+        } else {
+            this.resultString = drawCaloriesChart(profile.getFoodRecordHistory());
+        }
+        return new Result(this.resultString);
+    }
+
+    private String drawWeightChart(WeightHistory weightHistory) {
+        if (weightHistory.isEmpty()) {
+            return MessageBank.NO_WEIGHT_CHART_MESSAGE;
+        }
+        return AsciiChart.render(String.format(MessageBank.WEIGHT_CHART_TITLE, weightHistory.size()),
+                weightHistory.size(), weightHistory::getEpochDay, weightHistory::getWeight);
+    }
+
+    /**
+     * Draws the calories intake of every day with calories data, from the first month with records to the last.
+     *
+     * @param history the daily food records of the user.
+     * @return the chart, or a message if no day has calories data.
+     */
+
+    private String drawCaloriesChart(FoodRecordHistory history) {
+        NavigableSet<YearMonth> months = history.getMonths();
+        if (months.isEmpty()) {
+            return MessageBank.NO_CALORIES_CHART_MESSAGE;
+        }
+        List<DailyFoodRecord> records = history.getRecords(months.first().atDay(1), months.last().atEndOfMonth());
+        long[] epochDays = new long[records.size()];
+        double[] calories = new double[records.size()];
+        int dayCount = 0;
+        for (DailyFoodRecord record : records) {
+            if (record.hasCalculableCalories()) {
+                epochDays[dayCount] = LocalDate.parse(record.getDate()).toEpochDay();
+                calories[dayCount] = record.getCalculableCalories();
+                dayCount++;
+            }
+        }
+        if (dayCount == 0) {
+            return MessageBank.NO_CALORIES_CHART_MESSAGE;
+        }
+        return AsciiChart.render(String.format(MessageBank.CALORIES_CHART_TITLE, dayCount), dayCount,
+                index -> epochDays[index], index -> calories[index]);
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return !noDescription && !noProfileFound && !isInvalidChartType;
+    }
+}
@@ -5,16 +5,12 @@ import seedu.dietmanager.logic.Result;
 import seedu.dietmanager.model.Profile;
 import seedu.dietmanager.ui.UI;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static java.lang.Math.pow;
 
 public class CheckBmiCommand extends Command {
 
     private static final int ARGUMENTS_REQUIRED = 1;
     private String profileName;
-    private List<Double> weightRecord = new ArrayList<>();
     private double bmi;
     private double currentWeight;
     private double currentHeight;
@@ -33,7 +29,7 @@ public class CheckBmiCommand extends Command {
     @Override
     public Result execute(Profile profile, UI ui) {
         this.currentHeight = profile.getHeight();
-        this.currentWeight = profile.getWeightRecord().get(profile.getWeightRecord().size() - 1);
+        this.currentWeight = profile.getWeightHistory().getLatestWeight();
         bmi = currentWeight / pow((currentHeight / 100), 2);
         ui.showMessage(String.format(MessageBank.USER_BMI_MESSAGE, bmi));
         Result result = getResult(profile);
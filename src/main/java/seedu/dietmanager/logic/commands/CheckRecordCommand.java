@@ -1,14 +1,17 @@
 package seedu.dietmanager.logic.commands;
 
 import seedu.dietmanager.commons.core.MessageBank;
-import seedu.dietmanager.commons.core.Weekday;
+import seedu.dietmanager.commons.exceptions.InvalidDateException;
 import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.logic.Result;
+import seedu.dietmanager.logic.parser.DateParser;
 import seedu.dietmanager.logic.parser.DescriptionParser;
 import seedu.dietmanager.model.DailyFoodRecord;
 import seedu.dietmanager.model.Profile;
 import seedu.dietmanager.ui.UI;
 
+import java.time.LocalDate;
+
 public class CheckRecordCommand extends Command {
     private static final int ARGUMENTS_REQUIRED = 2;
     private String date;
@@ -32,10 +35,10 @@ public class CheckRecordCommand extends Command {
             String[] descriptionArray = DescriptionParser.parseDescription(description, ARGUMENTS_REQUIRED);
             this.date = descriptionArray[0].trim().toUpperCase();
             this.mealType = descriptionArray[1].trim().toLowerCase();
-            Weekday.valueOf(this.date);
+            DateParser.parseDate(this.date, LocalDate.now());
         } catch (NullPointerException e) {
             this.noDescription = true;
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | InvalidDateException e) {
             this.isInvalidDate = true;
         }
     }
@@ -77,4 +80,9 @@ public class CheckRecordCommand extends Command {
         }
         return new Result(this.resultString);
     }
+
+    @Override
+    public boolean isSuccessful() {
+        return !this.noDescription && !this.isInvalidDate;
+    }
 }
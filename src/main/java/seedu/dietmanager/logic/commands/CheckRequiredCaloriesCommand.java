@@ -1,14 +1,17 @@
 package seedu.dietmanager.logic.commands;
 
 import seedu.dietmanager.commons.core.MessageBank;
-import seedu.dietmanager.commons.core.Weekday;
+import seedu.dietmanager.commons.exceptions.InvalidDateException;
 import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.logic.Result;
+import seedu.dietmanager.logic.parser.DateParser;
 import seedu.dietmanager.logic.parser.DescriptionParser;
 import seedu.dietmanager.model.DailyFoodRecord;
 import seedu.dietmanager.model.Profile;
 import seedu.dietmanager.ui.UI;
 
+import java.time.LocalDate;
+
 public class CheckRequiredCaloriesCommand extends Command {
     private static final int ARGUMENTS_REQUIRED = 2;
     private String date;
@@ -34,10 +37,10 @@ public class CheckRequiredCaloriesCommand extends Command {
             String[] descriptionArray = DescriptionParser.parseDescription(description, ARGUMENTS_REQUIRED);
             this.date = descriptionArray[0].trim().toUpperCase();
             this.activityLevel = descriptionArray[1].toLowerCase();
-            Weekday.valueOf(this.date);
+            DateParser.parseDate(this.date, LocalDate.now());
         } catch (NullPointerException e) {
             noDescription = true;
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | InvalidDateException e) {
             isInvalidDate = true;
         }
     }
@@ -117,8 +120,8 @@ public class CheckRequiredCaloriesCommand extends Command {
                     + record.showDailyCalories()
                     + String.format("Calories requirement for %s activity level: ", activityLevel)
                     + String.format("%.2f", caloriesRequired) + "cal." + System.lineSeparator();
-            if (record.getDailyCalories().isPresent()) {
-                double caloriesIntake = record.getDailyCalories().get();
+            if (record.hasCalculableCalories()) {
+                double caloriesIntake = record.getCalculableCalories();
                 if (profile.getWeight() < profile.getWeightGoal() && caloriesIntake >= caloriesRequired) {
                     this.resultString = this.resultString + MessageBank.SUFFICIENT_CALORIES_MESSAGE;
                 }
@@ -142,4 +145,9 @@ public class CheckRequiredCaloriesCommand extends Command {
     public static void testAssertions(boolean isInValidCommand) {
         assert (!isInValidCommand);
     }
+
+    @Override
+    public boolean isSuccessful() {
+        return !noDescription && !noProfileFound && !isInvalidDate && !isInValidCommand;
+    }
 }
@@ -3,16 +3,14 @@ package seedu.dietmanager.logic.commands;
 import seedu.dietmanager.commons.core.MessageBank;
 import seedu.dietmanager.logic.Result;
 import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.model.WeightHistory;
 import seedu.dietmanager.ui.UI;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static java.lang.Math.abs;
 
 public class CheckWeightRecordCommand extends Command {
 
-    private List<Double> weightRecord = new ArrayList<>();
+    private WeightHistory weightHistory;
     private double initialWeight;
     private double currentWeight;
     private double weightDifference;
@@ -35,11 +33,13 @@ public class CheckWeightRecordCommand extends Command {
     public Result execute(Profile profile, UI ui) {
         testAssertions(isInValidCommand);
         this.weightGoal = profile.getWeightGoal();
-        weightRecord = profile.getWeightRecord();
-        ui.showMessage(MessageBank.CHECK_WEIGHT_RECORD_MESSAGE);
-        for (int i = 0; i < weightRecord.size(); i++) {
-            ui.showMessage(i + 1 + ". " + weightRecord.get(i) + "kg");
+        weightHistory = profile.getWeightHistory();
+        StringBuilder weightList = new StringBuilder(MessageBank.CHECK_WEIGHT_RECORD_MESSAGE);
+        for (int i = 0; i < weightHistory.size(); i++) {
+            weightList.append(System.lineSeparator()).append(i + 1).append(". ")
+                    .append(weightHistory.getWeight(i)).append("kg");
         }
+        ui.showMessage(weightList.toString());
 
         Result result = getResult(profile);
         return result;
@@ -48,8 +48,8 @@ public class CheckWeightRecordCommand extends Command {
     @Override
     public Result getResult(Profile profile) {
 
-        initialWeight = weightRecord.get(0);
-        currentWeight = weightRecord.get(weightRecord.size() - 1);
+        initialWeight = weightHistory.getWeight(0);
+        currentWeight = weightHistory.getLatestWeight();
         weightDifference = initialWeight - currentWeight;
         weightToGoal = weightGoal - currentWeight;
         checkWeightStatus();
@@ -64,4 +64,15 @@ public abstract class Command {
 
     public abstract Result execute(Profile profile, UI ui);
 
+    /**
+     * Returns whether the command did what was asked when it was last executed, instead of reporting a problem
+     * with its description or the profile.
+     *
+     * @return true if the command succeeded.
+     */
+
+    public boolean isSuccessful() {
+        return true;
+    }
+
 }
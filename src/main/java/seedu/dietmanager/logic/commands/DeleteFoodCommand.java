@@ -36,7 +36,7 @@ public class DeleteFoodCommand extends Command {
     @Override
     public Result execute(Profile profile, UI ui) {
         if (!this.noDescription) {
-            FoodNutritionRecord foodInfo = FoodNutritionRecord.getInstance();
+            FoodNutritionRecord foodInfo = profile.getFoodNutritionRecord();
             this.success = foodInfo.deleteFoodNutritionRecord(foodName);
         }
         Result result = getResult(profile);
@@ -54,5 +54,9 @@ public class DeleteFoodCommand extends Command {
         }
         return new Result(this.resultString);
     }
-}
 
+    @Override
+    public boolean isSuccessful() {
+        return !this.noDescription && this.success;
+    }
+}
@@ -36,8 +36,7 @@ public class DeleteWeightCommand extends Command {
     @Override
     public Result execute(Profile profile, UI ui) {
         if (!this.noDescription) {
-            weightDeleted = profile.getWeightRecord().get(index);
-            profile.getWeightRecord().remove(index);
+            weightDeleted = profile.removeWeight(index);
         }
         Result result = getResult(profile);
         return result;
@@ -53,4 +52,8 @@ public class DeleteWeightCommand extends Command {
         return new Result(this.resultString);
     }
 
+    @Override
+    public boolean isSuccessful() {
+        return !this.noDescription;
+    }
 }
@@ -1,13 +1,11 @@
 package seedu.dietmanager.logic.commands;
 
 import seedu.dietmanager.logic.Result;
-import seedu.dietmanager.model.FoodNutritionRecord;
 import seedu.dietmanager.model.Profile;
 import seedu.dietmanager.ui.UI;
 
 public class ListFoodDatabaseCommand extends Command {
     private static final int ARGUMENTS_REQUIRED = 0;
-    private FoodNutritionRecord foodNutritionRecord = FoodNutritionRecord.getInstance();
 
     /**
      * Constructs the Command object.
@@ -26,7 +24,7 @@ public class ListFoodDatabaseCommand extends Command {
 
     @Override
     public Result getResult(Profile profile) {
-        this.resultString = foodNutritionRecord.showFoodDatabase();
+        this.resultString = profile.getFoodNutritionRecord().showFoodDatabase();
         return new Result(this.resultString);
     }
 }
@@ -0,0 +1,204 @@
+package seedu.dietmanager.logic.commands;
+
+import seedu.dietmanager.commons.core.MessageBank;
+import seedu.dietmanager.commons.core.Weekday;
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+import seedu.dietmanager.commons.exceptions.NegativeNumberException;
+import seedu.dietmanager.logic.Result;
+import seedu.dietmanager.logic.parser.DescriptionParser;
+import seedu.dietmanager.logic.parser.SeedParser;
+import seedu.dietmanager.logic.parser.Tokenizer;
+import seedu.dietmanager.model.DailyFoodRecord;
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.FoodNutritionRecord;
+import seedu.dietmanager.model.PlanOptimizer;
+import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.ui.UI;
+
+import java.util.ArrayList;
+
+public class NewPlanCommand extends Command {
+    private static final int ARGUMENTS_REQUIRED = 2;
+    private static final int MAX_WEEKS = 52;
+    private static final int MAX_FOODS_PER_MEAL = 3;
+    private static final int MAX_TIMES_PER_WEEK = 3;
+    private static final double CLOSE_TO_TARGET_RATIO = 0.1;
+    private static final String[] MEAL_TYPES = {"morning", "afternoon", "night"};
+
+    private boolean noDescription;
+    private boolean isInvalidFormat;
+    private boolean noProfileFound;
+
+    private int weeks;
+    private String activityLevel;
+    private long seed;
+
+    private ArrayList<DailyFoodRecord> plannedDays = new ArrayList<>();
+    private double dailyTarget;
+    private double averageDeviation;
+    private int violationCount;
+
+    /**
+     * Constructs the command object.
+     *
+     * @param command     the command prompt entered by the user.
+     * @param description the description of the command.
+     * @throws InvalidFormatException if the command doesn't contain correct number of parameters.
+     */
+
+    public NewPlanCommand(String command, String description) throws InvalidFormatException {
+        super(command);
+        this.noDescription = false;
+        this.isInvalidFormat = false;
+        this.noProfileFound = false;
+
+        try {
+            String[] descriptionArray = DescriptionParser.parseDescription(description, ARGUMENTS_REQUIRED);
+
+            this.weeks = Integer.parseInt(descriptionArray[0].trim());
+            Tokenizer levelAndSeed = new Tokenizer(descriptionArray[1]);
+            levelAndSeed.nextToken();
+            this.activityLevel = levelAndSeed.token().toLowerCase();
+
+            try {
+                this.seed = SeedParser.parseOptionalSeed(levelAndSeed);
+            } catch (InvalidFormatException e) {
+                isInvalidFormat = true;
+            }
+            if (levelAndSeed.hasMore()) {
+                isInvalidFormat = true;
+            }
+
+            switch (activityLevel) {
+            case "low":
+            case "high":
+            case "moderate":
+                break;
+            default:
+                isInvalidFormat = true;
+                break;
+            }
+
+            if (weeks <= 0) {
+                throw new NegativeNumberException();
+            }
+            if (weeks > MAX_WEEKS) {
+                isInvalidFormat = true;
+            }
+
+        } catch (NullPointerException e) {
+            this.noDescription = true;
+        } catch (NumberFormatException | NegativeNumberException e) {
+            this.isInvalidFormat = true;
+        }
+    }
+
+    @Override
+    public Result execute(Profile profile, UI ui) {
+        if (!profile.isProfileExist()) {
+            noProfileFound = true;
+        }
+        if (!noDescription && !isInvalidFormat && !noProfileFound) {
+            buildPlan(profile);
+        }
+        Result result = getResult(profile);
+        return result;
+    }
+
+    @Override
+    public Result getResult(Profile profile) {
+        if (noDescription) {
+            this.resultString = MessageBank.NO_DESCRIPTION_MESSAGE;
+        } else if (noProfileFound) {
+            this.resultString = MessageBank.INVALID_PROFILE_MESSAGE;
+        } else if (isInvalidFormat) {
+            this.resultString = MessageBank.INCORRECT_PARAMS_TO_BUILD_PLAN_MESSAGE;
+        } else if (plannedDays.isEmpty()) {
+            this.resultString = MessageBank.PLAN_NO_FOOD_MESSAGE;
+        } else {
+            this.resultString = showPlan(profile);
+        }
+        return new Result(this.resultString);
+    }
+
+    /**
+     * Plans the meals of every week for the daily calories the user requires. No plan is built if no food of the
+     * database has calories data.
+     *
+     * @param profile the profile of the user.
+     */
+
+    private void buildPlan(Profile profile) {
+        FoodNutritionRecord foodInfo = profile.getFoodNutritionRecord().getSnapshot();
+        this.plannedDays = new ArrayList<>();
+        int foodCount = foodInfo.getListSize();
+        boolean[] hasCalories = new boolean[foodCount];
+        double[] calories = new double[foodCount];
+        boolean hasAnyCalories = false;
+        for (int food = 0; food < foodCount; food++) {
+            hasCalories[food] = foodInfo.hasCaloriesData(food);
+            calories[food] = hasCalories[food] ? foodInfo.getFoodCalories(food) : 0;
+            hasAnyCalories |= hasCalories[food];
+        }
+        if (!hasAnyCalories) {
+            return;
+        }
+
+        CheckRequiredCaloriesCommand command =
+                new CheckRequiredCaloriesCommand(MessageBank.CHECK_REQUIRED_CAL_COMMAND_PROMPT);
+        this.dailyTarget = command.getRecommendedCaloriesIntake(profile, activityLevel);
+        PlanOptimizer optimizer = new PlanOptimizer(weeks, dailyTarget, MAX_FOODS_PER_MEAL, MAX_TIMES_PER_WEEK,
+                hasCalories, calories);
+        optimizer.optimize(seed);
+
+        double totalDeviation = 0;
+        Weekday[] weekdays = Weekday.values();
+        for (int day = 0; day < optimizer.getDayCount(); day++) {
+            DailyFoodRecord record = new DailyFoodRecord(weekdays[day % PlanOptimizer.DAYS_PER_WEEK].getName());
+            for (int mealType = 0; mealType < MEAL_TYPES.length; mealType++) {
+                ArrayList<Food> foodList = new ArrayList<>();
+                for (int food : optimizer.getMeal(day, mealType)) {
+                    foodList.add(foodInfo.findFood(food));
+                }
+                record.recordMeals(MEAL_TYPES[mealType], foodList);
+            }
+            plannedDays.add(record);
+            totalDeviation += Math.abs(optimizer.getDayCalories(day) - dailyTarget);
+        }
+        this.averageDeviation = totalDeviation / optimizer.getDayCount();
+        this.violationCount = optimizer.getViolationCount();
+    }
+
+    /**
+     * Shows the plan built week by week, with how far its days are from the daily calories on average.
+     *
+     * @param profile the profile of the user.
+     * @return the plan.
+     */
+
+    private String showPlan(Profile profile) {
+        StringBuilder plan = new StringBuilder(String.format(MessageBank.PLAN_HEADER_MESSAGE, weeks, dailyTarget,
+                seed));
+        String recipeHead = profile.getRecipeManager().getRecipeHead();
+        for (int day = 0; day < plannedDays.size(); day++) {
+            if (day % PlanOptimizer.DAYS_PER_WEEK == 0) {
+                plan.append(String.format(MessageBank.PLAN_WEEK_MESSAGE, day / PlanOptimizer.DAYS_PER_WEEK + 1));
+                plan.append(recipeHead);
+            }
+            plan.append(plannedDays.get(day).getRecipeEntry()).append(System.lineSeparator());
+        }
+
+        plan.append(String.format(MessageBank.PLAN_DEVIATION_MESSAGE, averageDeviation));
+        if (violationCount > 0) {
+            plan.append(String.format(MessageBank.PLAN_VIOLATIONS_MESSAGE, violationCount));
+        } else if (averageDeviation > dailyTarget * CLOSE_TO_TARGET_RATIO) {
+            plan.append(MessageBank.PLAN_TOO_FEW_FOODS_MESSAGE);
+        }
+        return plan.toString();
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return !noDescription && !noProfileFound && !isInvalidFormat;
+    }
+}
@@ -1,26 +1,37 @@
 package seedu.dietmanager.logic.commands;
 
 import seedu.dietmanager.commons.core.MessageBank;
-import seedu.dietmanager.commons.core.Weekday;
+import seedu.dietmanager.commons.exceptions.InvalidDateException;
 import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.logic.Result;
+import seedu.dietmanager.logic.parser.DateParser;
 import seedu.dietmanager.logic.parser.DescriptionParser;
-import seedu.dietmanager.model.DailyFoodRecord;
+import seedu.dietmanager.logic.parser.Tokenizer;
 import seedu.dietmanager.model.Food;
 import seedu.dietmanager.model.FoodNutritionRecord;
 import seedu.dietmanager.model.Profile;
 import seedu.dietmanager.ui.UI;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 public class RecordMealCommand extends Command {
     private static final int ARGUMENTS_REQUIRED = 3;
     private String date;
     private String mealType;
-    private String[] foodDescription;
+    private String foodDescription;
     private boolean isValidFoodFormat;
     private boolean noDescription;
     private boolean isInvalidDate;
+    private boolean isValidMealType;
+
+    /**
+     * The misspelt food names recorded as the closest food in the database, each with the food it was recorded as.
+     */
+
+    private List<String> correctedFoodNames = new ArrayList<>();
 
     /**
      * Constructs the Command object.
@@ -39,14 +50,14 @@ public class RecordMealCommand extends Command {
             String[] descriptionArray = DescriptionParser.parseDescription(description, ARGUMENTS_REQUIRED);
             this.date = descriptionArray[0].trim().toUpperCase();
             this.mealType = descriptionArray[1].trim().toLowerCase();
-            this.foodDescription = descriptionArray[2].trim().split("/");
+            this.foodDescription = descriptionArray[2];
             this.isValidFoodFormat = true;
 
-            Weekday.valueOf(this.date);
+            DateParser.parseDate(this.date, LocalDate.now());
 
         } catch (NullPointerException e) {
             this.noDescription = true;
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | InvalidDateException e) {
             this.isInvalidDate = true;
         }
     }
@@ -58,34 +69,45 @@ public class RecordMealCommand extends Command {
             return result;
         }
 
-        DailyFoodRecord record = profile.getRecordOfDay(date);
         ArrayList<Food> foodList = new ArrayList<>();
-        String[] foodDescriptionSplit;
+        Tokenizer foodDescriptionSplit;
         String foodName;
         Double foodCalories;
-        FoodNutritionRecord foodInfo = FoodNutritionRecord.getInstance();
+        FoodNutritionRecord foodInfo = profile.getFoodNutritionRecord();
 
-        for (String singleFoodDescription : foodDescription) {
-            if (singleFoodDescription.strip().equals("")) {
+        Tokenizer singleFoodDescription = new Tokenizer(foodDescription);
+        while (singleFoodDescription.nextPart("/")) {
+            if (singleFoodDescription.isTokenBlank()) {
                 continue;
             }
 
-            foodDescriptionSplit = singleFoodDescription.trim().split("--");
-            foodName = foodDescriptionSplit[0].trim().toLowerCase();
+            foodDescriptionSplit = singleFoodDescription.tokenizeToken();
+            foodDescriptionSplit.nextPart("--");
+            foodName = foodDescriptionSplit.trimmedToken().toLowerCase();
+            int partCount = 1;
+            String caloriesDescription = null;
+            if (foodDescriptionSplit.nextPart("--")) {
+                partCount++;
+                caloriesDescription = foodDescriptionSplit.trimmedToken();
+            }
+            if (foodDescriptionSplit.nextPart("--")) {
+                partCount++;
+            }
 
-            switch (foodDescriptionSplit.length) {
+            switch (partCount) {
             case 1:
-                Food food;
-                if (foodInfo.isInDatabase(foodName)) {
-                    food = foodInfo.findFood(foodName).get();
-                } else {
-                    food = new Food(foodName);
+                Optional<Food> food = foodInfo.findFood(foodName);
+                if (food.isEmpty()) {
+                    food = foodInfo.findClosestFood(foodName);
+                    if (food.isPresent()) {
+                        correctedFoodNames.add(foodName + " as " + food.get().getFoodName());
+                    }
                 }
-                foodList.add(food);
+                foodList.add(food.isPresent() ? food.get() : new Food(foodName));
                 break;
             case 2:
                 try {
-                    foodCalories = Double.parseDouble(foodDescriptionSplit[1].trim());
+                    foodCalories = Double.parseDouble(caloriesDescription);
                     if (foodCalories < 0) {
                         throw new NumberFormatException();
                     }
@@ -99,7 +121,7 @@ public class RecordMealCommand extends Command {
                 break;
             }
         }
-        record.recordMeals(mealType, foodList);
+        profile.recordMeals(date, mealType, foodList);
         Result result = getResult(profile);
         return result;
     }
@@ -114,7 +136,7 @@ public class RecordMealCommand extends Command {
             return new Result(this.resultString);
         }
 
-        boolean isValidType = true;
+        isValidMealType = true;
         switch (mealType) {
         case "morning":
             this.resultString = MessageBank.BREAKFAST_RECORD_MESSAGE;
@@ -126,16 +148,25 @@ public class RecordMealCommand extends Command {
             this.resultString = MessageBank.DINNER_RECORD_MESSAGE;
             break;
         default:
-            isValidType = false;
+            isValidMealType = false;
             this.resultString = MessageBank.MEAL_TYPE_ERROR;
             break;
         }
-        if (isValidType) {
+        if (isValidMealType) {
             this.resultString = this.resultString + date + ".";
         }
         if (!isValidFoodFormat) {
             this.resultString = this.resultString + System.lineSeparator() + MessageBank.INVALID_FOOD_FORMAT_ERROR;
         }
+        if (!correctedFoodNames.isEmpty()) {
+            this.resultString = this.resultString + System.lineSeparator() + MessageBank.FOOD_NAME_CORRECTED_MESSAGE
+                    + String.join(", ", correctedFoodNames) + ".";
+        }
         return new Result(this.resultString);
     }
+
+    @Override
+    public boolean isSuccessful() {
+        return !this.noDescription && !this.isInvalidDate && this.isValidMealType && this.isValidFoodFormat;
+    }
 }
@@ -0,0 +1,75 @@
+package seedu.dietmanager.logic.commands;
+
+import seedu.dietmanager.commons.core.MessageBank;
+import seedu.dietmanager.commons.exceptions.InvalidFoodNameException;
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+import seedu.dietmanager.logic.Result;
+import seedu.dietmanager.logic.parser.DescriptionParser;
+import seedu.dietmanager.logic.parser.FoodNameParser;
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.FoodNutritionRecord;
+import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.ui.UI;
+
+import java.util.List;
+
+public class SearchFoodCommand extends Command {
+    private static final int ARGUMENTS_REQUIRED = 1;
+    private static final int MAX_FOODS_SHOWN = 10;
+    private String prefix;
+    private List<Food> foodsFound;
+    private boolean noDescription;
+
+    /**
+     * Constructs the Command object.
+     *
+     * @param command     the command prompt entered by the user.
+     * @param description the description of the command.
+     */
+
+    public SearchFoodCommand(String command, String description) throws InvalidFormatException {
+        super(command);
+        this.noDescription = false;
+
+        try {
+            String[] descriptionArray = DescriptionParser.parseDescription(description, ARGUMENTS_REQUIRED);
+            this.prefix = FoodNameParser.parseFoodName(descriptionArray[0]);
+        } catch (NullPointerException | InvalidFoodNameException e) {
+            this.noDescription = true;
+        }
+    }
+
+    @Override
+    public Result execute(Profile profile, UI ui) {
+        if (!this.noDescription) {
+            FoodNutritionRecord foodInfo = profile.getFoodNutritionRecord();
+            this.foodsFound = foodInfo.searchFood(prefix, MAX_FOODS_SHOWN + 1);
+        }
+        Result result = getResult(profile);
+        return result;
+    }
+
+    @Override
+    public Result getResult(Profile profile) {
+        if (this.noDescription) {
+            this.resultString = MessageBank.NO_DESCRIPTION_MESSAGE;
+        } else if (this.foodsFound.isEmpty()) {
+            this.resultString = MessageBank.NO_FOOD_FOUND_MESSAGE + prefix;
+        } else {
+            StringBuilder foodList = new StringBuilder(MessageBank.FOOD_FOUND_MESSAGE + prefix + "\n");
+            for (Food food : foodsFound.subList(0, Math.min(foodsFound.size(), MAX_FOODS_SHOWN))) {
+                foodList.append(food);
+            }
+            if (foodsFound.size() > MAX_FOODS_SHOWN) {
+                foodList.append(String.format(MessageBank.MORE_FOOD_FOUND_MESSAGE, MAX_FOODS_SHOWN));
+            }
+            this.resultString = foodList.toString().trim();
+        }
+        return new Result(this.resultString);
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return !this.noDescription;
+    }
+}
@@ -53,4 +53,9 @@ public class SetAgeCommand extends Command {
         }
         return new Result(this.resultString);
     }
+
+    @Override
+    public boolean isSuccessful() {
+        return this.isValidCommand;
+    }
 }
@@ -54,4 +54,9 @@ public class SetGenderCommand extends Command {
         }
         return new Result(this.resultString);
     }
+
+    @Override
+    public boolean isSuccessful() {
+        return this.isValidCommand;
+    }
 }
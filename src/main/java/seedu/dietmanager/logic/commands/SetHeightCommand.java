@@ -53,4 +53,9 @@ public class SetHeightCommand extends Command {
         }
         return new Result(this.resultString);
     }
+
+    @Override
+    public boolean isSuccessful() {
+        return this.isValidCommand;
+    }
 }
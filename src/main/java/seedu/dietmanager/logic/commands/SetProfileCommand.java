@@ -68,4 +68,9 @@ public class SetProfileCommand extends Command {
         }
         return new Result(this.resultString);
     }
+
+    @Override
+    public boolean isSuccessful() {
+        return this.isValidCommand;
+    }
 }
@@ -2,7 +2,6 @@ package seedu.dietmanager.logic.commands;
 
 import seedu.dietmanager.logic.Result;
 import seedu.dietmanager.model.Profile;
-import seedu.dietmanager.model.RecipeManager;
 import seedu.dietmanager.ui.UI;
 
 public class ShowRecipeCommand extends Command {
@@ -20,7 +19,7 @@ public class ShowRecipeCommand extends Command {
 
     @Override
     public Result getResult(Profile profile) {
-        this.resultString = RecipeManager.getInstance().getRecipe();
+        this.resultString = profile.getRecipeManager().getRecipe();
         return new Result(this.resultString);
     }
 }
@@ -0,0 +1,118 @@
+package seedu.dietmanager.logic.commands;
+
+import seedu.dietmanager.commons.core.MessageBank;
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+import seedu.dietmanager.logic.Result;
+import seedu.dietmanager.logic.parser.DescriptionParser;
+import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.model.RollingCaloriesWindows;
+import seedu.dietmanager.ui.UI;
+
+import java.time.LocalDate;
+import java.util.function.DoublePredicate;
+
+public class TrendCommand extends Command {
+    private static final int ARGUMENTS_REQUIRED = 1;
+
+    private boolean noDescription;
+    private boolean isInvalidActivityLevel;
+    private boolean noProfileFound;
+
+    private String activityLevel;
+
+    /**
+     * Constructs the command object.
+     *
+     * @param command     the command prompt entered by the user.
+     * @param description the description of the command.
+     * @throws InvalidFormatException if the command doesn't contain correct number of parameters.
+     */
+
+    public TrendCommand(String command, String description) throws InvalidFormatException {
+        super(command);
+        this.noDescription = false;
+        this.isInvalidActivityLevel = false;
+        this.noProfileFound = false;
+
+        try {
+            String[] descriptionArray = DescriptionParser.parseDescription(description, ARGUMENTS_REQUIRED);
+            this.activityLevel = descriptionArray[0].trim().toLowerCase();
+
+            switch (activityLevel) {
+            case "low":
+            case "moderate":
+            case "high":
+                break;
+            default:
+                isInvalidActivityLevel = true;
+                break;
+            }
+        } catch (NullPointerException e) {
+            this.noDescription = true;
+        }
+    }
+
+    @Override
+    public Result execute(Profile profile, UI ui) {
+        if (!profile.isProfileExist()) {
+            noProfileFound = true;
+        }
+        Result result = getResult(profile);
+        return result;
+    }
+
+    @Override
+    public Result getResult(Profile profile) {
+        if (noDescription) {
+            this.resultString = MessageBank.NO_DESCRIPTION_MESSAGE;
+        } else if (noProfileFound) {
+            this.resultString = MessageBank.INVALID_PROFILE_MESSAGE;
+        } else if (isInvalidActivityLevel) {
+            this.resultString = MessageBank.INVALID_CALORIES_REQUIREMENT_ERROR;
+        } else {
+            this.resultString = showTrend(profile);
+        }
+        return new Result(this.resultString);
+    }
+
+    /**
+     * Returns the average calories intake of the last 7, 30 and 90 days against the calories requirement,
+     * and the number of days in a row the requirement was met.
+     *
+     * @param profile the user profile.
+     * @return the calories trend.
+     */
+
+    private String showTrend(Profile profile) {
+        double caloriesRequired = new CheckRequiredCaloriesCommand(MessageBank.CHECK_REQUIRED_CAL_COMMAND_PROMPT)
+                .getRecommendedCaloriesIntake(profile, activityLevel);
+        LocalDate today = profile.getToday();
+        RollingCaloriesWindows windows = profile.getFoodRecordHistory().getRollingCalories(today);
+
+        StringBuilder trend = new StringBuilder(String.format(MessageBank.TREND_HEADER_MESSAGE, today,
+                caloriesRequired, activityLevel));
+        for (int i = 0; i < RollingCaloriesWindows.WINDOW_LENGTHS.length; i++) {
+            int windowLength = RollingCaloriesWindows.WINDOW_LENGTHS[i];
+            if (windows.getDayCount(i) == 0) {
+                trend.append(String.format(MessageBank.TREND_NO_CALORIES_MESSAGE, windowLength));
+                continue;
+            }
+            double averageCalories = windows.getAverageCalories(i);
+            trend.append(String.format(MessageBank.TREND_WINDOW_MESSAGE, windowLength, averageCalories,
+                    windows.getDayCount(i), averageCalories < caloriesRequired ? "deficit" : "surplus",
+                    Math.abs(averageCalories - caloriesRequired)));
+        }
+
+        boolean isGainingWeight = profile.getWeight() < profile.getWeightGoal();
+        DoublePredicate isOnTarget = calories -> isGainingWeight
+                ? calories >= caloriesRequired
+                : calories <= caloriesRequired;
+        trend.append(String.format(MessageBank.TREND_STREAK_MESSAGE, windows.getStreak(isOnTarget)));
+        return trend.toString();
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return !noDescription && !noProfileFound && !isInvalidActivityLevel;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.dietmanager.logic.commands;
+
+import seedu.dietmanager.commons.core.MessageBank;
+import seedu.dietmanager.logic.Result;
+import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.model.WeightHistory;
+import seedu.dietmanager.ui.UI;
+
+import java.time.LocalDate;
+
+public class WeightForecastCommand extends Command {
+
+    private static final int DAYS_IN_WEEK = 7;
+
+    /**
+     * The furthest a goal date is projected, about 100 years.
+     */
+
+    private static final long MAX_FORECAST_DAYS = 36_525;
+
+    /**
+     * Constructs the Command object.
+     *
+     * @param command the command prompt entered by the user.
+     */
+
+    public WeightForecastCommand(String command) {
+        super(command);
+    }
+
+    @Override
+    public Result execute(Profile profile, UI ui) {
+        Result result = getResult(profile);
+        return result;
+    }
+
+    @Override
+    public Result getResult(Profile profile) {
+        if (!profile.isProfileExist()) {
+            this.resultString = MessageBank.INVALID_PROFILE_MESSAGE;
+        } else {
+            this.resultString = forecastGoalDate(profile.getWeightHistory(), profile.getWeightGoal());
+        }
+        return new Result(this.resultString);
+    }
+
+    /**
+     * Projects the date the weight goal is reached from the last weight record, following the least-squares
+     * trend of all the weight records.
+     *
+     * @param weightHistory the weight records of the user.
+     * @param weightGoal    the weight goal of the user.
+     * @return the forecast of the weight goal.
+     */
+
+    private String forecastGoalDate(WeightHistory weightHistory, double weightGoal) {
+        if (weightHistory.isEmpty()) {
+            return MessageBank.WEIGHT_FORECAST_NO_TREND_MESSAGE;
+        }
+        double weightToGoal = weightGoal - weightHistory.getLatestWeight();
+        if (weightToGoal == 0) {
+            return String.format(MessageBank.WEIGHT_FORECAST_GOAL_REACHED_MESSAGE, weightGoal);
+        }
+        if (!weightHistory.hasTrend()) {
+            return MessageBank.WEIGHT_FORECAST_NO_TREND_MESSAGE;
+        }
+
+        double dailyChange = weightHistory.getDailyChange();
+        String trend = String.format(MessageBank.WEIGHT_FORECAST_TREND_MESSAGE, dailyChange * DAYS_IN_WEEK)
+                + System.lineSeparator();
+        if (dailyChange == 0 || Math.signum(dailyChange) != Math.signum(weightToGoal)) {
+            return trend + String.format(MessageBank.WEIGHT_FORECAST_AWAY_FROM_GOAL_MESSAGE, weightGoal);
+        }
+        double daysToGoal = Math.ceil(weightToGoal / dailyChange);
+        if (daysToGoal > MAX_FORECAST_DAYS) {
+            return trend + String.format(MessageBank.WEIGHT_FORECAST_TOO_SLOW_MESSAGE, weightGoal);
+        }
+        LocalDate goalDate = LocalDate.ofEpochDay(weightHistory.getEpochDay(weightHistory.size() - 1)
+                + (long) daysToGoal);
+        return trend + String.format(MessageBank.WEIGHT_FORECAST_MESSAGE, weightGoal, goalDate);
+    }
+}
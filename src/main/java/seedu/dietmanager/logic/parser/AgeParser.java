@@ -15,19 +15,13 @@ public class AgeParser {
      * Minimum boundary Age value.
      */
 
-    private static int MIN_AGE = 0;
+    private static final int MIN_AGE = 0;
 
     /**
      * Maximum boundary Age value.
      */
 
-    private static int MAX_AGE = 150;
-
-    /**
-     * Age value parsed from user input.
-     */
-
-    private static Optional<Integer> age;
+    private static final int MAX_AGE = 150;
 
     /**
      * Validate the user input and parsing it into a valid Age.
@@ -38,6 +32,7 @@ public class AgeParser {
      */
 
     public static int parseAge(String description) throws InvalidAgeException {
+        Optional<Integer> age;
         try {
             age = Optional.ofNullable(Integer.parseInt(description));
         } catch (NumberFormatException e) {
@@ -46,15 +41,17 @@ public class AgeParser {
         if (age.isEmpty() || (age.get() <= MIN_AGE || age.get() >= MAX_AGE)) {
             throw new InvalidAgeException();
         }
-        testAssertions();
+        testAssertions(age);
         return age.get();
     }
 
     /**
      * Assertion testing for Age.
+     *
+     * @param age the parsed Age.
      */
 
-    public static void testAssertions() {
+    public static void testAssertions(Optional<Integer> age) {
         assert (age.isPresent());
         assert (age.get() > MIN_AGE);
         assert (age.get() < MAX_AGE);
@@ -15,13 +15,7 @@ public class CaloriesParser {
      * Minimum boundary Calorie value.
      */
 
-    private static double MIN_CALORIES = 0.00;
-
-    /**
-     * Calorie value parsed from user input.
-     */
-
-    private static Optional<Double> calories;
+    private static final double MIN_CALORIES = 0.00;
 
     /**
      * Validate the user input and parsing it into a valid Calorie value.
@@ -32,6 +26,7 @@ public class CaloriesParser {
      */
 
     public static double parseCalories(String description) throws InvalidCaloriesException {
+        Optional<Double> calories;
         try {
             calories = Optional.ofNullable(Double.parseDouble(description));
         } catch (NumberFormatException e) {
@@ -40,15 +35,17 @@ public class CaloriesParser {
         if (calories.isEmpty() || calories.get() < MIN_CALORIES) {
             throw new InvalidCaloriesException();
         }
-        testAssertions();
+        testAssertions(calories);
         return calories.get();
     }
 
     /**
      * Assertion testing for Calories.
+     *
+     * @param calories the parsed Calorie value.
      */
 
-    public static void testAssertions() {
+    public static void testAssertions(Optional<Double> calories) {
         assert (calories.isPresent());
         assert (calories.get() >= MIN_CALORIES);
     }
@@ -5,6 +5,7 @@ import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.logic.commands.AddFoodCommand;
 import seedu.dietmanager.logic.commands.BuildNewRecipeCommand;
 import seedu.dietmanager.logic.commands.CalculateCaloriesCommand;
+import seedu.dietmanager.logic.commands.ChartCommand;
 import seedu.dietmanager.logic.commands.CheckBmiCommand;
 import seedu.dietmanager.logic.commands.CheckRecordCommand;
 import seedu.dietmanager.logic.commands.CheckRequiredCaloriesCommand;
@@ -16,8 +17,10 @@ import seedu.dietmanager.logic.commands.DeleteWeightCommand;
 import seedu.dietmanager.logic.commands.ExitCommand;
 import seedu.dietmanager.logic.commands.HelpCommand;
 import seedu.dietmanager.logic.commands.ListFoodDatabaseCommand;
+import seedu.dietmanager.logic.commands.NewPlanCommand;
 import seedu.dietmanager.logic.commands.ProfileCommand;
 import seedu.dietmanager.logic.commands.RecordMealCommand;
+import seedu.dietmanager.logic.commands.SearchFoodCommand;
 import seedu.dietmanager.logic.commands.SetAgeCommand;
 import seedu.dietmanager.logic.commands.SetGenderCommand;
 import seedu.dietmanager.logic.commands.SetHeightCommand;
@@ -26,6 +29,8 @@ import seedu.dietmanager.logic.commands.SetProfileCommand;
 import seedu.dietmanager.logic.commands.SetWeightCommand;
 import seedu.dietmanager.logic.commands.SetWeightGoalCommand;
 import seedu.dietmanager.logic.commands.ShowRecipeCommand;
+import seedu.dietmanager.logic.commands.TrendCommand;
+import seedu.dietmanager.logic.commands.WeightForecastCommand;
 
 import java.util.Optional;
 
@@ -36,50 +41,6 @@ import java.util.Optional;
 
 public class CommandParser {
 
-    /**
-     * The command prompt parsed from user input.
-     */
-
-    private static Optional<String> commandPrompt;
-
-    /**
-     * The description parsed from user input.
-     */
-
-    private static Optional<String> description;
-
-    /**
-     * The number of arguments in valid Command.
-     */
-
-    private static final int ARGUMENTS_REQUIRED = 2;
-
-    /**
-     * Parses the user input and prepares it to be analysed.
-     *
-     * @param input the user input.
-     * @throws InvalidCommandException if user input has too few arguments.
-     */
-
-    private static void prepareInput(String input) throws InvalidCommandException {
-        commandPrompt = Optional.empty();
-        description = Optional.empty();
-
-        String[] inputArray = input.trim().split(" ", ARGUMENTS_REQUIRED);
-        int numArguments = inputArray.length;
-        switch (numArguments) {
-        case 1:
-            commandPrompt = Optional.ofNullable(inputArray[0].trim().toLowerCase());
-            break;
-        case 2:
-            commandPrompt = Optional.ofNullable(inputArray[0].trim().toLowerCase());
-            description = Optional.ofNullable(inputArray[1].trim());
-            break;
-        default:
-            throw new InvalidCommandException();
-        }
-    }
-
     /**
      * Validate the user input and parsing it into a valid Command.
      *
@@ -90,90 +51,109 @@ public class CommandParser {
      */
 
     public static Optional<Command> parseInput(String input) throws InvalidCommandException, InvalidFormatException {
-        prepareInput(input);
+        Tokenizer tokenizer = new Tokenizer(input);
+        String commandPrompt = tokenizer.nextToken() ? tokenizer.token().toLowerCase() : "";
+        String description = null;
+        if (tokenizer.hasMore()) {
+            tokenizer.rest();
+            description = tokenizer.token();
+        }
         Optional<Command> command;
 
-        if (commandPrompt.isPresent() && description.isEmpty()) {
-            switch (commandPrompt.get()) {
+        if (description == null) {
+            switch (commandPrompt) {
             case "profile":
-                command = Optional.of(new ProfileCommand(commandPrompt.get()));
+                command = Optional.of(new ProfileCommand(commandPrompt));
                 break;
             case "check-weight-progress":
-                command = Optional.of(new CheckWeightRecordCommand(commandPrompt.get()));
+                command = Optional.of(new CheckWeightRecordCommand(commandPrompt));
                 break;
             case "check-bmi":
-                command = Optional.of(new CheckBmiCommand(commandPrompt.get()));
+                command = Optional.of(new CheckBmiCommand(commandPrompt));
+                break;
+            case "weight-forecast":
+                command = Optional.of(new WeightForecastCommand(commandPrompt));
                 break;
             case "list-food":
-                command = Optional.of(new ListFoodDatabaseCommand(commandPrompt.get()));
+                command = Optional.of(new ListFoodDatabaseCommand(commandPrompt));
                 break;
             case "show-recipe":
-                command = Optional.of(new ShowRecipeCommand(commandPrompt.get()));
+                command = Optional.of(new ShowRecipeCommand(commandPrompt));
                 break;
             case "clear-records":
-                command = Optional.of(new ClearFoodRecordCommand(commandPrompt.get()));
+                command = Optional.of(new ClearFoodRecordCommand(commandPrompt));
                 break;
             case "help":
-                command = Optional.of(new HelpCommand(commandPrompt.get()));
+                command = Optional.of(new HelpCommand(commandPrompt));
                 break;
             case "exit":
-                command = Optional.of(new ExitCommand(commandPrompt.get()));
+                command = Optional.of(new ExitCommand(commandPrompt));
                 break;
             default:
                 throw new InvalidCommandException();
             }
-        } else if (commandPrompt.isPresent() && description.isPresent()) {
-            switch (commandPrompt.get()) {
+        } else {
+            switch (commandPrompt) {
             case "set-profile":
-                command = Optional.of(new SetProfileCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new SetProfileCommand(commandPrompt, description));
                 break;
             case "set-name":
-                command = Optional.of(new SetNameCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new SetNameCommand(commandPrompt, description));
                 break;
             case "set-age":
-                command = Optional.of(new SetAgeCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new SetAgeCommand(commandPrompt, description));
                 break;
             case "set-gender":
-                command = Optional.of(new SetGenderCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new SetGenderCommand(commandPrompt, description));
                 break;
             case "set-height":
-                command = Optional.of(new SetHeightCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new SetHeightCommand(commandPrompt, description));
                 break;
             case "set-weight":
-                command = Optional.of(new SetWeightCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new SetWeightCommand(commandPrompt, description));
                 break;
             case "set-weight-goal":
-                command = Optional.of(new SetWeightGoalCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new SetWeightGoalCommand(commandPrompt, description));
                 break;
             case "record-meal":
-                command = Optional.of(new RecordMealCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new RecordMealCommand(commandPrompt, description));
                 break;
             case "check-meal":
-                command = Optional.of(new CheckRecordCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new CheckRecordCommand(commandPrompt, description));
                 break;
             case "check-required-cal":
-                command = Optional.of(new CheckRequiredCaloriesCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new CheckRequiredCaloriesCommand(commandPrompt, description));
                 break;
             case "calculate":
-                command = Optional.of(new CalculateCaloriesCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new CalculateCaloriesCommand(commandPrompt, description));
                 break;
             case "delete-weight":
-                command = Optional.of(new DeleteWeightCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new DeleteWeightCommand(commandPrompt, description));
                 break;
             case "addf":
-                command = Optional.of(new AddFoodCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new AddFoodCommand(commandPrompt, description));
                 break;
             case "delf":
-                command = Optional.of(new DeleteFoodCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new DeleteFoodCommand(commandPrompt, description));
+                break;
+            case "search-food":
+                command = Optional.of(new SearchFoodCommand(commandPrompt, description));
                 break;
             case "new-recipe":
-                command = Optional.of(new BuildNewRecipeCommand(commandPrompt.get(), description.get()));
+                command = Optional.of(new BuildNewRecipeCommand(commandPrompt, description));
+                break;
+            case "new-plan":
+                command = Optional.of(new NewPlanCommand(commandPrompt, description));
+                break;
+            case "chart":
+                command = Optional.of(new ChartCommand(commandPrompt, description));
+                break;
+            case "trend":
+                command = Optional.of(new TrendCommand(commandPrompt, description));
                 break;
             default:
                 throw new InvalidCommandException();
             }
-        } else {
-            throw new InvalidCommandException();
         }
         return command;
     }
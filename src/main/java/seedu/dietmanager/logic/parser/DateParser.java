@@ -0,0 +1,59 @@
+package seedu.dietmanager.logic.parser;
+
+import seedu.dietmanager.commons.core.Weekday;
+import seedu.dietmanager.commons.exceptions.InvalidDateException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.Optional;
+
+/**
+ * DateParser is the public class responsible for validating the user input and
+ * parsing it into a valid calendar date.
+ */
+
+public class DateParser {
+
+    /**
+     * Earliest date accepted.
+     */
+
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+
+    /**
+     * Latest date accepted.
+     */
+
+    private static final LocalDate MAX_DATE = LocalDate.of(2099, 12, 31);
+
+    /**
+     * Validate the user input and parsing it into a valid date. <br>
+     * A weekday name refers to that day in the week of today, and any other date from 1900 to 2099
+     * is given as {@code yyyy-MM-dd}.
+     *
+     * @param description User input.
+     * @param today       the date of today.
+     * @return Date in standard form.
+     * @throws InvalidDateException If input is neither a weekday name nor a valid date.
+     */
+
+    public static LocalDate parseDate(String description, LocalDate today) throws InvalidDateException {
+        String date = description.trim();
+        Optional<Weekday> weekday = Weekday.findWeekday(date);
+        if (weekday.isPresent()) {
+            return today.with(ChronoField.DAY_OF_WEEK, weekday.get().getIndex());
+        }
+        LocalDate parsedDate;
+        try {
+            parsedDate = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new InvalidDateException();
+        }
+        if (parsedDate.isBefore(MIN_DATE) || parsedDate.isAfter(MAX_DATE)) {
+            throw new InvalidDateException();
+        }
+        return parsedDate;
+    }
+
+}
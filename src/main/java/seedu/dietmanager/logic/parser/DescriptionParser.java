@@ -4,17 +4,12 @@ import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 
 /**
  * DescriptionParser is the public class responsible for validating the user input and
- * parsing it into a valid description array.
+ * parsing it into a valid description array. <br>
+ * The arguments are separated by whitespace, and the last argument takes the rest of the input.
  */
 
 public class DescriptionParser {
 
-    /**
-     * Description Array parsed from user input.
-     */
-
-    private static String[] descriptionArray;
-
     /**
      * Validates the user input and parsing it into a valid description array.
      *
@@ -27,22 +22,31 @@ public class DescriptionParser {
 
     public static String[] parseDescription(String description, int argumentsRequired)
             throws InvalidFormatException, NullPointerException {
-        descriptionArray = description.trim().split("\\s+", argumentsRequired);
-        if (descriptionArray.length != argumentsRequired) {
-            throw new InvalidFormatException();
+        Tokenizer tokenizer = new Tokenizer(description);
+        String[] descriptionArray = new String[argumentsRequired];
+        for (int i = 0; i < argumentsRequired - 1; i++) {
+            if (!tokenizer.nextToken()) {
+                throw new InvalidFormatException();
+            }
+            descriptionArray[i] = tokenizer.token();
         }
-        for (String arg : descriptionArray) {
-            arg.trim();
+        tokenizer.rest();
+        descriptionArray[argumentsRequired - 1] = tokenizer.token();
+        if (argumentsRequired > 1 && descriptionArray[argumentsRequired - 1].isEmpty()) {
+            throw new InvalidFormatException();
         }
-        testAssertions(argumentsRequired);
+        testAssertions(descriptionArray, argumentsRequired);
         return descriptionArray;
     }
 
     /**
      * Assertion testing for Description Array.
+     *
+     * @param descriptionArray  the parsed description array.
+     * @param argumentsRequired the number of arguments required by the command.
      */
 
-    public static void testAssertions(int argumentsRequired) {
+    public static void testAssertions(String[] descriptionArray, int argumentsRequired) {
         assert (descriptionArray.length == argumentsRequired);
     }
 
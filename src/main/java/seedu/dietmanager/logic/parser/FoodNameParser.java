@@ -11,12 +11,6 @@ import java.util.Optional;
 
 public class FoodNameParser {
 
-    /**
-     * Food Name value parsed from user input.
-     */
-
-    private static Optional<String> foodName;
-
     /**
      * Validate the user input and parsing it into a valid Food Name.
      *
@@ -26,20 +20,22 @@ public class FoodNameParser {
      */
 
     public static String parseFoodName(String description) throws InvalidFoodNameException {
-        foodName = Optional.ofNullable(description.trim().toLowerCase());
+        Optional<String> foodName = Optional.ofNullable(description.trim().toLowerCase());
         if (foodName.isEmpty()) {
             throw new InvalidFoodNameException();
         }
-        foodName = Optional.ofNullable(foodName.get().replaceAll(" ", "-"));
-        testAssertions();
+        foodName = Optional.ofNullable(foodName.get().replace(' ', '-'));
+        testAssertions(foodName);
         return foodName.get();
     }
 
     /**
      * Assertion testing for Food Name.
+     *
+     * @param foodName the parsed Food Name.
      */
 
-    public static void testAssertions() {
+    public static void testAssertions(Optional<String> foodName) {
         assert (foodName.isPresent());
     }
 
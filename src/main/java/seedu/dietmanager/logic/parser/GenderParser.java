@@ -23,12 +23,6 @@ public class GenderParser {
 
     private static final String FEMALE = "female";
 
-    /**
-     * gender value parsed from user input.
-     */
-
-    private static Optional<String> gender;
-
     /**
      * Validate the user input and parsing it into a valid gender.
      *
@@ -38,19 +32,21 @@ public class GenderParser {
      */
 
     public static String parseGender(String description) throws InvalidGenderException {
-        gender = Optional.ofNullable(description.trim().toLowerCase());
+        Optional<String> gender = Optional.ofNullable(description.trim().toLowerCase());
         if (gender.isEmpty() || !(gender.get().equals(MALE) || gender.get().equals(FEMALE))) {
             throw new InvalidGenderException();
         }
-        testAssertions();
+        testAssertions(gender);
         return gender.get();
     }
 
     /**
      * Assertion testing for Gender.
+     *
+     * @param gender the parsed Gender.
      */
 
-    public static void testAssertions() {
+    public static void testAssertions(Optional<String> gender) {
         assert (gender.isPresent());
         assert ((gender.get().equals(MALE)) || (gender.get().equals(FEMALE)));
     }
@@ -15,19 +15,13 @@ public class HeightParser {
      * Minimum boundary Height value.
      */
 
-    private static double MIN_HEIGHT = 0.00;
+    private static final double MIN_HEIGHT = 0.00;
 
     /**
      * Maximum boundary Height value.
      */
 
-    private static double MAX_HEIGHT = 300.00;
-
-    /**
-     * Height value parsed from user input.
-     */
-
-    private static Optional<Double> height;
+    private static final double MAX_HEIGHT = 300.00;
 
     /**
      * Validate the user input and parsing it into a valid Height.
@@ -38,6 +32,7 @@ public class HeightParser {
      */
 
     public static double parseHeight(String description) throws InvalidHeightException {
+        Optional<Double> height;
         try {
             height = Optional.ofNullable(Double.parseDouble(description));
         } catch (NumberFormatException e) {
@@ -46,15 +41,17 @@ public class HeightParser {
         if (height.isEmpty() || (height.get() <= MIN_HEIGHT || height.get() >= MAX_HEIGHT)) {
             throw new InvalidHeightException();
         }
-        testAssertions();
+        testAssertions(height);
         return height.get();
     }
 
     /**
      * Assertion testing for Height.
+     *
+     * @param height the parsed Height.
      */
 
-    public static void testAssertions() {
+    public static void testAssertions(Optional<Double> height) {
         assert (height.isPresent());
         assert (height.get() > MIN_HEIGHT);
         assert (height.get() < MAX_HEIGHT);
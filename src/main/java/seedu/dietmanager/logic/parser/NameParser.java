@@ -11,12 +11,6 @@ import java.util.Optional;
 
 public class NameParser {
 
-    /**
-     * Name value parsed from user input.
-     */
-
-    private static Optional<String> name;
-
     /**
      * Validate the user input and parsing it into a valid Name.
      *
@@ -26,20 +20,22 @@ public class NameParser {
      */
 
     public static String parseName(String description) throws InvalidNameException {
-        name = Optional.ofNullable(description.trim());
+        Optional<String> name = Optional.ofNullable(description.trim());
         if (name.isEmpty()) {
             throw new InvalidNameException();
         }
-        name = Optional.ofNullable(name.get().replaceAll(" ", "-"));
-        testAssertions();
+        name = Optional.ofNullable(name.get().replace(' ', '-'));
+        testAssertions(name);
         return name.get();
     }
 
     /**
      * Assertion testing for Name.
+     *
+     * @param name the parsed Name.
      */
 
-    public static void testAssertions() {
+    public static void testAssertions(Optional<String> name) {
         assert (name.isPresent());
     }
 
@@ -0,0 +1,54 @@
+package seedu.dietmanager.logic.parser;
+
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+
+import java.util.SplittableRandom;
+
+/**
+ * SeedParser is the public class responsible for validating the user input and
+ * parsing it into a valid random seed.
+ */
+
+public class SeedParser {
+
+    /**
+     * Prefix of a seed argument.
+     */
+
+    private static final String SEED_PREFIX = "seed/";
+
+    /**
+     * Validate the user input and parsing it into a valid seed.
+     *
+     * @param description User input, a seed prefixed by {@code seed/} in any case.
+     * @return the seed.
+     * @throws InvalidFormatException If input is not a valid seed.
+     */
+
+    public static long parseSeed(String description) throws InvalidFormatException {
+        if (!description.toLowerCase().startsWith(SEED_PREFIX)) {
+            throw new InvalidFormatException();
+        }
+        try {
+            return Long.parseLong(description.substring(SEED_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new InvalidFormatException();
+        }
+    }
+
+    /**
+     * Validate an optional seed argument and parsing it into a valid seed, drawing a new seed if it is absent.
+     *
+     * @param arguments User input, with the seed argument as its next token if there is one.
+     * @return the seed.
+     * @throws InvalidFormatException If the seed argument is present but not a valid seed.
+     */
+
+    public static long parseOptionalSeed(Tokenizer arguments) throws InvalidFormatException {
+        if (!arguments.nextToken()) {
+            return new SplittableRandom().nextLong();
+        }
+        return parseSeed(arguments.token());
+    }
+
+}
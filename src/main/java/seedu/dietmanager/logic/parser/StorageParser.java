@@ -3,6 +3,8 @@ package seedu.dietmanager.logic.parser;
 import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.commons.exceptions.InvalidWeightException;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,10 +27,7 @@ public class StorageParser {
     public static String[] parseProfileDataLine(String profileDataLine)
             throws InvalidFormatException, NullPointerException {
         int argumentsRequired = 2;
-        String[] descriptionArray = profileDataLine.trim().split(": ", argumentsRequired);
-        if (descriptionArray.length != argumentsRequired) {
-            throw new InvalidFormatException();
-        }
+        String[] descriptionArray = parseParts(profileDataLine, ": ", argumentsRequired);
         testAssertions(descriptionArray, argumentsRequired);
         return descriptionArray;
     }
@@ -45,10 +44,7 @@ public class StorageParser {
     public static String[] parseRecipeDataLine(String recipeDataLine)
             throws InvalidFormatException, NullPointerException {
         int argumentsRequired = 4;
-        String[] descriptionArray = recipeDataLine.trim().split("\\s+", argumentsRequired);
-        if (descriptionArray.length != argumentsRequired) {
-            throw new InvalidFormatException();
-        }
+        String[] descriptionArray = DescriptionParser.parseDescription(recipeDataLine, argumentsRequired);
         testAssertions(descriptionArray, argumentsRequired);
         return descriptionArray;
     }
@@ -65,10 +61,7 @@ public class StorageParser {
     public static String[] parseFoodRecordDataLine(String foodRecordDataLine)
             throws InvalidFormatException, NullPointerException {
         int argumentsRequired = 2;
-        String[] descriptionArray = foodRecordDataLine.trim().split(": ", 2);
-        if (descriptionArray.length != argumentsRequired) {
-            throw new InvalidFormatException();
-        }
+        String[] descriptionArray = parseParts(foodRecordDataLine, ": ", argumentsRequired);
         testAssertions(descriptionArray, argumentsRequired);
         return descriptionArray;
     }
@@ -85,10 +78,7 @@ public class StorageParser {
     public static String[] parseTimeDescription(String timeDescription)
             throws InvalidFormatException, NullPointerException {
         int argumentsRequired = 2;
-        String[] descriptionArray = timeDescription.trim().split("\\s+", argumentsRequired);
-        if (descriptionArray.length != argumentsRequired) {
-            throw new InvalidFormatException();
-        }
+        String[] descriptionArray = DescriptionParser.parseDescription(timeDescription, argumentsRequired);
         testAssertions(descriptionArray, argumentsRequired);
         return descriptionArray;
     }
@@ -103,15 +93,38 @@ public class StorageParser {
 
     public static List<Double> parseWeightListDataLine(String weightListDataLine)
             throws NullPointerException, InvalidWeightException {
-        String[] descriptionArray = weightListDataLine.trim().split(",");
+        Tokenizer tokenizer = new Tokenizer(weightListDataLine);
         List<Double> weightList = new ArrayList<>();
-        for (String arg : descriptionArray) {
-            double weight = WeightParser.parseWeight(arg);
+        while (tokenizer.nextPart(",")) {
+            double weight = WeightParser.parseWeight(tokenizer.token());
             weightList.add(weight);
         }
         return weightList;
     }
 
+    /**
+     * Validates the weightDates storage data and parsing it into the epoch days the weights were recorded.
+     *
+     * @param weightDatesDataLine the weightDates data description.
+     * @return the epoch days of the weights in order.
+     * @throws InvalidFormatException if a date is not in the form {@code yyyy-MM-dd}.
+     * @throws NullPointerException   if storage data generates a null value.
+     */
+
+    public static List<Long> parseWeightDatesDataLine(String weightDatesDataLine)
+            throws InvalidFormatException, NullPointerException {
+        Tokenizer tokenizer = new Tokenizer(weightDatesDataLine);
+        List<Long> weightDates = new ArrayList<>();
+        try {
+            while (tokenizer.nextPart(",")) {
+                weightDates.add(LocalDate.parse(tokenizer.trimmedToken()).toEpochDay());
+            }
+        } catch (DateTimeParseException e) {
+            throw new InvalidFormatException();
+        }
+        return weightDates;
+    }
+
     /**
      * Validates the food nutrition record storage data and parsing it into a valid description array.
      *
@@ -124,14 +137,85 @@ public class StorageParser {
     public static String[] parseFoodNutritionRecordDataLine(String foodNutritionRecordDataLine)
             throws InvalidFormatException, NullPointerException {
         int argumentsRequired = 2;
-        String[] descriptionArray = foodNutritionRecordDataLine.trim().split(",", argumentsRequired);
-        if (descriptionArray.length != argumentsRequired) {
+        String[] descriptionArray = parseParts(foodNutritionRecordDataLine, ",", argumentsRequired);
+        testAssertions(descriptionArray, argumentsRequired);
+        return descriptionArray;
+    }
+
+    /**
+     * Validates the meal journal entry and parsing it into a valid description array.
+     *
+     * @param mealJournalEntry the meal journal entry.
+     * @return descriptionArray in standard form.
+     * @throws InvalidFormatException if storage data has the wrong description format.
+     * @throws NullPointerException   if storage data generates a null value.
+     */
+
+    public static String[] parseMealJournalEntry(String mealJournalEntry)
+            throws InvalidFormatException, NullPointerException {
+        Tokenizer tokenizer = new Tokenizer(mealJournalEntry);
+        tokenizer.nextPart(" ");
+        String action = tokenizer.token();
+        if (!tokenizer.rest()) {
+            if (action.equals("CLEAR")) {
+                return new String[] {action};
+            }
             throw new InvalidFormatException();
         }
+        int argumentsRequired = 2;
+        String[] descriptionArray = {action, tokenizer.token()};
         testAssertions(descriptionArray, argumentsRequired);
         return descriptionArray;
     }
 
+    /**
+     * Validates the generation of a data file and parsing it into a valid generation.
+     *
+     * @param generationDescription the generation description.
+     * @return the generation of the data file.
+     * @throws InvalidFormatException if the generation is not a non-negative integer.
+     */
+
+    public static int parseGeneration(String generationDescription) throws InvalidFormatException {
+        try {
+            int generation = Integer.parseInt(generationDescription.trim());
+            if (generation < 0) {
+                throw new InvalidFormatException();
+            }
+            return generation;
+        } catch (NumberFormatException e) {
+            throw new InvalidFormatException();
+        }
+    }
+
+    /**
+     * Splits a data line into a number of parts separated by a delimiter, the last part taking the rest of the line.
+     *
+     * @param dataLine          the data line.
+     * @param delimiter         the characters separating the parts.
+     * @param argumentsRequired the number of parts.
+     * @return the parts of the data line.
+     * @throws InvalidFormatException if the data line has too few parts.
+     * @throws NullPointerException   if the data line is null.
+     */
+
+    private static String[] parseParts(String dataLine, String delimiter, int argumentsRequired)
+            throws InvalidFormatException, NullPointerException {
+        Tokenizer tokenizer = new Tokenizer(dataLine);
+        String[] descriptionArray = new String[argumentsRequired];
+        for (int i = 0; i < argumentsRequired - 1; i++) {
+            if (!tokenizer.nextPart(delimiter)) {
+                throw new InvalidFormatException();
+            }
+            descriptionArray[i] = tokenizer.token();
+        }
+        if (!tokenizer.rest()) {
+            throw new InvalidFormatException();
+        }
+        descriptionArray[argumentsRequired - 1] = tokenizer.token();
+        return descriptionArray;
+    }
+
     /**
      * Assertion testing for Description Array.
      */
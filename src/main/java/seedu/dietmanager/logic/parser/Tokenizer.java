@@ -0,0 +1,214 @@
+package seedu.dietmanager.logic.parser;
+
+/**
+ * Tokenizer is the public class splitting an input into arguments in a single pass, without regex. <br>
+ * The input is trimmed first, then read from left to right either as tokens separated by whitespace, or as parts
+ * separated by a delimiter. Only the bounds of the current argument are kept, so no array is built and a string
+ * is only made when {@link #token()} or {@link #trimmedToken()} is called. A tokenizer reads one input and is
+ * used by one thread.
+ */
+
+public class Tokenizer {
+
+    private final CharSequence input;
+
+    private final int end;
+
+    private int position;
+
+    private int tokenStart;
+
+    private int tokenEnd;
+
+    /**
+     * Whether the last part read ended with a delimiter.
+     */
+
+    private boolean isAfterDelimiter = false;
+
+    private boolean isFinished = false;
+
+    /**
+     * Constructs a tokenizer over the trimmed input.
+     *
+     * @param input the input to split.
+     * @throws NullPointerException if the input is null.
+     */
+
+    public Tokenizer(CharSequence input) throws NullPointerException {
+        this(input, 0, input.length());
+    }
+
+    /**
+     * Constructs a tokenizer over the trimmed span of an input.
+     */
+
+    private Tokenizer(CharSequence input, int start, int end) {
+        this.input = input;
+        int trimmedStart = start;
+        int trimmedEnd = end;
+        while (trimmedStart < trimmedEnd && isWhitespace(input.charAt(trimmedStart))) {
+            trimmedStart++;
+        }
+        while (trimmedEnd > trimmedStart && isWhitespace(input.charAt(trimmedEnd - 1))) {
+            trimmedEnd--;
+        }
+        this.end = trimmedEnd;
+        this.position = trimmedStart;
+        this.tokenStart = trimmedStart;
+        this.tokenEnd = trimmedStart;
+    }
+
+    /**
+     * Reads the next token, the longest run of characters without whitespace.
+     *
+     * @return true if there was a token to read.
+     */
+
+    public boolean nextToken() {
+        if (isFinished || position >= end) {
+            isFinished = true;
+            return false;
+        }
+        tokenStart = position;
+        while (position < end && !isWhitespace(input.charAt(position))) {
+            position++;
+        }
+        tokenEnd = position;
+        while (position < end && isWhitespace(input.charAt(position))) {
+            position++;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next part, the characters up to the next delimiter or the end of the input. <br>
+     * As with {@link String#split(String)}, a part may be empty, but no empty part is read after a delimiter
+     * ending the input.
+     *
+     * @param delimiter the characters separating the parts.
+     * @return true if there was a part to read.
+     */
+
+    public boolean nextPart(String delimiter) {
+        if (isFinished || (isAfterDelimiter && position == end)) {
+            isFinished = true;
+            return false;
+        }
+        tokenStart = position;
+        int delimiterStart = indexOf(delimiter, position);
+        if (delimiterStart < 0) {
+            tokenEnd = end;
+            position = end;
+            isFinished = true;
+        } else {
+            tokenEnd = delimiterStart;
+            position = delimiterStart + delimiter.length();
+            isAfterDelimiter = true;
+        }
+        return true;
+    }
+
+    /**
+     * Reads everything left of the input as one argument, which may be empty.
+     *
+     * @return true if the input was not read to its end before.
+     */
+
+    public boolean rest() {
+        if (isFinished) {
+            return false;
+        }
+        tokenStart = position;
+        tokenEnd = end;
+        position = end;
+        isFinished = true;
+        return true;
+    }
+
+    /**
+     * Returns whether anything is left to read.
+     *
+     * @return true if the input is not read to its end.
+     */
+
+    public boolean hasMore() {
+        return !isFinished && position < end;
+    }
+
+    /**
+     * Returns the argument read last.
+     *
+     * @return the argument read last, or an empty string if nothing was read.
+     */
+
+    public String token() {
+        return input.subSequence(tokenStart, tokenEnd).toString();
+    }
+
+    /**
+     * Returns the argument read last without its leading and trailing whitespace.
+     *
+     * @return the trimmed argument read last.
+     */
+
+    public String trimmedToken() {
+        int trimmedStart = tokenStart;
+        int trimmedEnd = tokenEnd;
+        while (trimmedStart < trimmedEnd && isWhitespace(input.charAt(trimmedStart))) {
+            trimmedStart++;
+        }
+        while (trimmedEnd > trimmedStart && isWhitespace(input.charAt(trimmedEnd - 1))) {
+            trimmedEnd--;
+        }
+        return input.subSequence(trimmedStart, trimmedEnd).toString();
+    }
+
+    /**
+     * Returns a tokenizer over the argument read last, sharing the input without copying it.
+     *
+     * @return a new tokenizer over the trimmed argument read last.
+     */
+
+    public Tokenizer tokenizeToken() {
+        return new Tokenizer(input, tokenStart, tokenEnd);
+    }
+
+    /**
+     * Returns whether the argument read last has only whitespace.
+     *
+     * @return true if the argument read last is empty or blank.
+     */
+
+    public boolean isTokenBlank() {
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            if (!isWhitespace(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(String delimiter, int from) {
+        int last = end - delimiter.length();
+        char first = delimiter.charAt(0);
+        for (int i = from; i <= last; i++) {
+            if (input.charAt(i) != first) {
+                continue;
+            }
+            int matched = 1;
+            while (matched < delimiter.length() && input.charAt(i + matched) == delimiter.charAt(matched)) {
+                matched++;
+            }
+            if (matched == delimiter.length()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c <= ' ';
+    }
+
+}
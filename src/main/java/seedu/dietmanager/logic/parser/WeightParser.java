@@ -15,19 +15,13 @@ public class WeightParser {
      * Minimum boundary Weight value.
      */
 
-    private static double MIN_WEIGHT = 0.00;
+    private static final double MIN_WEIGHT = 0.00;
 
     /**
      * Maximum boundary Weight value.
      */
 
-    private static double MAX_WEIGHT = 500.00;
-
-    /**
-     * Weight value parsed from user input.
-     */
-
-    private static Optional<Double> weight;
+    private static final double MAX_WEIGHT = 500.00;
 
     /**
      * Validate the user input and parsing it into a valid Weight.
@@ -38,6 +32,7 @@ public class WeightParser {
      */
 
     public static double parseWeight(String description) throws InvalidWeightException {
+        Optional<Double> weight;
         try {
             weight = Optional.ofNullable(Double.parseDouble(description));
         } catch (NumberFormatException e) {
@@ -46,15 +41,17 @@ public class WeightParser {
         if (weight.isEmpty() || (weight.get() <= MIN_WEIGHT || weight.get() >= MAX_WEIGHT)) {
             throw new InvalidWeightException();
         }
-        testAssertions();
+        testAssertions(weight);
         return weight.get();
     }
 
     /**
      * Assertion testing for Weight.
+     *
+     * @param weight the parsed Weight.
      */
 
-    public static void testAssertions() {
+    public static void testAssertions(Optional<Double> weight) {
         assert (weight.isPresent());
         assert (weight.get() > MIN_WEIGHT);
         assert (weight.get() < MAX_WEIGHT);
@@ -0,0 +1,156 @@
+package seedu.dietmanager.model;
+
+import java.util.Arrays;
+
+/**
+ * CaloriesRangeIndex is the public class answering calories queries over a range of days in O(log n). <br>
+ * It is a segment tree over a window of consecutive epoch days, where each node holds the total calories,
+ * the number of days with calories data and the lowest and highest calories of a day in its range.
+ * The window doubles whenever a day outside it is updated, so that days are added in amortized O(log n).
+ */
+
+public class CaloriesRangeIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * The epoch day of the first leaf.
+     */
+
+    private long firstDay;
+
+    /**
+     * The number of leaves, always a power of two, or zero before the first update.
+     */
+
+    private int capacity = 0;
+
+    private double[] totals = new double[0];
+
+    private int[] dayCounts = new int[0];
+
+    private double[] mins = new double[0];
+
+    private double[] maxs = new double[0];
+
+    /**
+     * Sets the calories of a day.
+     *
+     * @param epochDay    the epoch day of the day.
+     * @param calories    the calories of the day.
+     * @param hasCalories whether the day has calories data.
+     */
+
+    public void update(long epochDay, double calories, boolean hasCalories) {
+        if (capacity == 0 || epochDay < firstDay || epochDay >= firstDay + capacity) {
+            if (!hasCalories) {
+                return;
+            }
+            this.grow(epochDay);
+        }
+        int node = (int) (epochDay - firstDay) + capacity;
+        totals[node] = hasCalories ? calories : 0;
+        dayCounts[node] = hasCalories ? 1 : 0;
+        mins[node] = hasCalories ? calories : Double.POSITIVE_INFINITY;
+        maxs[node] = hasCalories ? calories : Double.NEGATIVE_INFINITY;
+        for (node >>= 1; node > 0; node >>= 1) {
+            this.combine(node);
+        }
+    }
+
+    /**
+     * Returns the calories intake from one day to another, both inclusive.
+     *
+     * @param fromDay the epoch day of the first day.
+     * @param toDay   the epoch day of the last day.
+     * @return the calories intake of the days.
+     */
+
+    public CaloriesSummary query(long fromDay, long toDay) {
+        double total = 0;
+        int dayCount = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        long first = Math.max(fromDay, firstDay);
+        long last = Math.min(toDay, firstDay + capacity - 1);
+        if (capacity > 0 && first <= last) {
+            int left = (int) (first - firstDay) + capacity;
+            int right = (int) (last - firstDay) + capacity + 1;
+            while (left < right) {
+                if ((left & 1) == 1) {
+                    total += totals[left];
+                    dayCount += dayCounts[left];
+                    min = Math.min(min, mins[left]);
+                    max = Math.max(max, maxs[left]);
+                    left++;
+                }
+                if ((right & 1) == 1) {
+                    right--;
+                    total += totals[right];
+                    dayCount += dayCounts[right];
+                    min = Math.min(min, mins[right]);
+                    max = Math.max(max, maxs[right]);
+                }
+                left >>= 1;
+                right >>= 1;
+            }
+        }
+        return dayCount == 0 ? new CaloriesSummary(0, 0, 0, 0) : new CaloriesSummary(total, dayCount, min, max);
+    }
+
+    /**
+     * Widens the window of days to include a day, keeping the calories of the days already in the window.
+     *
+     * @param epochDay the epoch day to include.
+     */
+
+    private void grow(long epochDay) {
+        long newFirstDay;
+        int newCapacity;
+        if (capacity == 0) {
+            newCapacity = INITIAL_CAPACITY;
+            newFirstDay = epochDay - INITIAL_CAPACITY / 2;
+        } else {
+            long lastDay = Math.max(firstDay + capacity - 1, epochDay);
+            long spanFirstDay = Math.min(firstDay, epochDay);
+            newCapacity = capacity;
+            while (newCapacity < lastDay - spanFirstDay + 1) {
+                newCapacity *= 2;
+            }
+            newFirstDay = epochDay < firstDay ? lastDay - newCapacity + 1 : firstDay;
+        }
+
+        double[] newTotals = new double[2 * newCapacity];
+        int[] newDayCounts = new int[2 * newCapacity];
+        double[] newMins = new double[2 * newCapacity];
+        double[] newMaxs = new double[2 * newCapacity];
+        Arrays.fill(newMins, Double.POSITIVE_INFINITY);
+        Arrays.fill(newMaxs, Double.NEGATIVE_INFINITY);
+        int offset = (int) (firstDay - newFirstDay) + newCapacity;
+        for (int i = 0; i < capacity; i++) {
+            newTotals[offset + i] = totals[capacity + i];
+            newDayCounts[offset + i] = dayCounts[capacity + i];
+            newMins[offset + i] = mins[capacity + i];
+            newMaxs[offset + i] = maxs[capacity + i];
+        }
+        this.firstDay = newFirstDay;
+        this.capacity = newCapacity;
+        this.totals = newTotals;
+        this.dayCounts = newDayCounts;
+        this.mins = newMins;
+        this.maxs = newMaxs;
+        for (int node = newCapacity - 1; node > 0; node--) {
+            this.combine(node);
+        }
+    }
+
+    private void combine(int node) {
+        int left = 2 * node;
+        int right = left + 1;
+        totals[node] = totals[left] + totals[right];
+        dayCounts[node] = dayCounts[left] + dayCounts[right];
+        mins[node] = Math.min(mins[left], mins[right]);
+        maxs[node] = Math.max(maxs[left], maxs[right]);
+    }
+
+}
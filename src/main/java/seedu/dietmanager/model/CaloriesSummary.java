@@ -0,0 +1,60 @@
+package seedu.dietmanager.model;
+
+/**
+ * CaloriesSummary is the public class representing the calories intake over a period of days,
+ * counting only the days with calories data.
+ */
+
+public class CaloriesSummary {
+
+    private double totalCalories;
+
+    private int dayCount;
+
+    private double minCalories;
+
+    private double maxCalories;
+
+    /**
+     * Constructs the CaloriesSummary object.
+     *
+     * @param totalCalories the total calories of the period.
+     * @param dayCount      the number of days with calories data.
+     * @param minCalories   the lowest calories of a day with calories data.
+     * @param maxCalories   the highest calories of a day with calories data.
+     */
+
+    public CaloriesSummary(double totalCalories, int dayCount, double minCalories, double maxCalories) {
+        this.totalCalories = totalCalories;
+        this.dayCount = dayCount;
+        this.minCalories = minCalories;
+        this.maxCalories = maxCalories;
+    }
+
+    public double getTotalCalories() {
+        return this.totalCalories;
+    }
+
+    public int getDayCount() {
+        return this.dayCount;
+    }
+
+    public double getMinCalories() {
+        return this.minCalories;
+    }
+
+    public double getMaxCalories() {
+        return this.maxCalories;
+    }
+
+    /**
+     * Returns the average calories of the days with calories data.
+     *
+     * @return the average calories, or zero if no day has calories data.
+     */
+
+    public double getAverageCalories() {
+        return this.dayCount == 0 ? 0 : this.totalCalories / this.dayCount;
+    }
+
+}
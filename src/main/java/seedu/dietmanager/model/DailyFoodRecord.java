@@ -6,10 +6,36 @@ import java.util.ArrayList;
 import java.util.Optional;
 
 public class DailyFoodRecord {
+    private static final int MEAL_TYPE_COUNT = 3;
     private String date;
     private ArrayList<Food> morning;
     private ArrayList<Food> afternoon;
     private ArrayList<Food> night;
+    private boolean isModified;
+
+    /**
+     * The sum of the calories of the foods with calories data in each meal, indexed by {@code toMealIndex}.
+     */
+
+    private double[] mealCalories = new double[MEAL_TYPE_COUNT];
+
+    /**
+     * The number of foods with calories data in each meal.
+     */
+
+    private int[] caloriesFoodCounts = new int[MEAL_TYPE_COUNT];
+
+    /**
+     * The number of foods without calories data in each meal.
+     */
+
+    private int[] missingCaloriesCounts = new int[MEAL_TYPE_COUNT];
+
+    /**
+     * The action run whenever the calorie totals change, if any.
+     */
+
+    private Runnable caloriesListener;
 
     /**
      * Constructs the Daily Food Record.
@@ -45,22 +71,26 @@ public class DailyFoodRecord {
      *
      * @param mealType type of this meal, divided by time period.
      * @param foodList the list of foods.
+     * @return true if the meal type is valid and the foods are recorded, false otherwise.
      */
 
-    public void recordMeals(String mealType, ArrayList<Food> foodList) {
-        switch (mealType) {
-        case "morning":
-            this.morning.addAll(foodList);
-            break;
-        case "afternoon":
-            this.afternoon.addAll(foodList);
-            break;
-        case "night":
-            this.night.addAll(foodList);
-            break;
-        default:
-            break;
+    public boolean recordMeals(String mealType, ArrayList<Food> foodList) {
+        int mealIndex = toMealIndex(mealType);
+        if (mealIndex < 0) {
+            return false;
         }
+        getDailyFood(mealType).addAll(foodList);
+        for (Food food : foodList) {
+            if (food.hasCaloriesData()) {
+                mealCalories[mealIndex] += food.getCalories().get();
+                caloriesFoodCounts[mealIndex]++;
+            } else {
+                missingCaloriesCounts[mealIndex]++;
+            }
+        }
+        this.isModified = true;
+        this.notifyCaloriesChanged();
+        return true;
     }
 
     /**
@@ -69,21 +99,68 @@ public class DailyFoodRecord {
      * @param mealType type of this meal, divided by time period.
      */
     public void clearRecords(String mealType) {
+        int mealIndex = toMealIndex(mealType);
+        if (mealIndex < 0) {
+            return;
+        }
+        getDailyFood(mealType).clear();
+        mealCalories[mealIndex] = 0;
+        caloriesFoodCounts[mealIndex] = 0;
+        missingCaloriesCounts[mealIndex] = 0;
+        this.isModified = true;
+        this.notifyCaloriesChanged();
+    }
+
+    /**
+     * Sets the action run whenever the calorie totals of this record change.
+     *
+     * @param caloriesListener the action to run.
+     */
+
+    public void setCaloriesListener(Runnable caloriesListener) {
+        this.caloriesListener = caloriesListener;
+    }
+
+    private void notifyCaloriesChanged() {
+        if (caloriesListener != null) {
+            caloriesListener.run();
+        }
+    }
+
+    /**
+     * Returns the index of a meal type in the running totals.
+     *
+     * @param mealType type of the meal, divided by time period.
+     * @return the index of the meal type, or -1 if the meal type is invalid.
+     */
+
+    private static int toMealIndex(String mealType) {
         switch (mealType) {
         case "morning":
-            this.morning.clear();
-            break;
+            return 0;
         case "afternoon":
-            this.afternoon.clear();
-            break;
+            return 1;
         case "night":
-            this.night.clear();
-            break;
+            return 2;
         default:
-            break;
+            return -1;
         }
     }
 
+    /**
+     * Returns whether the meals in this record have changed since the record was last saved.
+     *
+     * @return true if this record has unsaved changes.
+     */
+
+    public boolean isModified() {
+        return this.isModified;
+    }
+
+    public void setModified(boolean isModified) {
+        this.isModified = isModified;
+    }
+
     /**
      * Displays the Daily Breakfast Record.
      */
@@ -130,7 +207,7 @@ public class DailyFoodRecord {
     }
 
     public boolean isDate(String date) {
-        return this.date.toLowerCase().equals(date.toLowerCase());
+        return this.date.equalsIgnoreCase(date);
     }
 
     /**
@@ -147,7 +224,8 @@ public class DailyFoodRecord {
     }
 
     /**
-     * Provide a ArrayList of the foods consumed in a specific time frame of a day.
+     * Provide a ArrayList of the foods consumed in a specific time frame of a day. <br>
+     * The list must not be modified directly, so that it stays in sync with the calorie totals.
      *
      * @return ArrayList of all the foods consumed in a day
      */
@@ -170,11 +248,7 @@ public class DailyFoodRecord {
      * @return Optional double of the calories intake if exist, and Optional empty otherwise.
      */
     public Optional<Double> getDailyCalories() {
-        ArrayList<Food> allDailyFood = getDailyFood();
-        return allDailyFood.stream().filter(Food::hasCaloriesData)
-                .map(Food::getCalories)
-                .map(Optional::get)
-                .reduce(Double::sum);
+        return hasCalculableCalories() ? Optional.of(getCalculableCalories()) : Optional.empty();
     }
 
     /**
@@ -183,11 +257,31 @@ public class DailyFoodRecord {
      * @return Optional double of the calories intake if exist, and Optional empty otherwise.
      */
     public Optional<Double> getDailyCalories(String timeFrame) {
-        ArrayList<Food> foodInTimeFrame = getDailyFood(timeFrame);
-        return foodInTimeFrame.stream().filter(Food::hasCaloriesData)
-                .map(Food::getCalories)
-                .map(Optional::get)
-                .reduce(Double::sum);
+        int mealIndex = toMealIndex(timeFrame);
+        if (mealIndex < 0 || caloriesFoodCounts[mealIndex] == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(mealCalories[mealIndex]);
+    }
+
+    /**
+     * Returns the total calories of the foods with calories data in all the meals, from the running totals.
+     *
+     * @return the total calories, or zero if no food has calories data.
+     */
+
+    public double getCalculableCalories() {
+        return mealCalories[0] + mealCalories[1] + mealCalories[2];
+    }
+
+    /**
+     * Checks if any food in the meals has calories data.
+     *
+     * @return true if at least one food has calories data, false otherwise.
+     */
+
+    public boolean hasCalculableCalories() {
+        return caloriesFoodCounts[0] + caloriesFoodCounts[1] + caloriesFoodCounts[2] > 0;
     }
 
     /**
@@ -196,11 +290,7 @@ public class DailyFoodRecord {
      * @return False if there exist food without calories, true otherwise.
      */
     public boolean isCaloriesPresent() {
-        ArrayList<Food> allDailyFood = getDailyFood();
-        return allDailyFood.stream().filter(food -> !food.hasCaloriesData())
-                .map(food -> false)
-                .reduce((first, second) -> first)
-                .orElse(true);
+        return missingCaloriesCounts[0] + missingCaloriesCounts[1] + missingCaloriesCounts[2] == 0;
     }
 
     /**
@@ -209,11 +299,8 @@ public class DailyFoodRecord {
      * @return False if there exist food without calories, true otherwise.
      */
     public boolean isCaloriesPresent(String timeFrame) {
-        ArrayList<Food> allDailyFood = getDailyFood(timeFrame);
-        return allDailyFood.stream().filter(food -> !food.hasCaloriesData())
-                .map(food -> false)
-                .reduce((first, second) -> first)
-                .orElse(true);
+        int mealIndex = toMealIndex(timeFrame);
+        return mealIndex < 0 || missingCaloriesCounts[mealIndex] == 0;
     }
 
     /**
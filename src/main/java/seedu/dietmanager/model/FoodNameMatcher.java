@@ -0,0 +1,337 @@
+package seedu.dietmanager.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * FoodNameMatcher is the public class responsible for finding the food name closest to a misspelt name. <br>
+ * Every food name is indexed by its trigrams. A name within {@code k} edits of the misspelt name shares all but
+ * at most {@code 3k} of its trigrams, so of any {@code 3k + n} of them it must appear in the postings of at least
+ * {@code n}. Only the shortest postings are read, and only the names found often enough in them are compared
+ * by edit distance.
+ */
+
+public class FoodNameMatcher {
+
+    /**
+     * The smallest similarity, one minus the edit distance over the length of the misspelt name,
+     * for a food name to be taken as the intended name.
+     */
+
+    private static final double MIN_SIMILARITY = 0.75;
+
+    /**
+     * The largest edit distance accepted, however long the name is.
+     */
+
+    private static final int MAX_EDIT_DISTANCE = 2;
+
+    /**
+     * The number of characters in a gram.
+     */
+
+    private static final int GRAM_LENGTH = 3;
+
+    /**
+     * Pads the start and end of the names, so that the first and last characters form grams of their own.
+     */
+
+    private static final char PADDING = '\u0000';
+
+    /**
+     * The number of ids read from the postings of a search, up to which postings beyond the fewest needed are read.
+     * A name within the edit distance may miss at most {@code 3k} of the grams read, so reading more postings
+     * leaves fewer names to compare by edit distance.
+     */
+
+    private static final int MAX_IDS_TO_READ = 50_000;
+
+    /**
+     * The smallest number of removed names before the index is rebuilt without them.
+     */
+
+    private static final int MIN_REMOVED_NAMES_TO_REBUILD = 1024;
+
+    /**
+     * The indexed names by their id. A removed name leaves a {@code null} behind until the index is rebuilt.
+     */
+
+    private List<String> names = new ArrayList<>();
+
+    private Map<String, Integer> nameIds = new HashMap<>();
+
+    /**
+     * The ids of the names containing each gram, in increasing order.
+     */
+
+    private Map<Long, Postings> gramPostings = new HashMap<>();
+
+    private int removedNameCount = 0;
+
+    /**
+     * The working arrays of the searches of each thread, so that threads can search the same index at once
+     * while it is not changed.
+     */
+
+    private static final ThreadLocal<SearchState> SEARCH_STATES = ThreadLocal.withInitial(SearchState::new);
+
+    /**
+     * Constructs the FoodNameMatcher object with the names to index.
+     *
+     * @param names the names to index.
+     */
+
+    public FoodNameMatcher(Collection<String> names) {
+        for (String name : names) {
+            this.add(name);
+        }
+    }
+
+    /**
+     * Adds a name to the index, unless it is already indexed.
+     *
+     * @param name the name to add.
+     */
+
+    public void add(String name) {
+        if (nameIds.containsKey(name)) {
+            return;
+        }
+        int id = names.size();
+        names.add(name);
+        nameIds.put(name, id);
+        for (long gram : toGrams(name)) {
+            gramPostings.computeIfAbsent(gram, key -> new Postings()).add(id);
+        }
+    }
+
+    /**
+     * Removes a name from the index.
+     *
+     * @param name the name to remove.
+     */
+
+    public void remove(String name) {
+        Integer id = nameIds.remove(name);
+        if (id == null) {
+            return;
+        }
+        names.set(id, null);
+        removedNameCount++;
+        if (removedNameCount >= MIN_REMOVED_NAMES_TO_REBUILD && removedNameCount > nameIds.size()) {
+            this.rebuild();
+        }
+    }
+
+    /**
+     * Finds the indexed name closest to a name by edit distance, if it is similar enough to be the intended name.
+     * Of names equally close, the first in alphabetical order is returned.
+     *
+     * @param name the name to match.
+     * @return the closest indexed name, or empty if no indexed name is similar enough.
+     */
+
+    public Optional<String> findClosest(String name) {
+        if (nameIds.containsKey(name)) {
+            return Optional.of(name);
+        }
+        int maxDistance = Math.min(MAX_EDIT_DISTANCE, (int) (name.length() * (1 - MIN_SIMILARITY)));
+        if (maxDistance == 0) {
+            return Optional.empty();
+        }
+
+        Postings[] postingsOfGrams = this.findPostingsOfGrams(name);
+        Arrays.sort(postingsOfGrams, (first, second) -> Integer.compare(first.size, second.size));
+        int maxMissingGrams = GRAM_LENGTH * maxDistance;
+        int postingsToRead = Math.min(postingsOfGrams.length, maxMissingGrams + 1);
+        int idsToRead = 0;
+        for (int i = 0; i < postingsOfGrams.length; i++) {
+            idsToRead += postingsOfGrams[i].size;
+            if (i >= postingsToRead && idsToRead <= MAX_IDS_TO_READ) {
+                postingsToRead = i + 1;
+            }
+        }
+        SearchState state = SEARCH_STATES.get();
+        this.startSearch(state);
+
+        int minSharedGrams = Math.max(1, postingsToRead - maxMissingGrams);
+        String closestName = null;
+        int closestDistance = maxDistance + 1;
+        for (int i = 0; i < postingsToRead; i++) {
+            Postings postings = postingsOfGrams[i];
+            for (int j = 0; j < postings.size; j++) {
+                int id = postings.ids[j];
+                if (state.searchMarks[id] != state.searchCount) {
+                    state.searchMarks[id] = state.searchCount;
+                    state.sharedGramCounts[id] = 0;
+                }
+                if (++state.sharedGramCounts[id] != minSharedGrams || names.get(id) == null) {
+                    continue;
+                }
+                String candidate = names.get(id);
+                int distance = findEditDistance(state, name, candidate, closestDistance);
+                if (distance < closestDistance || (distance == closestDistance && distance <= maxDistance
+                        && candidate.compareTo(closestName) < 0)) {
+                    closestName = candidate;
+                    closestDistance = distance;
+                }
+            }
+        }
+        return Optional.ofNullable(closestName);
+    }
+
+    /**
+     * Starts a new search, so that the shared gram counts of the previous search are ignored.
+     */
+
+    private void startSearch(SearchState state) {
+        if (state.searchMarks.length < names.size()) {
+            int length = Math.max(names.size(), state.searchMarks.length * 2);
+            state.searchMarks = Arrays.copyOf(state.searchMarks, length);
+            state.sharedGramCounts = Arrays.copyOf(state.sharedGramCounts, length);
+        }
+        state.searchCount++;
+    }
+
+    /**
+     * Returns the postings of each distinct gram of the name, with empty postings for grams not indexed.
+     */
+
+    private Postings[] findPostingsOfGrams(String name) {
+        long[] grams = toGrams(name);
+        Postings[] postingsOfGrams = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            postingsOfGrams[i] = gramPostings.getOrDefault(grams[i], Postings.EMPTY);
+        }
+        return postingsOfGrams;
+    }
+
+    /**
+     * Returns the edit distance between two names, or {@code limit + 1} as soon as it is known to exceed the limit.
+     * Only the cells within {@code limit} of the diagonal are computed, as no path through the other cells
+     * stays within the limit.
+     */
+
+    private static int findEditDistance(SearchState state, String first, String second, int limit) {
+        if (Math.abs(first.length() - second.length()) > limit) {
+            return limit + 1;
+        }
+        int outOfLimit = limit + 1;
+        if (state.previousRow.length <= second.length()) {
+            state.previousRow = new int[second.length() * 2];
+            state.currentRow = new int[second.length() * 2];
+        }
+        int[] previousRow = state.previousRow;
+        int[] currentRow = state.currentRow;
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j <= limit ? j : outOfLimit;
+            currentRow[j] = outOfLimit;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int bandStart = Math.max(1, i - limit);
+            int bandEnd = Math.min(second.length(), i + limit);
+            currentRow[bandStart - 1] = bandStart == 1 ? Math.min(i, outOfLimit) : outOfLimit;
+            int rowMinimum = currentRow[bandStart - 1];
+            char character = first.charAt(i - 1);
+            for (int j = bandStart; j <= bandEnd; j++) {
+                int substitution = previousRow[j - 1] + (character == second.charAt(j - 1) ? 0 : 1);
+                currentRow[j] = Math.min(substitution, Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > limit) {
+                return outOfLimit;
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return Math.min(previousRow[second.length()], outOfLimit);
+    }
+
+    private void rebuild() {
+        List<String> remainingNames = new ArrayList<>(nameIds.size());
+        for (String name : names) {
+            if (name != null) {
+                remainingNames.add(name);
+            }
+        }
+        names = new ArrayList<>(remainingNames.size());
+        nameIds = new HashMap<>();
+        gramPostings = new HashMap<>();
+        removedNameCount = 0;
+        for (String name : remainingNames) {
+            this.add(name);
+        }
+    }
+
+    /**
+     * Returns the distinct grams of the padded name, each packed into a long.
+     */
+
+    private static long[] toGrams(String name) {
+        String paddedName = "" + PADDING + PADDING + name + PADDING;
+        long[] grams = new long[paddedName.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (long) paddedName.charAt(i) << 32 | (long) paddedName.charAt(i + 1) << 16
+                    | paddedName.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /**
+     * Holds the working arrays of the searches of one thread.
+     */
+
+    private static class SearchState {
+
+        /**
+         * Marks the names found in the postings of the current search, by the number of the search.
+         */
+
+        private int[] searchMarks = new int[16];
+
+        /**
+         * The number of grams of the name being matched found in each marked name.
+         */
+
+        private int[] sharedGramCounts = new int[16];
+
+        /**
+         * The number of searches of the thread, across all indexes.
+         */
+
+        private int searchCount = 0;
+
+        private int[] previousRow = new int[16];
+
+        private int[] currentRow = new int[16];
+
+    }
+
+    /**
+     * Holds the ids of the names containing a gram.
+     */
+
+    private static class Postings {
+
+        private static final Postings EMPTY = new Postings();
+
+        private int[] ids = new int[4];
+
+        private int size = 0;
+
+        private void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+    }
+
+}
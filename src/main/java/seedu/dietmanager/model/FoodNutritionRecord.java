@@ -3,36 +3,148 @@ package seedu.dietmanager.model;
 import seedu.dietmanager.commons.core.MessageBank;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * FoodNutritionRecord is the public class holding the database of foods and their calories. <br>
+ * The foods are stored column by column: the names, the calories as primitive doubles and a bitset of the foods
+ * with calories data, with the same position in each column. {@code Food} objects are only created when a food
+ * is returned, so the database holds no object per food other than its name.
+ */
 
 public class FoodNutritionRecord {
 
-    private List<Food> foodNutritionRecordList = new ArrayList<>();
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Marks an empty position in the hash table of food keys.
+     */
+
+    private static final int EMPTY_POSITION = -1;
+
+    /**
+     * The names of the foods, in the order they were added. A deleted food leaves a {@code null} behind
+     * until the columns are compacted.
+     */
+
+    private String[] foodNames = new String[INITIAL_CAPACITY];
+
+    /**
+     * The names of the foods in standard form. For a name already in standard form, this is the same string.
+     */
+
+    private String[] foodKeys = new String[INITIAL_CAPACITY];
+
+    private double[] foodCalories = new double[INITIAL_CAPACITY];
+
+    /**
+     * Marks the positions of the foods with calories data.
+     */
+
+    private BitSet hasCalories = new BitSet();
+
+    /**
+     * The number of positions used in the columns, including those of deleted foods.
+     */
+
+    private int usedCount = 0;
+
+    private int deletedCount = 0;
+
+    /**
+     * Counts the changes made to the foods of the database, so that results computed from the database can tell
+     * when they are out of date.
+     */
+
+    private long version = 0;
+
+    /**
+     * Indexes the foods by their name in standard form, as an open addressing hash table of column positions.
+     * A position of a deleted food is skipped over until the columns are compacted.
+     */
+
+    private int[] keyTable = newKeyTable(INITIAL_CAPACITY * 2);
+
+    /**
+     * The keys of the food index in sorted order, to find all foods whose name starts with a prefix.
+     */
+
+    private NavigableSet<String> sortedFoodKeys = new TreeSet<>();
+
+    /**
+     * Matches misspelt food names to the keys of the food index. It is built on the first fuzzy search, or
+     * before the database is shared, and kept in sync with the food index from then on.
+     */
+
+    private volatile FoodNameMatcher foodNameMatcher = null;
     private static FoodNutritionRecord theOne = null;
+    private boolean isModified = false;
 
     /**
      * Public constructor for FoodNutritionInfo of Food from our database.
      */
 
-    private FoodNutritionRecord() {
-        foodNutritionRecordList.add(new Food("chicken-rice", 702));
-        foodNutritionRecordList.add(new Food("fried-rice", 508));
-        foodNutritionRecordList.add(new Food("chicken-curry", 450));
-        foodNutritionRecordList.add(new Food("prawn-noodles", 459));
-        foodNutritionRecordList.add(new Food("fishball-noodles", 330));
-        foodNutritionRecordList.add(new Food("cheeseburger", 300));
-        foodNutritionRecordList.add(new Food("white-bread", 77));
-        foodNutritionRecordList.add(new Food("french-fries", 450));
-        foodNutritionRecordList.add(new Food("orange-juice", 80));
-        foodNutritionRecordList.add(new Food("soft-drink", 120));
-        foodNutritionRecordList.add(new Food("fresh-milk", 163));
+    public FoodNutritionRecord() {
+        this(true);
     }
 
     /**
-     * Returns the only instance, if it doesn't exist, create one first.
+     * Constructs a database with the default foods, or with no foods for a subclass that holds its foods
+     * elsewhere, so that the columns it does not use hold no foods.
      *
-     * @return the only instance of FoodNutritionInfo
+     * @param hasDefaultFoods whether to add the default foods.
+     */
+
+    protected FoodNutritionRecord(boolean hasDefaultFoods) {
+        if (!hasDefaultFoods) {
+            return;
+        }
+        this.addToDatabase("chicken-rice", 702);
+        this.addToDatabase("fried-rice", 508);
+        this.addToDatabase("chicken-curry", 450);
+        this.addToDatabase("prawn-noodles", 459);
+        this.addToDatabase("fishball-noodles", 330);
+        this.addToDatabase("cheeseburger", 300);
+        this.addToDatabase("white-bread", 77);
+        this.addToDatabase("french-fries", 450);
+        this.addToDatabase("orange-juice", 80);
+        this.addToDatabase("soft-drink", 120);
+        this.addToDatabase("fresh-milk", 163);
+    }
+
+    /**
+     * Constructs a compacted copy of a database, with the same foods and version.
+     *
+     * @param other the database to copy.
+     */
+
+    FoodNutritionRecord(FoodNutritionRecord other) {
+        this.foodNames = other.foodNames.clone();
+        this.foodKeys = other.foodKeys.clone();
+        this.foodCalories = other.foodCalories.clone();
+        this.hasCalories = (BitSet) other.hasCalories.clone();
+        this.usedCount = other.usedCount;
+        this.deletedCount = other.deletedCount;
+        this.version = other.version;
+        this.keyTable = other.keyTable.clone();
+        this.sortedFoodKeys = new TreeSet<>(other.sortedFoodKeys);
+        this.isModified = other.isModified;
+        this.compact();
+    }
+
+    /**
+     * Returns the database shared by default profiles, if it doesn't exist, create one first. <br>
+     * A session with its own data directory constructs its own database instead.
+     *
+     * @return the shared instance of FoodNutritionInfo
      */
 
     public static FoodNutritionRecord getInstance() {
@@ -49,17 +161,50 @@ public class FoodNutritionRecord {
      * @return Optional Food that contains the food if exist, and is empty otherwise.
      */
     public Optional<Food> findFood(String foodName) {
-        Optional<Food> foodFound = Optional.empty();
-        for (Food food : foodNutritionRecordList) {
-            if (food.getFoodName().toLowerCase().equals(foodName.toLowerCase())) {
-                foodFound = Optional.of(food);
+        int position = findPosition(toKey(foodName));
+        return position == EMPTY_POSITION ? Optional.empty() : Optional.of(toFood(position));
+    }
+
+    /**
+     * Searches for the foods whose name starts with a prefix, in order of their name.
+     *
+     * @param prefix the start of the food names, ignoring case and treating spaces as hyphens.
+     * @param limit  the maximum number of foods to return.
+     * @return the first foods, in order of their name, whose name starts with the prefix.
+     */
+
+    public List<Food> searchFood(String prefix, int limit) {
+        String prefixKey = toKey(prefix);
+        List<Food> foodsFound = new ArrayList<>();
+        for (String foodKey : sortedFoodKeys.tailSet(prefixKey, true)) {
+            if (foodsFound.size() >= limit || !foodKey.startsWith(prefixKey)) {
+                break;
             }
+            foodsFound.add(toFood(findPosition(foodKey)));
         }
-        return foodFound;
+        return foodsFound;
+    }
+
+    /**
+     * Search for the food in the database whose name is closest to a possibly misspelt name.
+     *
+     * @param foodName The name of the food to be searched for.
+     * @return Optional Food that contains the food of the same name if it exists, or else the food whose name
+     *     is within a few typing errors of the name, and is empty if there is no such food.
+     */
+
+    public Optional<Food> findClosestFood(String foodName) {
+        FoodNameMatcher matcher = foodNameMatcher;
+        if (matcher == null) {
+            matcher = new FoodNameMatcher(sortedFoodKeys);
+            foodNameMatcher = matcher;
+        }
+        return matcher.findClosest(toKey(foodName)).map(foodKey -> toFood(findPosition(foodKey)));
     }
 
     public Food findFood(int index) {
-        return foodNutritionRecordList.get(index);
+        this.compact();
+        return toFood(Objects.checkIndex(index, usedCount));
     }
 
     /**
@@ -69,14 +214,7 @@ public class FoodNutritionRecord {
      * @return True if food exist in database, false otherwise.
      */
     public boolean isInDatabase(String foodName) {
-        boolean isFoodFound = false;
-        for (Food food : foodNutritionRecordList) {
-            if (food.getFoodName().toLowerCase().equals(foodName.toLowerCase())) {
-                isFoodFound = true;
-                break;
-            }
-        }
-        return isFoodFound;
+        return findPosition(toKey(foodName)) != EMPTY_POSITION;
     }
 
     /**
@@ -84,8 +222,10 @@ public class FoodNutritionRecord {
      */
     public String showFoodDatabase() {
         StringBuilder foodDatabase = new StringBuilder(MessageBank.FOOD_DATABASE_MESSAGE);
-        for (Food food : foodNutritionRecordList) {
-            foodDatabase.append(food);
+        for (int position = 0; position < usedCount; position++) {
+            if (foodNames[position] != null) {
+                foodDatabase.append(toFood(position));
+            }
         }
         return foodDatabase.toString();
     }
@@ -99,12 +239,13 @@ public class FoodNutritionRecord {
      */
 
     public boolean addFoodNutritionRecord(String foodName, Double calories) {
-        if (!isInDatabase(foodName)) {
-            foodNutritionRecordList.add(new Food(foodName, calories));
-            return true;
-        } else {
-            return false;
+        boolean isAdded = calories == null
+                ? this.addFoodName(foodName) != EMPTY_POSITION : this.addToDatabase(foodName, calories);
+        if (isAdded) {
+            this.isModified = true;
+            this.version++;
         }
+        return isAdded;
     }
 
     /**
@@ -115,28 +256,302 @@ public class FoodNutritionRecord {
      */
 
     public boolean deleteFoodNutritionRecord(String foodName) {
-        if (findFood(foodName).isPresent()) {
-            Food toBeDeleted = findFood(foodName).get();
-            foodNutritionRecordList.remove(toBeDeleted);
-            return true;
-        } else {
+        String foodKey = toKey(foodName);
+        int position = findPosition(foodKey);
+        if (position == EMPTY_POSITION) {
             return false;
         }
+        foodNames[position] = null;
+        foodKeys[position] = null;
+        hasCalories.clear(position);
+        deletedCount++;
+        sortedFoodKeys.remove(foodKey);
+        if (foodNameMatcher != null) {
+            foodNameMatcher.remove(foodKey);
+        }
+        if (deletedCount > usedCount / 2) {
+            this.compact();
+        }
+        this.isModified = true;
+        this.version++;
+        return true;
     }
 
+    /**
+     * Returns a copy of the foods in the database, in the order they were added.
+     *
+     * @return the foods in the database.
+     */
+
     public List<Food> getFoodNutritionRecordList() {
-        return this.foodNutritionRecordList;
+        this.compact();
+        ArrayList<Food> foodList = new ArrayList<>(usedCount);
+        for (int position = 0; position < usedCount; position++) {
+            foodList.add(toFood(position));
+        }
+        return foodList;
+    }
+
+    /**
+     * Replaces the whole database with foods already known to be valid, keeping the first of any foods
+     * with the same name.
+     *
+     * @param foodList the foods of the database.
+     */
+
+    public void setFoodNutritionRecordList(List<Food> foodList) {
+        this.resetColumns(foodList.size());
+        for (Food food : foodList) {
+            if (food.hasCaloriesData()) {
+                this.addToDatabase(food.getFoodName(), food.getCalories().get());
+            } else {
+                this.addFoodName(food.getFoodName());
+            }
+        }
+        this.isModified = true;
     }
 
     public void clearFoodNutritionRecordList() {
-        this.foodNutritionRecordList.clear();
+        this.resetColumns(INITIAL_CAPACITY);
+        this.isModified = true;
+    }
+
+    private void resetColumns(int capacity) {
+        capacity = Math.max(capacity, INITIAL_CAPACITY);
+        this.foodNames = new String[capacity];
+        this.foodKeys = new String[capacity];
+        this.foodCalories = new double[capacity];
+        this.hasCalories = new BitSet(capacity);
+        this.usedCount = 0;
+        this.deletedCount = 0;
+        this.keyTable = newKeyTable(Integer.highestOneBit(capacity) * 4);
+        this.sortedFoodKeys = new TreeSet<>();
+        this.foodNameMatcher = null;
+        this.version++;
+    }
+
+    private boolean addToDatabase(String foodName, double calories) {
+        int position = this.addFoodName(foodName);
+        if (position == EMPTY_POSITION) {
+            return false;
+        }
+        foodCalories[position] = calories;
+        hasCalories.set(position);
+        return true;
+    }
+
+    /**
+     * Adds a food without calories data to the columns and the indexes, unless a food of the same name
+     * already exists.
+     *
+     * @param foodName the name of the food.
+     * @return the position of the food added, or {@code EMPTY_POSITION} if the food already exists.
+     */
+
+    private int addFoodName(String foodName) {
+        String foodKey = toKey(foodName);
+        if (findPosition(foodKey) != EMPTY_POSITION) {
+            return EMPTY_POSITION;
+        }
+        if (usedCount == foodNames.length) {
+            int capacity = foodNames.length * 2;
+            foodNames = Arrays.copyOf(foodNames, capacity);
+            foodKeys = Arrays.copyOf(foodKeys, capacity);
+            foodCalories = Arrays.copyOf(foodCalories, capacity);
+        }
+        int position = usedCount++;
+        foodNames[position] = foodName;
+        foodKeys[position] = foodKey;
+        if (usedCount * 2 > keyTable.length) {
+            this.rebuildKeyTable(keyTable.length * 2);
+        } else {
+            this.insertIntoKeyTable(foodKey, position);
+        }
+        sortedFoodKeys.add(foodKey);
+        if (foodNameMatcher != null) {
+            foodNameMatcher.add(foodKey);
+        }
+        return position;
+    }
+
+    /**
+     * Returns the food at a position of the columns.
+     */
+
+    private Food toFood(int position) {
+        if (hasCalories.get(position)) {
+            return new Food(foodNames[position], foodCalories[position]);
+        }
+        return new Food(foodNames[position]);
+    }
+
+    /**
+     * Returns the column position of the food with a key, or {@code EMPTY_POSITION} if there is no such food.
+     */
+
+    private int findPosition(String foodKey) {
+        int mask = keyTable.length - 1;
+        for (int slot = hash(foodKey) & mask; keyTable[slot] != EMPTY_POSITION; slot = (slot + 1) & mask) {
+            String key = foodKeys[keyTable[slot]];
+            if (key != null && key.equals(foodKey)) {
+                return keyTable[slot];
+            }
+        }
+        return EMPTY_POSITION;
+    }
+
+    private void insertIntoKeyTable(String foodKey, int position) {
+        int mask = keyTable.length - 1;
+        int slot = hash(foodKey) & mask;
+        while (keyTable[slot] != EMPTY_POSITION) {
+            slot = (slot + 1) & mask;
+        }
+        keyTable[slot] = position;
+    }
+
+    private void rebuildKeyTable(int size) {
+        keyTable = newKeyTable(size);
+        for (int position = 0; position < usedCount; position++) {
+            if (foodKeys[position] != null) {
+                this.insertIntoKeyTable(foodKeys[position], position);
+            }
+        }
+    }
+
+    /**
+     * Moves the foods over the positions of deleted foods, keeping them in order, so that the positions
+     * of the foods run from zero to the number of foods.
+     */
+
+    void compact() {
+        if (deletedCount == 0) {
+            return;
+        }
+        int foodCount = 0;
+        for (int position = 0; position < usedCount; position++) {
+            if (foodNames[position] != null) {
+                foodNames[foodCount] = foodNames[position];
+                foodKeys[foodCount] = foodKeys[position];
+                foodCalories[foodCount] = foodCalories[position];
+                hasCalories.set(foodCount, hasCalories.get(position));
+                foodCount++;
+            }
+        }
+        Arrays.fill(foodNames, foodCount, usedCount, null);
+        Arrays.fill(foodKeys, foodCount, usedCount, null);
+        hasCalories.clear(foodCount, usedCount);
+        usedCount = foodCount;
+        deletedCount = 0;
+        this.rebuildKeyTable(keyTable.length);
+    }
+
+    /**
+     * Builds the matcher of misspelt food names now rather than on the first fuzzy search, so that a database
+     * read by several threads is not changed by reading it.
+     */
+
+    void buildFoodNameMatcher() {
+        if (foodNameMatcher == null) {
+            foodNameMatcher = new FoodNameMatcher(sortedFoodKeys);
+        }
+    }
+
+    private static int[] newKeyTable(int size) {
+        int[] keyTable = new int[size];
+        Arrays.fill(keyTable, EMPTY_POSITION);
+        return keyTable;
+    }
+
+    private static int hash(String foodKey) {
+        int hash = foodKey.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the key of a food name in the indexes, in the standard form of {@code FoodNameParser}:
+     * lower case, with spaces replaced by hyphens.
+     *
+     * @param foodName the name of the food.
+     * @return the key of the food name.
+     */
+
+    private static String toKey(String foodName) {
+        return foodName.trim().toLowerCase(Locale.ROOT).replace(' ', '-');
+    }
+
+    /**
+     * Returns whether the database is shared by sessions running at the same time, and so is saved by its owner
+     * rather than by the storage of each session.
+     *
+     * @return true if the database is shared.
+     */
+
+    public boolean isShared() {
+        return false;
+    }
+
+    /**
+     * Returns a view of the database that does not change while it is read, for reading several foods by their
+     * index.
+     *
+     * @return the database itself.
+     */
+
+    public FoodNutritionRecord getSnapshot() {
+        return this;
+    }
+
+    /**
+     * Returns whether the database has changed since it was last saved.
+     *
+     * @return true if the database has unsaved changes.
+     */
+
+    public boolean isModified() {
+        return this.isModified;
+    }
+
+    public void setModified(boolean isModified) {
+        this.isModified = isModified;
+    }
+
+    /**
+     * Returns the version of the database, which changes whenever a food is added or deleted.
+     *
+     * @return the version of the database.
+     */
+
+    public long getVersion() {
+        return this.version;
     }
 
     public int getListSize() {
-        return this.foodNutritionRecordList.size();
+        return this.usedCount - this.deletedCount;
+    }
+
+    public String getFoodName(int index) {
+        this.compact();
+        return foodNames[Objects.checkIndex(index, usedCount)];
+    }
+
+    public boolean hasCaloriesData(int index) {
+        this.compact();
+        return hasCalories.get(Objects.checkIndex(index, usedCount));
     }
 
+    /**
+     * Returns the calories of the food at an index of the database, straight from the column of calories.
+     *
+     * @param index the index of the food.
+     * @return the calories of the food.
+     * @throws NoSuchElementException if the food has no calories data.
+     */
+
     public double getFoodCalories(int index) {
-        return foodNutritionRecordList.get(index).getCalories().get();
+        this.compact();
+        if (!hasCalories.get(Objects.checkIndex(index, usedCount))) {
+            throw new NoSuchElementException();
+        }
+        return foodCalories[index];
     }
 }
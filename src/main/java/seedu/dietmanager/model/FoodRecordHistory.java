@@ -0,0 +1,349 @@
+package seedu.dietmanager.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * FoodRecordHistory is the public class holding the daily food records of every calendar date. <br>
+ * The records are kept in chunks of one month, sorted by month and indexed by the day of the month,
+ * so that a record is found in O(log m) for m months and the records of a date range in O(log m + k).
+ * Months saved on disk are only loaded by the month loader when one of their dates is first looked up.
+ */
+
+public class FoodRecordHistory {
+
+    private static final int MAX_DAYS_IN_MONTH = 31;
+
+    /**
+     * The records of each loaded month, indexed by the day of the month minus one.
+     */
+
+    private NavigableMap<YearMonth, DailyFoodRecord[]> loadedMonths = new TreeMap<>();
+
+    /**
+     * The months that have records on disk which are not loaded yet.
+     */
+
+    private NavigableSet<YearMonth> unloadedMonths = new TreeSet<>();
+
+    /**
+     * The months whose records were cleared since the history was last saved.
+     */
+
+    private NavigableSet<YearMonth> clearedMonths = new TreeSet<>();
+
+    private Consumer<YearMonth> monthLoader;
+
+    /**
+     * The calories of each day with a record, kept up to date by the records.
+     */
+
+    private CaloriesRangeIndex caloriesIndex = new CaloriesRangeIndex();
+
+    /**
+     * The calories of the last 7, 30 and 90 days, kept up to date by the records.
+     */
+
+    private RollingCaloriesWindows rollingWindows = new RollingCaloriesWindows();
+
+    /**
+     * Returns the daily record of a date, creating it if there is none.
+     *
+     * @param date the date of the wanted record.
+     * @return the record of the date.
+     */
+
+    public DailyFoodRecord getRecord(LocalDate date) {
+        DailyFoodRecord[] month = getLoadedMonth(YearMonth.from(date));
+        int day = date.getDayOfMonth() - 1;
+        if (month[day] == null) {
+            DailyFoodRecord record = new DailyFoodRecord(date.toString());
+            long epochDay = date.toEpochDay();
+            record.setCaloriesListener(() -> updateCalories(epochDay, record.getCalculableCalories(),
+                    record.hasCalculableCalories()));
+            month[day] = record;
+        }
+        return month[day];
+    }
+
+    /**
+     * Returns the daily record of a date, without creating it.
+     *
+     * @param date the date of the wanted record.
+     * @return the record of the date, or empty if there is none.
+     */
+
+    public Optional<DailyFoodRecord> findRecord(LocalDate date) {
+        YearMonth yearMonth = YearMonth.from(date);
+        this.loadMonth(yearMonth);
+        DailyFoodRecord[] month = loadedMonths.get(yearMonth);
+        return month == null ? Optional.empty() : Optional.ofNullable(month[date.getDayOfMonth() - 1]);
+    }
+
+    /**
+     * Returns the existing daily records from one date to another, both inclusive, in date order.
+     *
+     * @param from the first date of the range.
+     * @param to   the last date of the range.
+     * @return the records in the range.
+     */
+
+    public List<DailyFoodRecord> getRecords(LocalDate from, LocalDate to) {
+        List<DailyFoodRecord> records = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return records;
+        }
+        YearMonth firstMonth = YearMonth.from(from);
+        YearMonth lastMonth = YearMonth.from(to);
+        this.loadMonths(firstMonth, lastMonth);
+        for (Map.Entry<YearMonth, DailyFoodRecord[]> month
+                : loadedMonths.subMap(firstMonth, true, lastMonth, true).entrySet()) {
+            int firstDay = month.getKey().equals(firstMonth) ? from.getDayOfMonth() : 1;
+            int lastDay = month.getKey().equals(lastMonth) ? to.getDayOfMonth() : MAX_DAYS_IN_MONTH;
+            for (int day = firstDay; day <= lastDay; day++) {
+                if (month.getValue()[day - 1] != null) {
+                    records.add(month.getValue()[day - 1]);
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the calories intake from one date to another, both inclusive, in O(log n) once the months
+     * in the range are loaded.
+     *
+     * @param from the first date of the range.
+     * @param to   the last date of the range.
+     * @return the calories intake of the range.
+     */
+
+    public CaloriesSummary getCaloriesSummary(LocalDate from, LocalDate to) {
+        if (!from.isAfter(to)) {
+            this.loadMonths(YearMonth.from(from), YearMonth.from(to));
+        }
+        return caloriesIndex.query(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * Returns the calories intake of the 7, 30 and 90 days ending on a date. <br>
+     * The windows move forward in O(1) per day since they were last used, and are rebuilt in one pass
+     * over the records of the last 90 days when they were never used, the date moves back or the
+     * date is more than 90 days later.
+     *
+     * @param today the last date of the windows.
+     * @return the calories intake of the windows.
+     */
+
+    public RollingCaloriesWindows getRollingCalories(LocalDate today) {
+        long lastDay = today.toEpochDay();
+        if (!rollingWindows.isAnchored() || lastDay < rollingWindows.getLastDay()
+                || lastDay - rollingWindows.getLastDay() >= RollingCaloriesWindows.MAX_WINDOW_LENGTH) {
+            rollingWindows.reset(lastDay);
+            LocalDate firstDate = today.minusDays(RollingCaloriesWindows.MAX_WINDOW_LENGTH - 1);
+            for (DailyFoodRecord record : getRecords(firstDate, today)) {
+                rollingWindows.update(LocalDate.parse(record.getDate()).toEpochDay(),
+                        record.getCalculableCalories(), record.hasCalculableCalories());
+            }
+            return rollingWindows;
+        }
+        while (rollingWindows.getLastDay() < lastDay) {
+            Optional<DailyFoodRecord> record = findRecord(LocalDate.ofEpochDay(rollingWindows.getLastDay() + 1));
+            rollingWindows.advance(record.map(DailyFoodRecord::getCalculableCalories).orElse(0.0),
+                    record.map(DailyFoodRecord::hasCalculableCalories).orElse(false));
+        }
+        return rollingWindows;
+    }
+
+    private void updateCalories(long epochDay, double calories, boolean hasCalories) {
+        caloriesIndex.update(epochDay, calories, hasCalories);
+        rollingWindows.update(epochDay, calories, hasCalories);
+    }
+
+    /**
+     * Returns the existing daily records of a month in date order, loading the month if needed.
+     *
+     * @param month the wanted month.
+     * @return the records of the month.
+     */
+
+    public List<DailyFoodRecord> getRecords(YearMonth month) {
+        return getRecords(month.atDay(1), month.atEndOfMonth());
+    }
+
+    /**
+     * Returns the daily records of all loaded months in date order, without loading any other month.
+     *
+     * @return the loaded records.
+     */
+
+    public List<DailyFoodRecord> getLoadedRecords() {
+        List<DailyFoodRecord> records = new ArrayList<>();
+        for (DailyFoodRecord[] month : loadedMonths.values()) {
+            for (DailyFoodRecord record : month) {
+                if (record != null) {
+                    records.add(record);
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns every month with records, whether loaded or not.
+     *
+     * @return the months in order.
+     */
+
+    public NavigableSet<YearMonth> getMonths() {
+        NavigableSet<YearMonth> months = new TreeSet<>(loadedMonths.keySet());
+        months.addAll(unloadedMonths);
+        return months;
+    }
+
+    /**
+     * Sets the loader called with a month that is saved on disk when its records are first needed. <br>
+     * The loader adds the saved records with {@code getRecord}.
+     *
+     * @param monthLoader the month loader.
+     */
+
+    public void setMonthLoader(Consumer<YearMonth> monthLoader) {
+        this.monthLoader = monthLoader;
+    }
+
+    /**
+     * Registers a month saved on disk, to be loaded when its records are first needed.
+     *
+     * @param month the saved month.
+     */
+
+    public void addUnloadedMonth(YearMonth month) {
+        if (!loadedMonths.containsKey(month)) {
+            unloadedMonths.add(month);
+        }
+    }
+
+    public NavigableSet<YearMonth> getUnloadedMonths() {
+        return Collections.unmodifiableNavigableSet(unloadedMonths);
+    }
+
+    public NavigableSet<YearMonth> getClearedMonths() {
+        return Collections.unmodifiableNavigableSet(clearedMonths);
+    }
+
+    /**
+     * Marks a month as cleared since the history was last saved, so that it is saved without records.
+     *
+     * @param month the cleared month.
+     */
+
+    public void addClearedMonth(YearMonth month) {
+        clearedMonths.add(month);
+    }
+
+    private DailyFoodRecord[] getLoadedMonth(YearMonth yearMonth) {
+        this.loadMonth(yearMonth);
+        return loadedMonths.computeIfAbsent(yearMonth, key -> new DailyFoodRecord[MAX_DAYS_IN_MONTH]);
+    }
+
+    private void loadMonths(YearMonth firstMonth, YearMonth lastMonth) {
+        for (YearMonth month : new ArrayList<>(unloadedMonths.subSet(firstMonth, true, lastMonth, true))) {
+            this.loadMonth(month);
+        }
+    }
+
+    private void loadMonth(YearMonth month) {
+        if (unloadedMonths.remove(month) && monthLoader != null) {
+            monthLoader.accept(month);
+        }
+    }
+
+    /**
+     * Removes the records of the months that satisfy a condition, including months not loaded yet.
+     *
+     * @param isClearedMonth the condition of the months to clear.
+     */
+
+    public void clear(Predicate<YearMonth> isClearedMonth) {
+        Iterator<Map.Entry<YearMonth, DailyFoodRecord[]>> loadedMonthIterator = loadedMonths.entrySet().iterator();
+        while (loadedMonthIterator.hasNext()) {
+            Map.Entry<YearMonth, DailyFoodRecord[]> month = loadedMonthIterator.next();
+            if (isClearedMonth.test(month.getKey())) {
+                for (DailyFoodRecord record : month.getValue()) {
+                    if (record != null) {
+                        record.setCaloriesListener(null);
+                        updateCalories(LocalDate.parse(record.getDate()).toEpochDay(), 0, false);
+                    }
+                }
+                loadedMonthIterator.remove();
+                clearedMonths.add(month.getKey());
+            }
+        }
+        Iterator<YearMonth> unloadedMonthIterator = unloadedMonths.iterator();
+        while (unloadedMonthIterator.hasNext()) {
+            YearMonth month = unloadedMonthIterator.next();
+            if (isClearedMonth.test(month)) {
+                unloadedMonthIterator.remove();
+                clearedMonths.add(month);
+            }
+        }
+    }
+
+    /**
+     * Returns the months that were cleared or have a record with changes since the history was last saved.
+     *
+     * @return the modified months in order.
+     */
+
+    public NavigableSet<YearMonth> getModifiedMonths() {
+        NavigableSet<YearMonth> months = new TreeSet<>(clearedMonths);
+        for (Map.Entry<YearMonth, DailyFoodRecord[]> month : loadedMonths.entrySet()) {
+            for (DailyFoodRecord record : month.getValue()) {
+                if (record != null && record.isModified()) {
+                    months.add(month.getKey());
+                    break;
+                }
+            }
+        }
+        return Collections.unmodifiableNavigableSet(months);
+    }
+
+    /**
+     * Returns whether any month was cleared or any loaded record has changed since the history was last saved.
+     *
+     * @return true if the history has unsaved changes.
+     */
+
+    public boolean isModified() {
+        return !getModifiedMonths().isEmpty();
+    }
+
+    /**
+     * Updates the modified status of every loaded record, forgetting the cleared months once saved.
+     *
+     * @param isModified the updated modified status.
+     */
+
+    public void setModified(boolean isModified) {
+        if (!isModified) {
+            clearedMonths.clear();
+        }
+        for (DailyFoodRecord record : getLoadedRecords()) {
+            record.setModified(isModified);
+        }
+    }
+
+}
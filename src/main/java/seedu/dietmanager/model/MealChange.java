@@ -0,0 +1,85 @@
+package seedu.dietmanager.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MealChange is the public class representing a single change made to the daily food records or the recipe,
+ * so that the change can be saved without rewriting all the records.
+ */
+
+public class MealChange {
+
+    /**
+     * The kinds of changes that can be made to the meals.
+     */
+
+    public enum Action {
+        RECORD, CLEAR, RECIPE
+    }
+
+    private Action action;
+    private String date;
+    private String mealType;
+    private List<Food> foodList;
+
+    private MealChange(Action action, String date, String mealType, List<Food> foodList) {
+        this.action = action;
+        this.date = date;
+        this.mealType = mealType;
+        this.foodList = foodList;
+    }
+
+    /**
+     * Returns a change recording foods into a meal of the daily food records.
+     *
+     * @param date     the date of the meal.
+     * @param mealType the type of the meal.
+     * @param foodList the foods recorded.
+     * @return the change made.
+     */
+
+    public static MealChange record(String date, String mealType, List<Food> foodList) {
+        return new MealChange(Action.RECORD, date, mealType, new ArrayList<>(foodList));
+    }
+
+    /**
+     * Returns a change clearing all the daily food records.
+     *
+     * @return the change made.
+     */
+
+    public static MealChange clear() {
+        return new MealChange(Action.CLEAR, "", "", new ArrayList<>());
+    }
+
+    /**
+     * Returns a change replacing a meal of the recipe.
+     *
+     * @param date     the date of the meal.
+     * @param mealType the type of the meal.
+     * @param foodList the foods recommended.
+     * @return the change made.
+     */
+
+    public static MealChange recipe(String date, String mealType, List<Food> foodList) {
+        return new MealChange(Action.RECIPE, date, mealType, new ArrayList<>(foodList));
+    }
+
+    public Action getAction() {
+        return this.action;
+    }
+
+    public String getDate() {
+        return this.date;
+    }
+
+    public String getMealType() {
+        return this.mealType;
+    }
+
+    public List<Food> getFoodList() {
+        return this.foodList;
+    }
+
+}
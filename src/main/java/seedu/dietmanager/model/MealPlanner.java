@@ -0,0 +1,156 @@
+package seedu.dietmanager.model;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * MealPlanner is the public class choosing the foods of a meal whose calories come closest to a target
+ * without exceeding it. <br>
+ * A meal is a bounded subset-sum over the calories of the foods, rounded up to whole calories. For each number
+ * of foods up to the limit, the reachable calorie totals are kept as a bit set and extended one food at a time
+ * by a shift, so a meal of at most k foods with a target of t calories is planned from n foods in
+ * O(n + t * t * k * k / 64), however large the database is.
+ */
+
+public class MealPlanner {
+
+    private static final int BITS_PER_WORD = 64;
+
+    private final int targetCalories;
+
+    private final int maxFoodTypes;
+
+    /**
+     * Constructs a planner for meals of a calories target.
+     *
+     * @param targetCalories the calories a meal must not exceed.
+     * @param maxFoodTypes   the maximum number of foods in a meal.
+     */
+
+    public MealPlanner(double targetCalories, int maxFoodTypes) {
+        this.targetCalories = toWholeCalories(targetCalories);
+        this.maxFoodTypes = maxFoodTypes;
+    }
+
+    /**
+     * Returns the whole calories target a planner uses for a calories target, so that two targets giving the
+     * same whole target give the same meals.
+     *
+     * @param targetCalories the calories a meal must not exceed.
+     * @return the target rounded down to whole calories, at least zero.
+     */
+
+    public static int toWholeCalories(double targetCalories) {
+        return Math.max(0, (int) Math.floor(targetCalories));
+    }
+
+    /**
+     * Returns the foods of a meal whose calories come closest to the target without exceeding it, using as few
+     * foods as possible for the best total. <br>
+     * Among meals with the same total, the one found first is returned. The search starts from a different
+     * calorie value and food for each rotation, so that different rotations can give different meals.
+     *
+     * @param foodCount   the number of foods in the database.
+     * @param isAvailable whether a food can be in the meal. Foods without calories data must not be available.
+     * @param calories    the calories of each available food.
+     * @param rotation    the rotation of the search order.
+     * @return the indices of the foods in the meal, empty if no food fits under the target.
+     */
+
+    public int[] planMeal(int foodCount, IntPredicate isAvailable, IntToDoubleFunction calories, int rotation) {
+        int valueCount = targetCalories + 1;
+
+        // Only maxFoodTypes foods of each whole calorie value can ever be used together in a meal.
+        int[] candidates = new int[valueCount * maxFoodTypes];
+        int[] candidateCounts = new int[valueCount];
+        int firstFood = foodCount == 0 ? 0 : Math.floorMod(rotation, foodCount);
+        for (int i = 0; i < foodCount; i++) {
+            int food = (firstFood + i) % foodCount;
+            if (!isAvailable.test(food)) {
+                continue;
+            }
+            double foodCalories = Math.ceil(calories.applyAsDouble(food));
+            if (foodCalories < 0 || foodCalories > targetCalories) {
+                continue;
+            }
+            int value = (int) foodCalories;
+            if (candidateCounts[value] < maxFoodTypes) {
+                candidates[value * maxFoodTypes + candidateCounts[value]] = food;
+                candidateCounts[value]++;
+            }
+        }
+
+        int wordCount = targetCalories / BITS_PER_WORD + 1;
+        long[][] reachable = new long[maxFoodTypes + 1][wordCount];
+        reachable[0][0] = 1L;
+        int[][] lastCandidate = new int[maxFoodTypes + 1][valueCount];
+        long[] reached = new long[wordCount];
+        int lastBit = targetCalories % BITS_PER_WORD;
+        long lastWordMask = lastBit == BITS_PER_WORD - 1 ? -1L : (1L << (lastBit + 1)) - 1;
+        int firstValue = Math.floorMod(rotation, valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            int value = (firstValue + i) % valueCount;
+            for (int slot = 0; slot < candidateCounts[value]; slot++) {
+                int candidate = value * maxFoodTypes + slot;
+                for (int foodNum = maxFoodTypes; foodNum >= 1; foodNum--) {
+                    shiftLeft(reachable[foodNum - 1], value, reached);
+                    reached[wordCount - 1] &= lastWordMask;
+                    long[] totals = reachable[foodNum];
+                    for (int word = 0; word < wordCount; word++) {
+                        long newlyReached = reached[word] & ~totals[word];
+                        totals[word] |= newlyReached;
+                        while (newlyReached != 0) {
+                            int total = word * BITS_PER_WORD + Long.numberOfTrailingZeros(newlyReached);
+                            lastCandidate[foodNum][total] = candidate;
+                            newlyReached &= newlyReached - 1;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int total = targetCalories; total > 0; total--) {
+            for (int foodNum = 1; foodNum <= maxFoodTypes; foodNum++) {
+                if ((reachable[foodNum][total / BITS_PER_WORD] & (1L << (total % BITS_PER_WORD))) != 0) {
+                    return collectFoods(candidates, lastCandidate, foodNum, total);
+                }
+            }
+        }
+        return new int[0];
+    }
+
+    /**
+     * Follows the last candidate added to reach a total back to an empty meal. <br>
+     * The total without the last candidate was reached before that candidate was considered,
+     * so no candidate is collected twice.
+     */
+
+    private int[] collectFoods(int[] candidates, int[][] lastCandidate, int foodNum, int total) {
+        int[] foods = new int[foodNum];
+        for (int i = foodNum; i >= 1; i--) {
+            int candidate = lastCandidate[i][total];
+            foods[i - 1] = candidates[candidate];
+            total -= candidate / maxFoodTypes;
+        }
+        return foods;
+    }
+
+    /**
+     * Writes a bit set shifted towards higher totals into another, dropping the totals past the last word.
+     */
+
+    private static void shiftLeft(long[] source, int shift, long[] target) {
+        int wordShift = shift / BITS_PER_WORD;
+        int bitShift = shift % BITS_PER_WORD;
+        Arrays.fill(target, 0, Math.min(wordShift, target.length), 0L);
+        for (int word = wordShift; word < target.length; word++) {
+            long shifted = source[word - wordShift] << bitShift;
+            if (bitShift != 0 && word - wordShift - 1 >= 0) {
+                shifted |= source[word - wordShift - 1] >>> (BITS_PER_WORD - bitShift);
+            }
+            target[word] = shifted;
+        }
+    }
+
+}
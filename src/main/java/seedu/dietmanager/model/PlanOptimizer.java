@@ -0,0 +1,361 @@
+package seedu.dietmanager.model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * PlanOptimizer is the public class building meal plans of several weeks with simulated annealing. <br>
+ * A plan has three meals a day of up to a maximum number of foods each. Its score is the total distance of each
+ * day's calories from the daily target, plus a penalty for every variety constraint broken: a food eaten more
+ * than a maximum number of times in a week, or a food shared by two consecutive meals. Each move replaces one
+ * food of one meal, and only the day, week and neighbouring meals it touches are rescored, so a move costs
+ * O(1) however long the plan or large the database is.
+ */
+
+public class PlanOptimizer {
+
+    /**
+     * The number of meals in a day.
+     */
+
+    public static final int MEALS_PER_DAY = 3;
+
+    /**
+     * The number of days in a week.
+     */
+
+    public static final int DAYS_PER_WEEK = 7;
+
+    /**
+     * The score of breaking one variety constraint, in calories.
+     */
+
+    private static final double VIOLATION_PENALTY = 1_000;
+
+    private static final int MOVES_PER_SLOT = 400;
+
+    private static final double START_TEMPERATURE = 200;
+
+    private static final double END_TEMPERATURE = 0.05;
+
+    /**
+     * The number of foods either side of the best fitting food a targeted move picks from.
+     */
+
+    private static final int NEIGHBOUR_RANGE = 16;
+
+    private static final int EMPTY = -1;
+
+    private final double dailyTarget;
+
+    private final int maxFoodsPerMeal;
+
+    private final int maxTimesPerWeek;
+
+    private final int dayCount;
+
+    private final double[] calories;
+
+    private final int[] sortedFoods;
+
+    private final double[] sortedCalories;
+
+    private final int[] slots;
+
+    private final double[] dayCalories;
+
+    /**
+     * One open-addressing table per week, counting how often each food planned in the week is eaten. A week
+     * holds at most a few dozen foods, so the tables are sized by the slots of a week, not by the database.
+     */
+
+    private final int[] weekFoods;
+
+    private final int[] weekFoodCounts;
+
+    private final int weekTableMask;
+
+    private int excessCount;
+
+    private int repeatCount;
+
+    /**
+     * Constructs an optimizer for a plan of several weeks.
+     *
+     * @param weeks           the number of weeks in the plan.
+     * @param dailyTarget     the calories to eat each day.
+     * @param maxFoodsPerMeal the maximum number of foods in a meal.
+     * @param maxTimesPerWeek the maximum number of times a food is eaten in a week.
+     * @param hasCalories     whether each food of the database has calories data. Only these foods are planned.
+     * @param calories        the calories of each food of the database.
+     */
+
+    public PlanOptimizer(int weeks, double dailyTarget, int maxFoodsPerMeal, int maxTimesPerWeek,
+            boolean[] hasCalories, double[] calories) {
+        this.dailyTarget = dailyTarget;
+        this.maxFoodsPerMeal = maxFoodsPerMeal;
+        this.maxTimesPerWeek = maxTimesPerWeek;
+        this.dayCount = weeks * DAYS_PER_WEEK;
+        this.calories = calories;
+
+        int foodCount = 0;
+        Integer[] foods = new Integer[calories.length];
+        for (int food = 0; food < calories.length; food++) {
+            if (hasCalories[food]) {
+                foods[foodCount++] = food;
+            }
+        }
+        Arrays.sort(foods, 0, foodCount, (first, second) -> Double.compare(calories[first], calories[second]));
+        this.sortedFoods = new int[foodCount];
+        this.sortedCalories = new double[foodCount];
+        for (int i = 0; i < foodCount; i++) {
+            sortedFoods[i] = foods[i];
+            sortedCalories[i] = calories[foods[i]];
+        }
+
+        this.slots = new int[dayCount * MEALS_PER_DAY * maxFoodsPerMeal];
+        Arrays.fill(slots, EMPTY);
+        this.dayCalories = new double[dayCount];
+        // At least twice the slots of a week, so that a table is never more than half full.
+        int weekTableSize = Integer.highestOneBit(DAYS_PER_WEEK * MEALS_PER_DAY * maxFoodsPerMeal) << 2;
+        this.weekTableMask = weekTableSize - 1;
+        this.weekFoods = new int[weeks * weekTableSize];
+        this.weekFoodCounts = new int[weeks * weekTableSize];
+    }
+
+    /**
+     * Builds the plan by simulated annealing from a random start, replacing any plan built before.
+     *
+     * @param seed the seed of the random moves, so that the same seed gives the same plan.
+     */
+
+    public void optimize(long seed) {
+        Arrays.fill(slots, EMPTY);
+        Arrays.fill(dayCalories, 0);
+        Arrays.fill(weekFoods, EMPTY);
+        Arrays.fill(weekFoodCounts, 0);
+        excessCount = 0;
+        repeatCount = 0;
+        if (sortedFoods.length == 0 || dayCount == 0) {
+            return;
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int meal = 0; meal < dayCount * MEALS_PER_DAY; meal++) {
+            apply(meal * maxFoodsPerMeal, pickNeighbour(dailyTarget / MEALS_PER_DAY, random));
+        }
+
+        long moveCount = (long) MOVES_PER_SLOT * slots.length;
+        double cooling = Math.pow(END_TEMPERATURE / START_TEMPERATURE, 1.0 / moveCount);
+        double temperature = START_TEMPERATURE;
+        for (long move = 0; move < moveCount; move++, temperature *= cooling) {
+            int slot = random.nextInt(slots.length);
+            int meal = slot / maxFoodsPerMeal;
+            int oldFood = slots[slot];
+            int newFood;
+            // The first food of a meal is never emptied, so no meal is left without food.
+            if (slot % maxFoodsPerMeal != 0 && oldFood != EMPTY && random.nextInt(4) == 0) {
+                newFood = EMPTY;
+            } else if (random.nextBoolean()) {
+                newFood = sortedFoods[random.nextInt(sortedFoods.length)];
+            } else {
+                double fittingCalories = caloriesOf(oldFood) + dailyTarget - dayCalories[meal / MEALS_PER_DAY];
+                newFood = pickNeighbour(fittingCalories, random);
+            }
+            if (newFood == oldFood || (newFood != EMPTY && isInMeal(meal, newFood))) {
+                continue;
+            }
+            double delta = scoreDelta(slot, newFood);
+            if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                apply(slot, newFood);
+            }
+        }
+    }
+
+    /**
+     * Returns the change of score if a slot held a new food, without changing the plan.
+     */
+
+    private double scoreDelta(int slot, int newFood) {
+        int meal = slot / maxFoodsPerMeal;
+        int day = meal / MEALS_PER_DAY;
+        int oldFood = slots[slot];
+        int week = day / DAYS_PER_WEEK;
+
+        double oldCalories = dayCalories[day];
+        double newCalories = oldCalories - caloriesOf(oldFood) + caloriesOf(newFood);
+        double delta = Math.abs(newCalories - dailyTarget) - Math.abs(oldCalories - dailyTarget);
+
+        int violations = 0;
+        if (oldFood != EMPTY) {
+            violations -= countInWeek(week, oldFood) > maxTimesPerWeek ? 1 : 0;
+            violations -= countNeighboursWith(meal, oldFood);
+        }
+        if (newFood != EMPTY) {
+            violations += countInWeek(week, newFood) >= maxTimesPerWeek ? 1 : 0;
+            violations += countNeighboursWith(meal, newFood);
+        }
+        return delta + violations * VIOLATION_PENALTY;
+    }
+
+    /**
+     * Puts a new food in a slot, updating the day calories, week counts and violation counts it touches.
+     */
+
+    private void apply(int slot, int newFood) {
+        int meal = slot / maxFoodsPerMeal;
+        int day = meal / MEALS_PER_DAY;
+        int oldFood = slots[slot];
+        int week = day / DAYS_PER_WEEK;
+
+        if (oldFood != EMPTY) {
+            excessCount -= countInWeek(week, oldFood) > maxTimesPerWeek ? 1 : 0;
+            removeFromWeek(week, oldFood);
+            repeatCount -= countNeighboursWith(meal, oldFood);
+        }
+        if (newFood != EMPTY) {
+            excessCount += countInWeek(week, newFood) >= maxTimesPerWeek ? 1 : 0;
+            addToWeek(week, newFood);
+            repeatCount += countNeighboursWith(meal, newFood);
+        }
+        dayCalories[day] += caloriesOf(newFood) - caloriesOf(oldFood);
+        slots[slot] = newFood;
+    }
+
+    /**
+     * Returns the entry of a food in the table of a week, or the empty entry where it would be added.
+     */
+
+    private int findWeekEntry(int week, int food) {
+        int base = week * (weekTableMask + 1);
+        int index = hashOf(food);
+        while (weekFoods[base + index] != EMPTY && weekFoods[base + index] != food) {
+            index = (index + 1) & weekTableMask;
+        }
+        return base + index;
+    }
+
+    private int hashOf(int food) {
+        int hash = food * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & weekTableMask;
+    }
+
+    private int countInWeek(int week, int food) {
+        return weekFoodCounts[findWeekEntry(week, food)];
+    }
+
+    private void addToWeek(int week, int food) {
+        int entry = findWeekEntry(week, food);
+        weekFoods[entry] = food;
+        weekFoodCounts[entry]++;
+    }
+
+    /**
+     * Takes one count of a food off the table of a week. The entry of a food no longer eaten in the week is
+     * removed by shifting back the entries after it, so the table never fills up with stale foods.
+     */
+
+    private void removeFromWeek(int week, int food) {
+        int entry = findWeekEntry(week, food);
+        if (--weekFoodCounts[entry] > 0) {
+            return;
+        }
+        int base = week * (weekTableMask + 1);
+        int hole = entry - base;
+        int next = (hole + 1) & weekTableMask;
+        while (weekFoods[base + next] != EMPTY) {
+            int home = hashOf(weekFoods[base + next]);
+            if (((next - home) & weekTableMask) >= ((next - hole) & weekTableMask)) {
+                weekFoods[base + hole] = weekFoods[base + next];
+                weekFoodCounts[base + hole] = weekFoodCounts[base + next];
+                hole = next;
+            }
+            next = (next + 1) & weekTableMask;
+        }
+        weekFoods[base + hole] = EMPTY;
+        weekFoodCounts[base + hole] = 0;
+    }
+
+    /**
+     * Returns a random food among those whose calories are closest to a value.
+     */
+
+    private int pickNeighbour(double fittingCalories, SplittableRandom random) {
+        int index = Arrays.binarySearch(sortedCalories, fittingCalories);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        index += random.nextInt(2 * NEIGHBOUR_RANGE + 1) - NEIGHBOUR_RANGE;
+        return sortedFoods[Math.max(0, Math.min(sortedFoods.length - 1, index))];
+    }
+
+    private int countNeighboursWith(int meal, int food) {
+        int count = 0;
+        if (meal > 0 && isInMeal(meal - 1, food)) {
+            count++;
+        }
+        if (meal < dayCount * MEALS_PER_DAY - 1 && isInMeal(meal + 1, food)) {
+            count++;
+        }
+        return count;
+    }
+
+    private boolean isInMeal(int meal, int food) {
+        for (int slot = meal * maxFoodsPerMeal; slot < (meal + 1) * maxFoodsPerMeal; slot++) {
+            if (slots[slot] == food) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double caloriesOf(int food) {
+        return food == EMPTY ? 0 : calories[food];
+    }
+
+    /**
+     * Returns the foods of a meal of the plan.
+     *
+     * @param day      the day of the plan, from 0.
+     * @param mealType the meal of the day, from 0 for morning to 2 for night.
+     * @return the indices of the foods in the meal.
+     */
+
+    public int[] getMeal(int day, int mealType) {
+        int firstSlot = (day * MEALS_PER_DAY + mealType) * maxFoodsPerMeal;
+        return Arrays.stream(slots, firstSlot, firstSlot + maxFoodsPerMeal).filter(food -> food != EMPTY).toArray();
+    }
+
+    public int getDayCount() {
+        return this.dayCount;
+    }
+
+    /**
+     * Returns the calories of a day of the plan.
+     *
+     * @param day the day of the plan, from 0.
+     * @return the calories of the day.
+     */
+
+    public double getDayCalories(int day) {
+        double total = 0;
+        for (int mealType = 0; mealType < MEALS_PER_DAY; mealType++) {
+            for (int food : getMeal(day, mealType)) {
+                total += calories[food];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of variety constraints the plan breaks.
+     *
+     * @return the number of foods eaten past the weekly maximum plus the number of foods shared by consecutive
+     *         meals.
+     */
+
+    public int getViolationCount() {
+        return this.excessCount + this.repeatCount;
+    }
+
+}
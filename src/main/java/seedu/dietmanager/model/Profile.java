@@ -1,5 +1,12 @@
 package seedu.dietmanager.model;
 
+import seedu.dietmanager.commons.core.Weekday;
+import seedu.dietmanager.commons.exceptions.InvalidDateException;
+import seedu.dietmanager.logic.parser.DateParser;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,17 +18,54 @@ public class Profile {
     private double weight; //Weight in kg
     private double weightGoal;
     private boolean profileExist;
-    private List<DailyFoodRecord> personalFoodRecord;
-    private List<Double> weightRecord;
+    private FoodRecordHistory foodRecordHistory;
+
+    /**
+     * The clock giving the date of today.
+     */
+
+    private Clock clock;
+    private WeightHistory weightHistory;
+    private boolean isProfileModified;
+    private boolean isFoodRecordModified;
+    private List<MealChange> mealChanges;
+
+    /**
+     * The recommended recipe of the user.
+     */
+
+    private RecipeManager recipeManager;
+
+    /**
+     * The food database the user records meals and builds recipes from.
+     */
+
+    private FoodNutritionRecord foodNutritionRecord;
 
     /**
-     * Constructs a new Profile object.
+     * Constructs a new Profile object using the shared food database.
      */
 
     public Profile() {
-        this.personalFoodRecord = new ArrayList<>();
-        this.weightRecord = new ArrayList<>();
+        this(FoodNutritionRecord.getInstance());
+    }
+
+    /**
+     * Constructs a new Profile object with its own recipe, using a food database.
+     *
+     * @param foodNutritionRecord the food database of the user.
+     */
+
+    public Profile(FoodNutritionRecord foodNutritionRecord) {
+        this.recipeManager = new RecipeManager();
+        this.foodNutritionRecord = foodNutritionRecord;
+        this.foodRecordHistory = new FoodRecordHistory();
+        this.clock = Clock.systemDefaultZone();
+        this.weightHistory = new WeightHistory();
         this.profileExist = false;
+        this.isProfileModified = false;
+        this.isFoodRecordModified = false;
+        this.mealChanges = new ArrayList<>();
     }
 
     /**
@@ -32,87 +76,231 @@ public class Profile {
         this.setAge(age);
         this.setGender(gender);
         this.setHeight(height);
-        weightRecord.clear();
+        weightHistory.clear();
         this.setWeight(weight);
         this.setWeightGoal(weightGoal);
         this.setProfileExist(true);
     }
 
     /**
-     * Returns a daily record of a certain date.
+     * Returns a daily record of a certain date, creating it if there is none.
      *
-     * @param date the date of the wanted record.
+     * @param date the date of the wanted record, as a weekday name of this week or a {@code yyyy-MM-dd} date.
      * @return a record of wanted date.
+     * @throws IllegalArgumentException if the date is neither a weekday name nor a valid date.
      */
 
     public DailyFoodRecord getRecordOfDay(String date) {
-        boolean recordExists = false;
-        DailyFoodRecord record = null;
-        for (DailyFoodRecord r : personalFoodRecord) {
-            if (r.isDate(date)) {
-                record = r;
-                recordExists = true;
-                break;
-            }
-        }
-        if (!recordExists) {
-            record = addNewRecord(date);
+        return getRecordOfDay(toDate(date));
+    }
+
+    /**
+     * Returns the daily record of a weekday of this week, creating it if there is none.
+     *
+     * @param weekday the weekday of the wanted record.
+     * @return a record of wanted weekday.
+     */
+
+    public DailyFoodRecord getRecordOfDay(Weekday weekday) {
+        return getRecordOfDay(getToday().with(ChronoField.DAY_OF_WEEK, weekday.getIndex()));
+    }
+
+    /**
+     * Returns the daily record of a calendar date, creating it if there is none.
+     *
+     * @param date the date of the wanted record.
+     * @return a record of wanted date.
+     */
+
+    public DailyFoodRecord getRecordOfDay(LocalDate date) {
+        return foodRecordHistory.getRecord(date);
+    }
+
+    /**
+     * Returns the calendar date referred to by the user.
+     *
+     * @param date a weekday name of this week or a {@code yyyy-MM-dd} date.
+     * @return the calendar date.
+     * @throws IllegalArgumentException if the date is neither a weekday name nor a valid date.
+     */
+
+    public LocalDate toDate(String date) {
+        try {
+            return DateParser.parseDate(date, getToday());
+        } catch (InvalidDateException e) {
+            throw new IllegalArgumentException("Invalid date: " + date);
         }
-        return record;
     }
 
-    public DailyFoodRecord getRecordOfDay(int index) {
-        return personalFoodRecord.get(index);
+    /**
+     * Records the foods consumed into a meal of a certain date.
+     *
+     * @param date     the date of the meal, as a weekday name of this week or a {@code yyyy-MM-dd} date.
+     * @param mealType type of this meal, divided by time period.
+     * @param foodList the list of foods.
+     * @throws IllegalArgumentException if the date is neither a weekday name nor a valid date.
+     */
+
+    public void recordMeals(String date, String mealType, ArrayList<Food> foodList) {
+        recordMeals(toDate(date), mealType, foodList);
     }
 
     /**
-     * Creates a new record of a certain date.
+     * Records the foods consumed into a meal of a calendar date.
      *
-     * @param date the date of the new record.
-     * @return a newly generated daily record.
+     * @param date     the date of the meal.
+     * @param mealType type of this meal, divided by time period.
+     * @param foodList the list of foods.
      */
 
-    public DailyFoodRecord addNewRecord(String date) {
-        DailyFoodRecord record = new DailyFoodRecord(date);
-        personalFoodRecord.add(record);
-        return record;
+    public void recordMeals(LocalDate date, String mealType, ArrayList<Food> foodList) {
+        DailyFoodRecord record = getRecordOfDay(date);
+        if (record.recordMeals(mealType, foodList)) {
+            mealChanges.add(MealChange.record(record.getDate(), mealType, foodList));
+        }
     }
 
+    /**
+     * Clears all the daily food records.
+     */
+
     public void clearAllFoodRecords() {
-        personalFoodRecord.clear();
+        foodRecordHistory.clear(month -> true);
+        this.isFoodRecordModified = true;
+        mealChanges.add(MealChange.clear());
     }
 
-    public List<Double> getWeightRecord() {
-        return this.weightRecord;
+    public FoodRecordHistory getFoodRecordHistory() {
+        return this.foodRecordHistory;
+    }
+
+    /**
+     * Returns the date of today, used to resolve weekday names to calendar dates.
+     *
+     * @return the date of today.
+     */
+
+    public LocalDate getToday() {
+        return LocalDate.now(clock);
+    }
+
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the changes made to the daily food records since this method was last called.
+     *
+     * @return the changes made to the daily food records, in order.
+     */
+
+    public List<MealChange> takeMealChanges() {
+        List<MealChange> changes = this.mealChanges;
+        this.mealChanges = new ArrayList<>();
+        return changes;
+    }
+
+    public WeightHistory getWeightHistory() {
+        return this.weightHistory;
+    }
+
+    public RecipeManager getRecipeManager() {
+        return this.recipeManager;
+    }
+
+    public FoodNutritionRecord getFoodNutritionRecord() {
+        return this.foodNutritionRecord;
+    }
+
+    /**
+     * Removes a weight entry from the weight record.
+     *
+     * @param index the index of the weight entry to remove.
+     * @return the weight that was removed.
+     * @throws IndexOutOfBoundsException if the index does not refer to an existing entry.
+     */
+
+    public double removeWeight(int index) throws IndexOutOfBoundsException {
+        double weightRemoved = this.weightHistory.remove(index);
+        this.isProfileModified = true;
+        return weightRemoved;
+    }
+
+    /**
+     * Returns whether the profile information has changed since it was last saved.
+     *
+     * @return true if the profile information has unsaved changes.
+     */
+
+    public boolean isProfileModified() {
+        return this.isProfileModified;
+    }
+
+    public void setProfileModified(boolean isProfileModified) {
+        this.isProfileModified = isProfileModified;
+    }
+
+    /**
+     * Returns whether any daily food record has changed since the records were last saved.
+     *
+     * @return true if the daily food records have unsaved changes.
+     */
+
+    public boolean isFoodRecordModified() {
+        return this.isFoodRecordModified || foodRecordHistory.isModified();
+    }
+
+    /**
+     * Updates the modified status of the daily food records, including every individual record.
+     *
+     * @param isFoodRecordModified the updated modified status.
+     */
+
+    public void setFoodRecordModified(boolean isFoodRecordModified) {
+        this.isFoodRecordModified = isFoodRecordModified;
+        foodRecordHistory.setModified(isFoodRecordModified);
     }
 
     public void setName(String name) {
         this.name = name;
+        this.isProfileModified = true;
     }
 
     public void setAge(int age) {
         this.age = age;
+        this.isProfileModified = true;
     }
 
     public void setGender(String gender) {
         this.gender = gender;
+        this.isProfileModified = true;
     }
 
     public void setHeight(double height) {
         this.height = height;
+        this.isProfileModified = true;
     }
 
+    /**
+     * Sets the current weight and records it as the weight of today.
+     *
+     * @param weight the current weight in kg.
+     */
+
     public void setWeight(double weight) {
         this.weight = weight;
-        this.weightRecord.add(weight);
+        this.weightHistory.add(getToday().toEpochDay(), weight);
+        this.isProfileModified = true;
     }
 
     public void setWeightGoal(double weightGoal) {
         this.weightGoal = weightGoal;
+        this.isProfileModified = true;
     }
 
     public void setProfileExist(boolean profileExist) {
         this.profileExist = profileExist;
+        this.isProfileModified = true;
     }
 
     public String getName() {
@@ -5,13 +5,24 @@ import seedu.dietmanager.commons.core.Weekday;
 import seedu.dietmanager.logic.commands.CheckRequiredCaloriesCommand;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 
 public class RecipeManager {
     private ArrayList<DailyFoodRecord> recipe;
-    private static RecipeManager theOnlyOne = null;
     private static final int MAX_FOOD_TYPES = 3;
+    private static final String[] MEAL_TYPES = {"morning", "afternoon", "night"};
+    private boolean isModified = false;
+    private long seed;
+    private RecipePlanCache planCache = new RecipePlanCache(RecipePlanCache.DEFAULT_CAPACITY);
+    private List<MealChange> mealChanges = new ArrayList<>();
 
-    private RecipeManager() {
+    /**
+     * Constructs an empty recipe of the seven weekdays.
+     */
+
+    public RecipeManager() {
         recipe = new ArrayList<>();
         String curDay;
         for (Weekday weekday : Weekday.values()) {
@@ -21,19 +32,6 @@ public class RecipeManager {
         }
     }
 
-    /**
-     * Returns the only one instance, if it doesn't exist, create one first.
-     *
-     * @return the only instance of RecipeManager
-     */
-
-    public static RecipeManager getInstance() {
-        if (theOnlyOne == null) {
-            theOnlyOne = new RecipeManager();
-        }
-        return theOnlyOne;
-    }
-
     /**
      * Sets a meal into the recipe.
      *
@@ -45,12 +43,77 @@ public class RecipeManager {
     public void setRecipe(String date, String mealType, ArrayList<Food> foodList) {
         Weekday weekday = Weekday.valueOf(date.toUpperCase());
         int index = weekday.getIndex() - 1;
-        recipe.get(index).recordMeals(mealType, foodList);
+        if (recipe.get(index).recordMeals(mealType, foodList)) {
+            ArrayList<Food> meal = recipe.get(index).getDailyFood(mealType);
+            mealChanges.add(MealChange.recipe(weekday.getName(), mealType, meal));
+            this.isModified = true;
+        }
     }
 
+    /**
+     * Replaces a meal in the recipe.
+     *
+     * @param index    the index of the day in the week
+     * @param mealType the type of this meal
+     * @param foodList foods recommended for this meal
+     */
+
     public void setRecipe(int index, String mealType, ArrayList<Food> foodList) {
         recipe.get(index).clearRecords(mealType);
-        recipe.get(index).recordMeals(mealType, foodList);
+        if (recipe.get(index).recordMeals(mealType, foodList)) {
+            mealChanges.add(MealChange.recipe(recipe.get(index).getDate(), mealType, foodList));
+            this.isModified = true;
+        }
+    }
+
+    /**
+     * Returns the recipe of a day in the week.
+     *
+     * @param index the index of the day in the week
+     * @return the recipe of the day
+     */
+
+    public DailyFoodRecord getRecipeOfDay(int index) {
+        return recipe.get(index);
+    }
+
+    /**
+     * Removes all meals from the recipe.
+     */
+
+    public void clearRecipe() {
+        for (DailyFoodRecord record : recipe) {
+            record.clearRecords("morning");
+            record.clearRecords("afternoon");
+            record.clearRecords("night");
+        }
+        this.isModified = true;
+    }
+
+    /**
+     * Returns the changes made to the recipe since this method was last called.
+     *
+     * @return the changes made to the recipe, in order.
+     */
+
+    public List<MealChange> takeMealChanges() {
+        List<MealChange> changes = this.mealChanges;
+        this.mealChanges = new ArrayList<>();
+        return changes;
+    }
+
+    /**
+     * Returns whether the recipe has changed since it was last saved.
+     *
+     * @return true if the recipe has unsaved changes.
+     */
+
+    public boolean isModified() {
+        return this.isModified;
+    }
+
+    public void setModified(boolean isModified) {
+        this.isModified = isModified;
     }
 
     /**
@@ -97,19 +160,22 @@ public class RecipeManager {
     }
 
     /**
-     * Creates a recipe for the week based on user's needs.
+     * Creates a recipe for the week based on user's needs. <br>
+     * Each meal has the foods whose calories come closest to a third of the calories required a day
+     * without exceeding it, and no food appears twice in the same day. The same seed always gives the same
+     * recipe for the same calories need and food database, so recipes built before are taken from the plan cache.
      *
-     * @param num maximum food types the user want to have in a meal.
-     * @return true if maximum food types is less than 5, else false.
+     * @param num  maximum food types the user want to have in a meal.
+     * @param seed the seed of the recipe.
+     * @return true if maximum food types is more than 3, else false.
      */
 
-    public boolean buildRecipe(Profile profile, int num, String activityLevel) {
+    public boolean buildRecipe(Profile profile, int num, String activityLevel, long seed) {
         CheckRequiredCaloriesCommand command =
                 new CheckRequiredCaloriesCommand(MessageBank.CHECK_REQUIRED_CAL_COMMAND_PROMPT);
-        double cap = command.getRecommendedCaloriesIntake(profile, activityLevel) / 3;
+        int mealTarget = MealPlanner.toWholeCalories(command.getRecommendedCaloriesIntake(profile, activityLevel) / 3);
 
-        FoodNutritionRecord foodInfo = FoodNutritionRecord.getInstance();
-        int maxNum = foodInfo.getListSize();
+        FoodNutritionRecord foodInfo = profile.getFoodNutritionRecord().getSnapshot();
         boolean overflow = false;
 
         if (num > MAX_FOOD_TYPES) {
@@ -117,48 +183,69 @@ public class RecipeManager {
             overflow = true;
         }
 
-        int success = 0;
-        while (success < 21) {
-            double sum = 0;
-            boolean[] checked = new boolean[maxNum];
+        int maxFoodTypes = num;
+        int[][] meals = planCache.getPlan(mealTarget, activityLevel, maxFoodTypes, seed, foodInfo.getVersion(),
+                () -> this.planWeek(foodInfo, mealTarget, maxFoodTypes, seed));
+        for (int meal = 0; meal < meals.length; meal++) {
             ArrayList<Food> foodList = new ArrayList<>();
-            int checkedNum = 0;
-
-            for (int i = 0; i < num && checkedNum < maxNum; i++) {
-                while (checkedNum < maxNum) {
-                    int rand = (int) (Math.random() * maxNum);
-                    if (!checked[rand]) {
-                        checked[rand] = true;
-                        checkedNum += 1;
-
-                        if (sum + foodInfo.getFoodCalories(rand) <= cap) {
-                            sum += foodInfo.getFoodCalories(rand);
-                            foodList.add(foodInfo.findFood(rand));
-                            break;
-                        }
-                    }
-                }
+            for (int food : meals[meal]) {
+                foodList.add(foodInfo.findFood(food));
             }
-            if (sum <= cap) {
-                success += 1;
-                String mealType = null;
-                switch (success % 3) {
-                case 1:
-                    mealType = "morning";
-                    break;
-                case 2:
-                    mealType = "afternoon";
-                    break;
-                case 0:
-                    mealType = "night";
-                    break;
-                default:
-                    break;
+            setRecipe(meal / MEAL_TYPES.length, MEAL_TYPES[meal % MEAL_TYPES.length], foodList);
+        }
+        this.seed = seed;
+        return overflow;
+    }
 
+    /**
+     * Plans the meals of a week. <br>
+     * The days are planned in parallel on the common fork-join pool. Each meal has its own random generator split
+     * from the seed in a fixed order, which decides between equally good meals.
+     *
+     * @return the indices of the foods of each meal, day by day.
+     */
+
+    private int[][] planWeek(FoodNutritionRecord foodInfo, int mealTarget, int maxFoodTypes, long seed) {
+        int maxNum = foodInfo.getListSize();
+        SplittableRandom seedRandom = new SplittableRandom(seed);
+        SplittableRandom[] mealRandoms = new SplittableRandom[recipe.size() * MEAL_TYPES.length];
+        for (int i = 0; i < mealRandoms.length; i++) {
+            mealRandoms[i] = seedRandom.split();
+        }
+        // The database compacts itself on reads, so its calories are copied out before planning in parallel.
+        boolean[] hasCalories = new boolean[maxNum];
+        double[] calories = new double[maxNum];
+        for (int food = 0; food < maxNum; food++) {
+            hasCalories[food] = foodInfo.hasCaloriesData(food);
+            calories[food] = hasCalories[food] ? foodInfo.getFoodCalories(food) : 0;
+        }
+        MealPlanner planner = new MealPlanner(mealTarget, maxFoodTypes);
+        int[][] meals = new int[mealRandoms.length][];
+        IntStream.range(0, recipe.size()).parallel().forEach(day -> {
+            boolean[] isEatenToday = new boolean[maxNum];
+            for (int mealIndex = 0; mealIndex < MEAL_TYPES.length; mealIndex++) {
+                int meal = day * MEAL_TYPES.length + mealIndex;
+                meals[meal] = planner.planMeal(maxNum, food -> !isEatenToday[food] && hasCalories[food],
+                        food -> calories[food], mealRandoms[meal].nextInt(Integer.MAX_VALUE));
+                for (int food : meals[meal]) {
+                    isEatenToday[food] = true;
                 }
-                setRecipe((int) ((success - 1) / 3), mealType, foodList);
             }
-        }
-        return overflow;
+        });
+        return meals;
+    }
+
+    public RecipePlanCache getPlanCache() {
+        return this.planCache;
+    }
+
+    /**
+     * Returns the seed the recipe was last created from.
+     *
+     * @return the seed of the recipe.
+     */
+
+    public long getSeed() {
+        return this.seed;
     }
 }
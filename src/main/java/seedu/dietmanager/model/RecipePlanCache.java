@@ -0,0 +1,135 @@
+package seedu.dietmanager.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * RecipePlanCache is the public class remembering the weekly recipe plans built most recently. <br>
+ * A plan is keyed by everything it is built from: the calories target of a meal, the activity level, the maximum
+ * food types of a meal, the seed and the version of the food database. Adding or deleting a food changes the
+ * version, so a plan of an older database is never returned. When the cache is full, the plan used least
+ * recently is dropped.
+ */
+
+public class RecipePlanCache {
+
+    /**
+     * The number of plans kept by default.
+     */
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<PlanKey, int[][]> plans;
+
+    private int hitCount = 0;
+
+    private int missCount = 0;
+
+    /**
+     * Constructs a cache keeping a number of plans.
+     *
+     * @param capacity the maximum number of plans kept.
+     */
+
+    public RecipePlanCache(int capacity) {
+        this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PlanKey, int[][]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the plan built from the given inputs, building and keeping it if it is not in the cache. <br>
+     * The plan returned is shared with the cache and must not be changed.
+     *
+     * @param mealTarget      the whole calories target of a meal.
+     * @param activityLevel   the activity level of the user.
+     * @param maxFoodTypes    the maximum number of foods in a meal.
+     * @param seed            the seed of the plan.
+     * @param databaseVersion the version of the food database.
+     * @param planner         builds the plan, as the indices of the foods of each meal, if it is not cached.
+     * @return the plan.
+     */
+
+    public int[][] getPlan(int mealTarget, String activityLevel, int maxFoodTypes, long seed, long databaseVersion,
+            Supplier<int[][]> planner) {
+        PlanKey key = new PlanKey(mealTarget, activityLevel, maxFoodTypes, seed, databaseVersion);
+        int[][] plan = plans.get(key);
+        if (plan != null) {
+            hitCount++;
+            return plan;
+        }
+        missCount++;
+        plan = planner.get();
+        plans.put(key, plan);
+        return plan;
+    }
+
+    public int getHitCount() {
+        return this.hitCount;
+    }
+
+    public int getMissCount() {
+        return this.missCount;
+    }
+
+    public int size() {
+        return this.plans.size();
+    }
+
+    /**
+     * Removes all plans, keeping the hit and miss counts.
+     */
+
+    public void clear() {
+        this.plans.clear();
+    }
+
+    /**
+     * The inputs a plan is built from.
+     */
+
+    private static final class PlanKey {
+
+        private final int mealTarget;
+
+        private final String activityLevel;
+
+        private final int maxFoodTypes;
+
+        private final long seed;
+
+        private final long databaseVersion;
+
+        PlanKey(int mealTarget, String activityLevel, int maxFoodTypes, long seed, long databaseVersion) {
+            this.mealTarget = mealTarget;
+            this.activityLevel = activityLevel;
+            this.maxFoodTypes = maxFoodTypes;
+            this.seed = seed;
+            this.databaseVersion = databaseVersion;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey key = (PlanKey) other;
+            return mealTarget == key.mealTarget && maxFoodTypes == key.maxFoodTypes && seed == key.seed
+                    && databaseVersion == key.databaseVersion && activityLevel.equals(key.activityLevel);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mealTarget, activityLevel, maxFoodTypes, seed, databaseVersion);
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+package seedu.dietmanager.model;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * RollingCaloriesWindows is the public class holding the calories intake of the last 7, 30 and 90 days. <br>
+ * The calories of the last 90 days are kept in a ring indexed by epoch day, and the total of each window
+ * is updated in O(1) whenever a day in it changes or the last day moves forward by one day.
+ */
+
+public class RollingCaloriesWindows {
+
+    /**
+     * The number of days in each window, ending on the last day.
+     */
+
+    public static final int[] WINDOW_LENGTHS = {7, 30, 90};
+
+    public static final int MAX_WINDOW_LENGTH = 90;
+
+    private double[] dayCalories = new double[MAX_WINDOW_LENGTH];
+
+    private boolean[] hasCalories = new boolean[MAX_WINDOW_LENGTH];
+
+    private double[] totals = new double[WINDOW_LENGTHS.length];
+
+    private int[] dayCounts = new int[WINDOW_LENGTHS.length];
+
+    /**
+     * The epoch day of the last day of every window.
+     */
+
+    private long lastDay;
+
+    private boolean isAnchored = false;
+
+    /**
+     * Empties the windows and makes them end on a day.
+     *
+     * @param lastDay the epoch day of the last day of every window.
+     */
+
+    public void reset(long lastDay) {
+        this.dayCalories = new double[MAX_WINDOW_LENGTH];
+        this.hasCalories = new boolean[MAX_WINDOW_LENGTH];
+        this.totals = new double[WINDOW_LENGTHS.length];
+        this.dayCounts = new int[WINDOW_LENGTHS.length];
+        this.lastDay = lastDay;
+        this.isAnchored = true;
+    }
+
+    /**
+     * Marks the windows as out of date, to be rebuilt before they are next used.
+     */
+
+    public void invalidate() {
+        this.isAnchored = false;
+    }
+
+    public boolean isAnchored() {
+        return this.isAnchored;
+    }
+
+    public long getLastDay() {
+        return this.lastDay;
+    }
+
+    /**
+     * Sets the calories of a day, ignoring days outside the longest window.
+     *
+     * @param epochDay    the epoch day of the day.
+     * @param calories    the calories of the day.
+     * @param hasCalories whether the day has calories data.
+     */
+
+    public void update(long epochDay, double calories, boolean hasCalories) {
+        if (!isAnchored || epochDay > lastDay || lastDay - epochDay >= MAX_WINDOW_LENGTH) {
+            return;
+        }
+        int slot = toSlot(epochDay);
+        for (int i = 0; i < WINDOW_LENGTHS.length; i++) {
+            if (lastDay - epochDay < WINDOW_LENGTHS[i]) {
+                this.remove(i, slot);
+                if (hasCalories) {
+                    totals[i] += calories;
+                    dayCounts[i]++;
+                }
+            }
+        }
+        this.dayCalories[slot] = hasCalories ? calories : 0;
+        this.hasCalories[slot] = hasCalories;
+    }
+
+    /**
+     * Moves the windows forward by one day, adding the calories of the new last day.
+     *
+     * @param calories    the calories of the new last day.
+     * @param hasCalories whether the new last day has calories data.
+     */
+
+    public void advance(double calories, boolean hasCalories) {
+        long newLastDay = lastDay + 1;
+        for (int i = 0; i < WINDOW_LENGTHS.length; i++) {
+            this.remove(i, toSlot(newLastDay - WINDOW_LENGTHS[i]));
+        }
+        int slot = toSlot(newLastDay);
+        this.dayCalories[slot] = hasCalories ? calories : 0;
+        this.hasCalories[slot] = hasCalories;
+        if (hasCalories) {
+            for (int i = 0; i < WINDOW_LENGTHS.length; i++) {
+                totals[i] += calories;
+                dayCounts[i]++;
+            }
+        }
+        this.lastDay = newLastDay;
+    }
+
+    private void remove(int window, int slot) {
+        if (hasCalories[slot]) {
+            totals[window] -= dayCalories[slot];
+            dayCounts[window]--;
+        }
+    }
+
+    private static int toSlot(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) MAX_WINDOW_LENGTH);
+    }
+
+    public double getTotalCalories(int window) {
+        return totals[window];
+    }
+
+    public int getDayCount(int window) {
+        return dayCounts[window];
+    }
+
+    /**
+     * Returns the average calories of the days with calories data in a window.
+     *
+     * @param window the index of the window in {@code WINDOW_LENGTHS}.
+     * @return the average calories, or zero if no day in the window has calories data.
+     */
+
+    public double getAverageCalories(int window) {
+        return dayCounts[window] == 0 ? 0 : totals[window] / dayCounts[window];
+    }
+
+    /**
+     * Returns the number of consecutive days with calories data that meet a target, ending on the last day,
+     * or on the day before if the last day has no calories data yet. The streak is counted up to 90 days.
+     *
+     * @param isOnTarget the target the calories of a day must meet.
+     * @return the length of the streak in days.
+     */
+
+    public int getStreak(DoublePredicate isOnTarget) {
+        long day = hasCalories[toSlot(lastDay)] ? lastDay : lastDay - 1;
+        int streak = 0;
+        while (lastDay - day < MAX_WINDOW_LENGTH) {
+            int slot = toSlot(day);
+            if (!hasCalories[slot] || !isOnTarget.test(dayCalories[slot])) {
+                break;
+            }
+            streak++;
+            day--;
+        }
+        return streak;
+    }
+
+}
@@ -0,0 +1,214 @@
+package seedu.dietmanager.model;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * SharedFoodNutritionRecord is the public class holding a food database shared by sessions running at the same
+ * time. <br>
+ * The foods are held in a compacted database that is never changed once published. Reads go to the database
+ * published last without taking any lock, so any number of sessions can read at once. A change copies the
+ * database, applies the change to the copy and publishes it, holding a lock only against other changes.
+ * Changing a food therefore costs a copy of the database and a rebuild of its matcher of misspelt names,
+ * which suits a database read far more than it is changed. <br>
+ * The columns inherited from {@code FoodNutritionRecord} hold no foods, so every public method reads or changes
+ * the published database instead.
+ */
+
+public class SharedFoodNutritionRecord extends FoodNutritionRecord {
+
+    /**
+     * The database published last. It is compacted and its matcher of misspelt food names is built before it is
+     * published, so reading it changes nothing.
+     */
+
+    private volatile FoodNutritionRecord snapshot;
+
+    private volatile boolean isModified = false;
+
+    /**
+     * Saves a database published by a change, in the order the databases were published.
+     */
+
+    private final Consumer<FoodNutritionRecord> saver;
+
+    /**
+     * Constructs a shared database with the foods of a database, which is modified if that database is, and
+     * which is saved by its owner alone.
+     *
+     * @param foodNutritionRecord the database whose foods are shared.
+     */
+
+    public SharedFoodNutritionRecord(FoodNutritionRecord foodNutritionRecord) {
+        this(foodNutritionRecord, foods -> { });
+    }
+
+    /**
+     * Constructs a shared database with the foods of a database, which is modified if that database is, and
+     * which any session using it can save.
+     *
+     * @param foodNutritionRecord the database whose foods are shared.
+     * @param saver               saves a database published by a change.
+     */
+
+    public SharedFoodNutritionRecord(FoodNutritionRecord foodNutritionRecord, Consumer<FoodNutritionRecord> saver) {
+        super(false);
+        this.saver = saver;
+        FoodNutritionRecord copy = new FoodNutritionRecord(foodNutritionRecord.getSnapshot());
+        copy.buildFoodNameMatcher();
+        this.snapshot = copy;
+        this.isModified = foodNutritionRecord.isModified();
+    }
+
+    @Override
+    public Optional<Food> findFood(String foodName) {
+        return snapshot.findFood(foodName);
+    }
+
+    @Override
+    public List<Food> searchFood(String prefix, int limit) {
+        return snapshot.searchFood(prefix, limit);
+    }
+
+    @Override
+    public Optional<Food> findClosestFood(String foodName) {
+        return snapshot.findClosestFood(foodName);
+    }
+
+    @Override
+    public Food findFood(int index) {
+        return snapshot.findFood(index);
+    }
+
+    @Override
+    public boolean isInDatabase(String foodName) {
+        return snapshot.isInDatabase(foodName);
+    }
+
+    @Override
+    public String showFoodDatabase() {
+        return snapshot.showFoodDatabase();
+    }
+
+    @Override
+    public synchronized boolean addFoodNutritionRecord(String foodName, Double calories) {
+        FoodNutritionRecord copy = new FoodNutritionRecord(snapshot);
+        if (!copy.addFoodNutritionRecord(foodName, calories)) {
+            return false;
+        }
+        this.publish(copy);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteFoodNutritionRecord(String foodName) {
+        FoodNutritionRecord copy = new FoodNutritionRecord(snapshot);
+        if (!copy.deleteFoodNutritionRecord(foodName)) {
+            return false;
+        }
+        this.publish(copy);
+        return true;
+    }
+
+    @Override
+    public List<Food> getFoodNutritionRecordList() {
+        return snapshot.getFoodNutritionRecordList();
+    }
+
+    @Override
+    public synchronized void setFoodNutritionRecordList(List<Food> foodList) {
+        FoodNutritionRecord copy = new FoodNutritionRecord(snapshot);
+        copy.setFoodNutritionRecordList(foodList);
+        this.publish(copy);
+    }
+
+    @Override
+    public synchronized void clearFoodNutritionRecordList() {
+        FoodNutritionRecord copy = new FoodNutritionRecord(snapshot);
+        copy.clearFoodNutritionRecordList();
+        this.publish(copy);
+    }
+
+    private void publish(FoodNutritionRecord copy) {
+        copy.compact();
+        copy.buildFoodNameMatcher();
+        this.snapshot = copy;
+        this.isModified = true;
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    /**
+     * Returns the database published last, which no change made later affects.
+     *
+     * @return the database published last.
+     */
+
+    @Override
+    public FoodNutritionRecord getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the database published last if it has changed since it was last saved, marking it as saved.
+     *
+     * @return the database to save, or empty if there is no change to save.
+     */
+
+    public synchronized Optional<FoodNutritionRecord> takeModifiedSnapshot() {
+        if (!isModified) {
+            return Optional.empty();
+        }
+        this.isModified = false;
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Saves the database published last if it has changed since it was last saved. The database is taken and
+     * saved while holding the lock against changes, so an older database is never saved after a newer one.
+     */
+
+    public synchronized void save() {
+        this.takeModifiedSnapshot().ifPresent(saver);
+    }
+
+    @Override
+    public boolean isModified() {
+        return this.isModified;
+    }
+
+    @Override
+    public void setModified(boolean isModified) {
+        this.isModified = isModified;
+    }
+
+    @Override
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    @Override
+    public int getListSize() {
+        return snapshot.getListSize();
+    }
+
+    @Override
+    public String getFoodName(int index) {
+        return snapshot.getFoodName(index);
+    }
+
+    @Override
+    public boolean hasCaloriesData(int index) {
+        return snapshot.hasCaloriesData(index);
+    }
+
+    @Override
+    public double getFoodCalories(int index) {
+        return snapshot.getFoodCalories(index);
+    }
+
+}
@@ -0,0 +1,162 @@
+package seedu.dietmanager.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * WeightHistory is the public class holding the weight records of a profile with the day they were recorded. <br>
+ * The records are kept in parallel primitive arrays, and the sums of a least-squares fit of weight against day
+ * are updated whenever a record is added or removed, so that the weight trend is known in O(1).
+ */
+
+public class WeightHistory {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] epochDays = new long[INITIAL_CAPACITY];
+
+    private double[] weights = new double[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    /**
+     * The epoch day the days of the fit are measured from, so that the sums stay small.
+     */
+
+    private long originDay;
+
+    private double sumDays;
+
+    private double sumWeights;
+
+    private double sumSquaredDays;
+
+    private double sumDayWeights;
+
+    /**
+     * Adds a weight record after the existing ones.
+     *
+     * @param epochDay the epoch day the weight was recorded.
+     * @param weight   the recorded weight in kg.
+     */
+
+    public void add(long epochDay, double weight) {
+        if (size == epochDays.length) {
+            this.epochDays = Arrays.copyOf(epochDays, size * 2);
+            this.weights = Arrays.copyOf(weights, size * 2);
+        }
+        if (size == 0) {
+            this.originDay = epochDay;
+        }
+        epochDays[size] = epochDay;
+        weights[size] = weight;
+        size++;
+        this.updateSums(epochDay, weight, 1);
+    }
+
+    /**
+     * Removes a weight record.
+     *
+     * @param index the index of the record to remove.
+     * @return the weight that was removed.
+     * @throws IndexOutOfBoundsException if the index does not refer to an existing record.
+     */
+
+    public double remove(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        double weight = weights[index];
+        this.updateSums(epochDays[index], weight, -1);
+        System.arraycopy(epochDays, index + 1, epochDays, index, size - index - 1);
+        System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+        size--;
+        if (size == 0) {
+            this.clear();
+        }
+        return weight;
+    }
+
+    /**
+     * Removes every weight record.
+     */
+
+    public void clear() {
+        this.size = 0;
+        this.sumDays = 0;
+        this.sumWeights = 0;
+        this.sumSquaredDays = 0;
+        this.sumDayWeights = 0;
+    }
+
+    private void updateSums(long epochDay, double weight, int sign) {
+        double day = epochDay - originDay;
+        sumDays += sign * day;
+        sumWeights += sign * weight;
+        sumSquaredDays += sign * day * day;
+        sumDayWeights += sign * day * weight;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public double getWeight(int index) {
+        return weights[Objects.checkIndex(index, size)];
+    }
+
+    public long getEpochDay(int index) {
+        return epochDays[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Returns the last recorded weight.
+     *
+     * @return the weight of the last record.
+     * @throws IndexOutOfBoundsException if there is no record.
+     */
+
+    public double getLatestWeight() throws IndexOutOfBoundsException {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("No weight record");
+        }
+        return weights[size - 1];
+    }
+
+    /**
+     * Checks if the records span at least two different days, so that they have a trend.
+     *
+     * @return true if the weight trend is defined, false otherwise.
+     */
+
+    public boolean hasTrend() {
+        return size >= 2 && getSpreadOfDays() > 0;
+    }
+
+    /**
+     * Returns the change in weight per day of the least-squares fit of the records.
+     *
+     * @return the slope of the fit in kg a day, or zero if the records have no trend.
+     */
+
+    public double getDailyChange() {
+        if (!hasTrend()) {
+            return 0;
+        }
+        return (sumDayWeights - sumDays * sumWeights / size) / getSpreadOfDays();
+    }
+
+    /**
+     * Returns the sum of the squared distances of the days from their mean.
+     */
+
+    private double getSpreadOfDays() {
+        double spread = sumSquaredDays - sumDays * sumDays / size;
+        return spread < 1e-9 ? 0 : spread;
+    }
+
+}
@@ -0,0 +1,400 @@
+package seedu.dietmanager.storage;
+
+import seedu.dietmanager.commons.core.Weekday;
+import seedu.dietmanager.model.DailyFoodRecord;
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.FoodNutritionRecord;
+import seedu.dietmanager.model.FoodRecordHistory;
+import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.model.RecipeManager;
+import seedu.dietmanager.model.WeightHistory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * BinarySnapshot is the public class responsible for the binary snapshot of all four data stores. <br>
+ * The snapshot starts with a header holding the format version, the meal journal position it covers and
+ * a checksum of the body. The body holds a string table of all food names followed by one length-prefixed
+ * section for each data store, so a verified snapshot is loaded without parsing or validating any text.
+ * The food record section only holds the records of the months loaded in memory, keyed by epoch day, with the
+ * months that are still loaded from their text data files when needed. The food nutrition section is left empty
+ * for a shared food database, which is saved by the sessions' owner rather than in the snapshot of each session.
+ * The text data files remain the import and export format.
+ */
+
+public class BinarySnapshot {
+
+    /**
+     * The first four bytes of every snapshot, "DMSN".
+     */
+
+    private static final int MAGIC_NUMBER = 0x444D534E;
+
+    /**
+     * The version of the snapshot format, increased whenever the format changes.
+     */
+
+    static final int FORMAT_VERSION = 3;
+
+    /**
+     * The size of the header in bytes: magic number, version, journal generation, journal entries,
+     * body length and body checksum.
+     */
+
+    private static final int HEADER_LENGTH = 4 + 4 + 4 + 4 + 4 + 8;
+
+    private static final String[] MEAL_TYPES = {"morning", "afternoon", "night"};
+
+    private static final int MONTHS_IN_YEAR = 12;
+
+    /**
+     * The file path of the snapshot.
+     */
+
+    private Path path;
+
+    private int journalGeneration;
+
+    private int journalEntryCount;
+
+    /**
+     * The content of the snapshot once it has been verified.
+     */
+
+    private ByteBuffer body;
+
+    /**
+     * Constructs the BinarySnapshot object.
+     *
+     * @param path the file path of the snapshot.
+     */
+
+    public BinarySnapshot(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns the generation of the meal journal at the time the snapshot was written.
+     *
+     * @return the meal journal generation.
+     */
+
+    public int getJournalGeneration() {
+        return this.journalGeneration;
+    }
+
+    /**
+     * Returns the number of meal journal entries already included in the snapshot.
+     *
+     * @return the number of meal journal entries included.
+     */
+
+    public int getJournalEntryCount() {
+        return this.journalEntryCount;
+    }
+
+    /**
+     * Writes all four data stores into the snapshot, replacing the previous snapshot.
+     *
+     * @param profile             the user profile and daily food records.
+     * @param foodNutritionRecord the food nutrition database, left out of the snapshot if it is shared.
+     * @param recipeManager       the recipe.
+     * @param journalGeneration   the current meal journal generation.
+     * @param journalEntryCount   the number of meal journal entries already applied to the data stores.
+     * @throws IOException if the snapshot cannot be written.
+     */
+
+    public void write(Profile profile, FoodNutritionRecord foodNutritionRecord, RecipeManager recipeManager,
+            int journalGeneration, int journalEntryCount) throws IOException {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(body);
+        byte[][] sections = {
+            encodeProfile(profile),
+            foodNutritionRecord.isShared() ? new byte[0]
+                    : encodeFoods(foodNutritionRecord.getFoodNutritionRecordList(), stringTable),
+            encodeRecipe(recipeManager, stringTable),
+            encodeFoodRecords(profile, stringTable)
+        };
+
+        output.writeInt(stringTable.size());
+        for (String foodName : stringTable.keySet()) {
+            output.writeUTF(foodName);
+        }
+        for (byte[] section : sections) {
+            output.writeInt(section.length);
+            output.write(section);
+        }
+        output.flush();
+        byte[] bodyBytes = body.toByteArray();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bodyBytes);
+        ByteBuffer snapshot = ByteBuffer.allocate(HEADER_LENGTH + bodyBytes.length);
+        snapshot.putInt(MAGIC_NUMBER).putInt(FORMAT_VERSION).putInt(journalGeneration).putInt(journalEntryCount)
+                .putInt(bodyBytes.length).putLong(checksum.getValue()).put(bodyBytes);
+        WriteBehindWriter.writeAtomically(path, snapshot.array());
+        this.journalGeneration = journalGeneration;
+        this.journalEntryCount = journalEntryCount;
+    }
+
+    /**
+     * Reads the snapshot and verifies its version and checksum.
+     *
+     * @return true if the snapshot exists and is valid, false otherwise.
+     * @throws IOException if the snapshot cannot be read.
+     */
+
+    public boolean verify() throws IOException {
+        this.body = null;
+        if (!Files.exists(path)) {
+            return false;
+        }
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (snapshot.remaining() < HEADER_LENGTH || snapshot.getInt() != MAGIC_NUMBER
+                || snapshot.getInt() != FORMAT_VERSION) {
+            return false;
+        }
+        int generation = snapshot.getInt();
+        int entryCount = snapshot.getInt();
+        int bodyLength = snapshot.getInt();
+        long expectedChecksum = snapshot.getLong();
+        if (bodyLength != snapshot.remaining()) {
+            return false;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot.array(), HEADER_LENGTH, bodyLength);
+        if (checksum.getValue() != expectedChecksum) {
+            return false;
+        }
+        this.journalGeneration = generation;
+        this.journalEntryCount = entryCount;
+        this.body = snapshot;
+        return true;
+    }
+
+    /**
+     * Loads all four data stores from the verified snapshot, without parsing or validating any text.
+     *
+     * @param profile             the user profile and daily food records to load into.
+     * @param foodNutritionRecord the food nutrition database to load into, left unchanged if it is shared.
+     * @param recipeManager       the recipe to load into.
+     * @throws IOException if the snapshot has not been verified, is shorter than its sections, or has no food
+     *                     nutrition section to load into a database that is not shared.
+     */
+
+    public void load(Profile profile, FoodNutritionRecord foodNutritionRecord, RecipeManager recipeManager)
+            throws IOException {
+        if (body == null) {
+            throw new IOException("Snapshot not verified");
+        }
+        DataInputStream input = new DataInputStream(
+                new ByteArrayInputStream(body.array(), HEADER_LENGTH, body.array().length - HEADER_LENGTH));
+        String[] stringTable = new String[input.readInt()];
+        for (int i = 0; i < stringTable.length; i++) {
+            stringTable[i] = input.readUTF();
+        }
+        input.mark(body.capacity());
+        input.skipBytes(input.readInt());
+        if (!foodNutritionRecord.isShared() && input.readInt() == 0) {
+            throw new IOException("Snapshot has no food nutrition record");
+        }
+        input.reset();
+        input.readInt();
+        decodeProfile(input, profile);
+        int foodNutritionSectionLength = input.readInt();
+        if (foodNutritionRecord.isShared()) {
+            input.skipBytes(foodNutritionSectionLength);
+        } else {
+            foodNutritionRecord.setFoodNutritionRecordList(decodeFoods(input, stringTable));
+            foodNutritionRecord.setModified(false);
+        }
+        input.readInt();
+        for (int i = 0; i < Weekday.values().length; i++) {
+            for (String mealType : MEAL_TYPES) {
+                recipeManager.setRecipe(i, mealType, decodeFoods(input, stringTable));
+            }
+        }
+        recipeManager.setModified(false);
+        input.readInt();
+        FoodRecordHistory foodRecordHistory = profile.getFoodRecordHistory();
+        for (YearMonth month : decodeMonths(input)) {
+            foodRecordHistory.addUnloadedMonth(month);
+        }
+        for (YearMonth month : decodeMonths(input)) {
+            foodRecordHistory.addClearedMonth(month);
+        }
+        int recordCount = input.readInt();
+        for (int i = 0; i < recordCount; i++) {
+            LocalDate date = LocalDate.ofEpochDay(input.readLong());
+            boolean isModified = input.readBoolean();
+            for (String mealType : MEAL_TYPES) {
+                profile.recordMeals(date, mealType, decodeFoods(input, stringTable));
+            }
+            profile.getRecordOfDay(date).setModified(isModified);
+        }
+        this.body = null;
+    }
+
+    private static byte[] encodeProfile(Profile profile) throws IOException {
+        ByteArrayOutputStream section = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(section);
+        output.writeBoolean(profile.isProfileExist());
+        if (profile.isProfileExist()) {
+            output.writeUTF(profile.getName());
+            output.writeInt(profile.getAge());
+            output.writeUTF(profile.getGender());
+            output.writeDouble(profile.getHeight());
+            output.writeDouble(profile.getWeight());
+            output.writeDouble(profile.getWeightGoal());
+            WeightHistory weightHistory = profile.getWeightHistory();
+            output.writeInt(weightHistory.size());
+            for (int i = 0; i < weightHistory.size(); i++) {
+                output.writeLong(weightHistory.getEpochDay(i));
+                output.writeDouble(weightHistory.getWeight(i));
+            }
+        }
+        output.flush();
+        return section.toByteArray();
+    }
+
+    private static void decodeProfile(DataInputStream input, Profile profile) throws IOException {
+        if (!input.readBoolean()) {
+            return;
+        }
+        String name = input.readUTF();
+        int age = input.readInt();
+        String gender = input.readUTF();
+        double height = input.readDouble();
+        double weight = input.readDouble();
+        double weightGoal = input.readDouble();
+        long[] weightDays = new long[input.readInt()];
+        double[] weightRecord = new double[weightDays.length];
+        for (int i = 0; i < weightRecord.length; i++) {
+            weightDays[i] = input.readLong();
+            weightRecord[i] = input.readDouble();
+        }
+        profile.setProfile(name, age, gender, height, weight, weightGoal);
+        profile.getWeightHistory().clear();
+        for (int i = 0; i < weightRecord.length; i++) {
+            profile.getWeightHistory().add(weightDays[i], weightRecord[i]);
+        }
+        profile.setProfileModified(false);
+    }
+
+    private static byte[] encodeRecipe(RecipeManager recipeManager, Map<String, Integer> stringTable)
+            throws IOException {
+        ByteArrayOutputStream section = new ByteArrayOutputStream();
+        for (int i = 0; i < Weekday.values().length; i++) {
+            DailyFoodRecord recipeOfDay = recipeManager.getRecipeOfDay(i);
+            for (String mealType : MEAL_TYPES) {
+                section.write(encodeFoods(recipeOfDay.getDailyFood(mealType), stringTable));
+            }
+        }
+        return section.toByteArray();
+    }
+
+    private static byte[] encodeFoodRecords(Profile profile, Map<String, Integer> stringTable)
+            throws IOException {
+        ByteArrayOutputStream section = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(section);
+        FoodRecordHistory foodRecordHistory = profile.getFoodRecordHistory();
+        encodeMonths(output, foodRecordHistory.getUnloadedMonths());
+        encodeMonths(output, foodRecordHistory.getClearedMonths());
+        List<DailyFoodRecord> records = foodRecordHistory.getLoadedRecords();
+        output.writeInt(records.size());
+        for (DailyFoodRecord record : records) {
+            output.writeLong(LocalDate.parse(record.getDate()).toEpochDay());
+            output.writeBoolean(record.isModified());
+            for (String mealType : MEAL_TYPES) {
+                output.write(encodeFoods(record.getDailyFood(mealType), stringTable));
+            }
+        }
+        output.flush();
+        return section.toByteArray();
+    }
+
+    /**
+     * Encodes months as a count followed by the number of months since year zero of each month.
+     *
+     * @param output the output of the section.
+     * @param months the months to encode.
+     * @throws IOException if the months cannot be written.
+     */
+
+    private static void encodeMonths(DataOutputStream output, Collection<YearMonth> months) throws IOException {
+        output.writeInt(months.size());
+        for (YearMonth month : months) {
+            output.writeInt(month.getYear() * MONTHS_IN_YEAR + month.getMonthValue() - 1);
+        }
+    }
+
+    private static List<YearMonth> decodeMonths(DataInputStream input) throws IOException {
+        int monthCount = input.readInt();
+        List<YearMonth> months = new ArrayList<>(monthCount);
+        for (int i = 0; i < monthCount; i++) {
+            int month = input.readInt();
+            months.add(YearMonth.of(Math.floorDiv(month, MONTHS_IN_YEAR), Math.floorMod(month, MONTHS_IN_YEAR) + 1));
+        }
+        return months;
+    }
+
+    /**
+     * Encodes a list of foods as a count followed by the string table index and calories of each food.
+     *
+     * @param foods       the foods to encode.
+     * @param stringTable the string table, extended with any food name not yet in it.
+     * @return the encoded foods.
+     * @throws IOException if the foods cannot be encoded.
+     */
+
+    private static byte[] encodeFoods(List<Food> foods, Map<String, Integer> stringTable) throws IOException {
+        ByteArrayOutputStream section = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(section);
+        output.writeInt(foods.size());
+        for (Food food : foods) {
+            Integer nameIndex = stringTable.get(food.getFoodName());
+            if (nameIndex == null) {
+                nameIndex = stringTable.size();
+                stringTable.put(food.getFoodName(), nameIndex);
+            }
+            output.writeInt(nameIndex);
+            output.writeBoolean(food.hasCaloriesData());
+            if (food.hasCaloriesData()) {
+                output.writeDouble(food.getCalories().get());
+            }
+        }
+        output.flush();
+        return section.toByteArray();
+    }
+
+    private static ArrayList<Food> decodeFoods(DataInputStream input, String[] stringTable) throws IOException {
+        int foodCount = input.readInt();
+        ArrayList<Food> foods = new ArrayList<>(foodCount);
+        for (int i = 0; i < foodCount; i++) {
+            String foodName = stringTable[input.readInt()];
+            if (input.readBoolean()) {
+                foods.add(new Food(foodName, input.readDouble()));
+            } else {
+                foods.add(new Food(foodName));
+            }
+        }
+        return foods;
+    }
+
+}
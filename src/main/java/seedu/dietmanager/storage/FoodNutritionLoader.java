@@ -0,0 +1,222 @@
+package seedu.dietmanager.storage;
+
+import seedu.dietmanager.commons.exceptions.InvalidCaloriesException;
+import seedu.dietmanager.commons.exceptions.InvalidFoodNameException;
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+import seedu.dietmanager.logic.parser.CaloriesParser;
+import seedu.dietmanager.logic.parser.FoodNameParser;
+import seedu.dietmanager.model.Food;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * FoodNutritionLoader is the public class responsible for loading large food nutrition data files. <br>
+ * Large files are memory-mapped and the {@code name,calories} lines are tokenized straight from the mapped bytes.
+ * Calories are parsed from the bytes without building intermediate strings, so the only objects created for
+ * each line are the food and its name.
+ */
+
+public class FoodNutritionLoader {
+
+    /**
+     * The file size in bytes from which the file is memory-mapped instead of read into memory.
+     * Smaller files are read, so that the data file is not held open by a mapping when it is rewritten.
+     */
+
+    private static final long MAPPING_THRESHOLD = 4 * 1024 * 1024;
+
+    /**
+     * The largest number of significant digits for which the calories are computed exactly
+     * from the digits, without falling back to {@link Double#parseDouble(String)}.
+     */
+
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Holds the bytes of the food name being tokenized.
+     */
+
+    private byte[] nameBytes = new byte[64];
+
+    private FoodNutritionLoader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Loads the foods in a food nutrition data file, keeping the first of any foods with the same name.
+     *
+     * @param path the path of the food nutrition data file.
+     * @return the foods in the order they appear in the file.
+     * @throws IOException              if the file cannot be read.
+     * @throws InvalidFormatException   if a line is not in the {@code name,calories} format.
+     * @throws InvalidCaloriesException if the calories of a food are invalid.
+     */
+
+    public static ArrayList<Food> load(Path path)
+            throws IOException, InvalidFormatException, InvalidCaloriesException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Food nutrition data file too large: " + path.getFileName());
+            }
+            ByteBuffer buffer;
+            if (size >= MAPPING_THRESHOLD) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        break;
+                    }
+                }
+                buffer.flip();
+            }
+            return new FoodNutritionLoader(buffer).parse();
+        }
+    }
+
+    private ArrayList<Food> parse() throws InvalidFormatException, InvalidCaloriesException {
+        int limit = buffer.limit();
+        ArrayList<Food> foods = new ArrayList<>(limit / 16);
+        Set<String> foodNames = new HashSet<>();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            Food food = this.parseLine(lineStart, lineEnd);
+            if (foodNames.add(food.getFoodName())) {
+                foods.add(food);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return foods;
+    }
+
+    private Food parseLine(int start, int end) throws InvalidFormatException, InvalidCaloriesException {
+        start = skipWhitespace(start, end);
+        end = trimWhitespace(start, end);
+        int comma = start;
+        while (comma < end && buffer.get(comma) != ',') {
+            comma++;
+        }
+        if (comma >= end || comma == start) {
+            throw new InvalidFormatException();
+        }
+        return new Food(this.parseFoodName(start, comma), this.parseCalories(comma + 1, end));
+    }
+
+    /**
+     * Returns the food name in standard form, in lower case with spaces replaced by hyphens.
+     */
+
+    private String parseFoodName(int start, int end) throws InvalidFormatException {
+        start = skipWhitespace(start, end);
+        end = trimWhitespace(start, end);
+        if (nameBytes.length < end - start) {
+            nameBytes = new byte[(end - start) * 2];
+        }
+        for (int i = start; i < end; i++) {
+            byte character = buffer.get(i);
+            if (character < 0) {
+                return this.parseNonAsciiFoodName(start, end);
+            } else if (character >= 'A' && character <= 'Z') {
+                character += 'a' - 'A';
+            } else if (character == ' ') {
+                character = '-';
+            }
+            nameBytes[i - start] = character;
+        }
+        return new String(nameBytes, 0, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    private String parseNonAsciiFoodName(int start, int end) throws InvalidFormatException {
+        try {
+            return FoodNameParser.parseFoodName(new String(this.getBytes(start, end), StandardCharsets.UTF_8));
+        } catch (InvalidFoodNameException e) {
+            throw new InvalidFormatException();
+        }
+    }
+
+    /**
+     * Returns the calories written in the bytes. <br>
+     * Plain decimal numbers of up to 15 significant digits are computed as one division of two exactly
+     * representable doubles, which gives the same correctly rounded result as {@link Double#parseDouble(String)}.
+     */
+
+    private double parseCalories(int start, int end) throws InvalidCaloriesException {
+        start = skipWhitespace(start, end);
+        int position = start;
+        if (position < end && buffer.get(position) == '+') {
+            position++;
+        }
+        long mantissa = 0;
+        boolean hasDigits = false;
+        int digitCount = 0;
+        int fractionDigitCount = 0;
+        boolean isFraction = false;
+        for (; position < end; position++) {
+            byte character = buffer.get(position);
+            if (character >= '0' && character <= '9') {
+                hasDigits = true;
+                if (mantissa != 0 || character != '0') {
+                    digitCount++;
+                }
+                mantissa = mantissa * 10 + (character - '0');
+                if (isFraction) {
+                    fractionDigitCount++;
+                }
+            } else if (character == '.' && !isFraction) {
+                isFraction = true;
+            } else {
+                break;
+            }
+        }
+        if (position == end && hasDigits && digitCount <= MAX_EXACT_DIGITS
+                && fractionDigitCount < POWERS_OF_TEN.length) {
+            return mantissa / POWERS_OF_TEN[fractionDigitCount];
+        }
+        return CaloriesParser.parseCalories(new String(this.getBytes(start, end), StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Returns a copy of the bytes from start to end, leaving the position of the buffer unchanged.
+     */
+
+    private byte[] getBytes(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.duplicate().position(start).get(bytes);
+        return bytes;
+    }
+
+    private int skipWhitespace(int start, int end) {
+        while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimWhitespace(int start, int end) {
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+}
@@ -0,0 +1,168 @@
+package seedu.dietmanager.storage;
+
+import seedu.dietmanager.logic.parser.Tokenizer;
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.MealChange;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MealJournal is the public class responsible for the append-only journal of changes made to the
+ * daily food records and the recipe. <br>
+ * Each change is appended as one line, so saving a change only costs the size of the change.
+ * The journal is replayed on top of the last saved records during start up.
+ */
+
+public class MealJournal {
+
+    private static final String NEW_LINE = "\n";
+
+    private static final String NO_FOOD = "nothing";
+
+    private static final String GENERATION_HEADER = "GENERATION ";
+
+    /**
+     * The file path of the journal.
+     */
+
+    private Path path;
+
+    /**
+     * The generation of the data files the journal entries are to be replayed on.
+     */
+
+    private int generation = 0;
+
+    /**
+     * Constructs the MealJournal object.
+     *
+     * @param path the file path of the journal.
+     */
+
+    public MealJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Appends the changes to the journal and forces them to disk.
+     *
+     * @param changes the changes to append, in order.
+     * @throws IOException if the journal cannot be written.
+     */
+
+    public void append(List<MealChange> changes) throws IOException {
+        StringBuilder entries = new StringBuilder();
+        for (MealChange change : changes) {
+            entries.append(formatEntry(change)).append(NEW_LINE);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(entries.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the complete entries in the journal. <br>
+     * An entry left incomplete by an interrupted write is discarded from the journal.
+     *
+     * @return the journal entries, in order.
+     * @throws IOException if the journal cannot be read.
+     */
+
+    public List<String> readEntries() throws IOException {
+        List<String> entries = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return entries;
+        }
+        String journal = Files.readString(path, StandardCharsets.UTF_8);
+        int completeLength = journal.lastIndexOf(NEW_LINE) + 1;
+        if (completeLength < journal.length()) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(journal.substring(0, completeLength).getBytes(StandardCharsets.UTF_8).length);
+            }
+        }
+        Tokenizer lines = new Tokenizer(journal.substring(0, completeLength));
+        while (lines.nextPart(NEW_LINE)) {
+            String entry = lines.token();
+            if (entry.startsWith(GENERATION_HEADER)) {
+                this.generation = Integer.parseInt(entry.substring(GENERATION_HEADER.length()).trim());
+            } else if (!entry.isBlank()) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Returns the size of the journal.
+     *
+     * @return the size of the journal in bytes.
+     * @throws IOException if the size of the journal cannot be read.
+     */
+
+    public long size() throws IOException {
+        return Files.exists(path) ? Files.size(path) : 0;
+    }
+
+    /**
+     * Removes all entries from the journal, starting a new generation.
+     *
+     * @param generation the generation of the data files saved with all previous entries.
+     * @throws IOException if the journal cannot be written.
+     */
+
+    public void reset(int generation) throws IOException {
+        WriteBehindWriter.writeAtomically(path, GENERATION_HEADER + generation + NEW_LINE);
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the journal entry of a change.
+     *
+     * @param change the change made.
+     * @return the journal entry in standard form.
+     */
+
+    public static String formatEntry(MealChange change) {
+        if (change.getAction() == MealChange.Action.CLEAR) {
+            return change.getAction().name();
+        }
+        return change.getAction().name() + " " + change.getDate() + " " + change.getMealType() + ": "
+                + formatFoodList(change.getFoodList());
+    }
+
+    /**
+     * Returns the foods as a comma separated list of food names and calories.
+     *
+     * @param foodList the foods to format.
+     * @return the food list in standard form.
+     */
+
+    public static String formatFoodList(List<Food> foodList) {
+        if (foodList.isEmpty()) {
+            return NO_FOOD;
+        }
+        StringBuilder foodDescription = new StringBuilder();
+        for (Food food : foodList) {
+            foodDescription.append(food.getPair());
+        }
+        return foodDescription.substring(0, foodDescription.length() - 1);
+    }
+
+}
@@ -4,6 +4,7 @@ import seedu.dietmanager.commons.core.LogsCentre;
 import seedu.dietmanager.commons.core.Weekday;
 import seedu.dietmanager.commons.exceptions.InvalidAgeException;
 import seedu.dietmanager.commons.exceptions.InvalidCaloriesException;
+import seedu.dietmanager.commons.exceptions.InvalidDateException;
 import seedu.dietmanager.commons.exceptions.InvalidFoodNameException;
 import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.commons.exceptions.InvalidGenderException;
@@ -12,31 +13,47 @@ import seedu.dietmanager.commons.exceptions.InvalidNameException;
 import seedu.dietmanager.commons.exceptions.InvalidWeightException;
 import seedu.dietmanager.logic.parser.AgeParser;
 import seedu.dietmanager.logic.parser.CaloriesParser;
+import seedu.dietmanager.logic.parser.DateParser;
 import seedu.dietmanager.logic.parser.FoodNameParser;
 import seedu.dietmanager.logic.parser.GenderParser;
 import seedu.dietmanager.logic.parser.HeightParser;
 import seedu.dietmanager.logic.parser.NameParser;
 import seedu.dietmanager.logic.parser.StorageParser;
+import seedu.dietmanager.logic.parser.Tokenizer;
 import seedu.dietmanager.logic.parser.WeightParser;
 import seedu.dietmanager.model.DailyFoodRecord;
 import seedu.dietmanager.model.Food;
 import seedu.dietmanager.model.FoodNutritionRecord;
+import seedu.dietmanager.model.FoodRecordHistory;
+import seedu.dietmanager.model.MealChange;
 import seedu.dietmanager.model.Profile;
 import seedu.dietmanager.model.RecipeManager;
+import seedu.dietmanager.model.SharedFoodNutritionRecord;
+import seedu.dietmanager.model.WeightHistory;
 import seedu.dietmanager.ui.UI;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Storage is the public class responsible for creating and managing the data files generated from the application.
@@ -56,58 +73,486 @@ public class Storage {
 
     private FoodNutritionRecord foodNutritionRecord;
 
+    /**
+     * Writes the data files on a background thread.
+     */
+
+    private WriteBehindWriter writer;
+
+    /**
+     * Whether the writer is shared with other sessions, and so is flushed rather than closed by this storage.
+     */
+
+    private boolean isWriterShared;
+
     /**
      * The file path of the directory that contains the data file.
      */
 
-    private static String DATA_DIRECTORY_PATH = "data";
+    private final String dataDirectoryPath;
 
     /**
      * The file path of the data file that contains profile information.
      */
 
-    private static String PROFILE_FILE_PATH = DATA_DIRECTORY_PATH
-            + File.separator + "profile.txt";
+    private final String profileFilePath;
 
     /**
-     * The file path of the data file that contains food record information.
+     * The file path of the data file that contains the food records of the seven weekdays,
+     * saved by earlier versions and migrated into the data file of each month.
      */
 
-    private static String DAILY_FOOD_RECORD_FILE_PATH = DATA_DIRECTORY_PATH
-            + File.separator + "daily-food-record.txt";
+    private final String dailyFoodRecordFilePath;
+
+    /**
+     * The file path of the directory that contains the food record data file of each month, named {@code yyyy-MM.txt}.
+     */
+
+    private final String dailyFoodRecordDirectoryPath;
+
+    private static final String DATA_FILE_EXTENSION = ".txt";
+
+    private static final String[] MEAL_TYPES = {"morning", "afternoon", "night"};
 
     /**
      * To be implemented at a later stage.
      * The file path of the data file that contains food nutritional information.
      */
 
-    private static String FOOD_NUTRITION_RECORD_FILE_PATH = DATA_DIRECTORY_PATH
-            + File.separator + "food-nutrition-record.txt";
+    private final String foodNutritionRecordFilePath;
 
     /**
      * The file path of the data file that contains recommend recipe.
      */
 
-    private static String RECIPE_FILE_PATH = DATA_DIRECTORY_PATH
-            + File.separator + "recipe.txt";
+    private final String recipeFilePath;
+
+    /**
+     * The file path of the journal that contains changes made to the food records and recipe.
+     */
+
+    private final String mealJournalFilePath;
+
+    /**
+     * The journal size in bytes beyond which the journal is compacted into the food record and recipe data files.
+     */
+
+    private static final long MEAL_JOURNAL_COMPACTION_THRESHOLD = 64 * 1024;
+
+    /**
+     * The label of the generation line in the food record and recipe data files.
+     */
+
+    private static final String GENERATION_LABEL = "Generation";
+
+    /**
+     * The file path of the binary snapshot of all data stores.
+     */
+
+    private final String snapshotFilePath;
+
+    /**
+     * Appends changes made to the food records and recipe.
+     */
+
+    private MealJournal mealJournal;
+
+    /**
+     * The number of times the meal journal has been compacted. <br>
+     * Journal entries are only replayed on data files written in the same generation, so that entries
+     * already saved in a data file are never applied twice.
+     */
+
+    private int mealJournalGeneration = 0;
+
+    /**
+     * The number of entries in the meal journal of the current generation.
+     */
+
+    private int mealJournalEntryCount = 0;
 
     /**
-     * Constructs the Storage object.
+     * The number of meal journal entries already included in the loaded snapshot.
+     */
+
+    private int snapshotEntryCount = 0;
+
+    /**
+     * The number of threads loading the text data files during start up.
+     */
+
+    private static final int LOADER_THREAD_COUNT = 3;
+
+    private BinarySnapshot snapshot;
+
+    /**
+     * The generation of the food record data file of each month.
+     */
+
+    private Map<YearMonth, Integer> foodRecordGenerations = new HashMap<>();
+
+    private int recipeGeneration = 0;
+
+    private boolean isCompactionPending = false;
+
+    /**
+     * Constructs the Storage object, keeping the data files in the {@code data} directory.
      *
      * @param ui the object containing user interface functions.
      */
 
     public Storage(UI ui, LogsCentre logsCentre, Profile profile, FoodNutritionRecord foodNutritionRecord) {
+        this(ui, logsCentre, profile, foodNutritionRecord, Paths.get("data"));
+    }
+
+    /**
+     * Constructs the Storage object, keeping the data files in a directory of their own. <br>
+     * A shared food database is neither loaded nor written, as it belongs to all sessions using it, but it is asked
+     * to save itself whenever changes are saved.
+     *
+     * @param ui            the object containing user interface functions.
+     * @param dataDirectory the directory of the data files, created if it does not exist.
+     */
+
+    public Storage(UI ui, LogsCentre logsCentre, Profile profile, FoodNutritionRecord foodNutritionRecord,
+            Path dataDirectory) {
+        this(ui, logsCentre, profile, foodNutritionRecord, dataDirectory, null);
+    }
+
+    /**
+     * Constructs the Storage object, keeping the data files in a directory of their own and writing them with
+     * a writer shared by sessions running at the same time, so that the sessions need no writer thread each.
+     *
+     * @param ui            the object containing user interface functions.
+     * @param dataDirectory the directory of the data files, created if it does not exist.
+     * @param sharedWriter  the writer of the data files, or {@code null} for a writer of the storage's own.
+     */
+
+    public Storage(UI ui, LogsCentre logsCentre, Profile profile, FoodNutritionRecord foodNutritionRecord,
+            Path dataDirectory, WriteBehindWriter sharedWriter) {
         this.ui = ui;
         this.logsCentre = logsCentre;
         this.profile = profile;
         this.foodNutritionRecord = foodNutritionRecord;
-
+        this.dataDirectoryPath = dataDirectory.toString();
+        this.profileFilePath = dataDirectory.resolve("profile.txt").toString();
+        this.dailyFoodRecordFilePath = dataDirectory.resolve("daily-food-record.txt").toString();
+        this.dailyFoodRecordDirectoryPath = dataDirectory.resolve("daily-food-record").toString();
+        this.foodNutritionRecordFilePath = dataDirectory.resolve("food-nutrition-record.txt").toString();
+        this.recipeFilePath = dataDirectory.resolve("recipe.txt").toString();
+        this.mealJournalFilePath = dataDirectory.resolve("meal-journal.txt").toString();
+        this.snapshotFilePath = dataDirectory.resolve("snapshot.bin").toString();
+        this.mealJournal = new MealJournal(Paths.get(mealJournalFilePath));
+        this.snapshot = new BinarySnapshot(Paths.get(snapshotFilePath));
+        this.isWriterShared = sharedWriter != null;
+        this.writer = isWriterShared ? sharedWriter : new WriteBehindWriter(ui, logsCentre);
+
+        long startTime = System.nanoTime();
         this.loadDataDirectory();
-        this.loadProfileFile();
-        this.loadFoodNutritionRecordFile();
-        this.loadRecipeFile();
-        this.loadDailyFoodRecordFile();
+        if (!this.loadSnapshot()) {
+            this.loadDataFiles();
+        }
+        this.logStageTime("meal journal", this::loadMealJournal);
+        logsCentre.writeInfoLog(String.format("Data loaded in %.1f ms", (System.nanoTime() - startTime) / 1e6));
+    }
+
+    /**
+     * Loads the text data files on a pool of loader threads. <br>
+     * The profile and food nutrition record are loaded concurrently. The recipe and daily food record,
+     * which look up food names in the food nutrition record, are loaded concurrently once it is ready.
+     */
+
+    public void loadDataFiles() {
+        ExecutorService loader = Executors.newFixedThreadPool(LOADER_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "storage-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<Void> profileLoaded = CompletableFuture.runAsync(() ->
+                    this.logStageTime("profile", this::loadProfileFile), loader);
+            CompletableFuture<Void> foodNutritionRecordLoaded = foodNutritionRecord.isShared()
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.runAsync(() ->
+                            this.logStageTime("food nutrition record", this::loadFoodNutritionRecordFile), loader);
+            CompletableFuture<Void> recipeLoaded = foodNutritionRecordLoaded.thenRunAsync(() ->
+                    this.logStageTime("recipe", this::loadRecipeFile), loader);
+            CompletableFuture<Void> foodRecordLoaded = foodNutritionRecordLoaded.thenRunAsync(() ->
+                    this.logStageTime("daily food record", this::loadDailyFoodRecordFile), loader);
+            CompletableFuture.allOf(profileLoaded, recipeLoaded, foodRecordLoaded).join();
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    /**
+     * Runs a start up stage and logs the time it takes.
+     *
+     * @param stage     the name of the stage.
+     * @param stageTask the task loading the stage.
+     */
+
+    private void logStageTime(String stage, Runnable stageTask) {
+        long startTime = System.nanoTime();
+        stageTask.run();
+        logsCentre.writeFineLog(String.format("Loaded %s in %.1f ms on %s", stage,
+                (System.nanoTime() - startTime) / 1e6, Thread.currentThread().getName()));
+    }
+
+    /**
+     * Saves the data stores that have changed since they were last saved. <br>
+     * The data files are written on a background thread, merging changes made in quick succession.
+     */
+
+    public void saveChanges() {
+        if (profile.isProfileExist()) {
+            if (profile.isProfileModified()) {
+                this.writeProfileFile();
+                profile.setProfileModified(false);
+            }
+            List<MealChange> mealChanges = profile.takeMealChanges();
+            mealChanges.addAll(profile.getRecipeManager().takeMealChanges());
+            if (isCompactionPending) {
+                this.compactMealJournal();
+            } else if (!mealChanges.isEmpty()) {
+                this.appendMealJournal(mealChanges);
+            }
+        }
+        if (foodNutritionRecord.isShared()) {
+            ((SharedFoodNutritionRecord) foodNutritionRecord).save();
+        } else if (foodNutritionRecord.isModified()) {
+            this.writeFoodNutritionRecordFile();
+            foodNutritionRecord.setModified(false);
+        }
+    }
+
+    /**
+     * Saves any remaining changes and waits for all data files to be written to disk. A shared writer is
+     * left running for the other sessions.
+     */
+
+    public void close() {
+        this.saveChanges();
+        if (isWriterShared) {
+            writer.flush();
+        } else {
+            writer.close();
+        }
+        this.writeSnapshot();
+    }
+
+    /**
+     * Loads all data stores from the binary snapshot. <br>
+     * The snapshot is only used if it is valid, no text data file was changed after it was written
+     * and the meal journal still contains all entries it includes.
+     *
+     * @return true if the data stores are loaded from the snapshot, false if the text data files must be read.
+     */
+
+    public boolean loadSnapshot() {
+        try {
+            if (!this.isSnapshotNewerThanDataFiles() || !snapshot.verify()) {
+                return false;
+            }
+            List<String> entries = mealJournal.readEntries();
+            if (snapshot.getJournalGeneration() != mealJournal.getGeneration()
+                    || snapshot.getJournalEntryCount() > entries.size()) {
+                return false;
+            }
+            long startTime = System.nanoTime();
+            snapshot.load(profile, foodNutritionRecord, profile.getRecipeManager());
+            logsCentre.writeFineLog(String.format("Loaded snapshot in %.1f ms", (System.nanoTime() - startTime) / 1e6));
+            profile.takeMealChanges();
+            profile.getRecipeManager().takeMealChanges();
+            this.readFoodRecordGenerations();
+            recipeGeneration = snapshot.getJournalGeneration();
+            snapshotEntryCount = snapshot.getJournalEntryCount();
+            logsCentre.writeInfoLog("Existing snapshot found: " + Paths.get(snapshotFilePath).getFileName());
+            return true;
+        } catch (IOException | NumberFormatException e) {
+            logsCentre.writeWarningLog("Snapshot invalid, reading data files instead.");
+            return false;
+        }
+    }
+
+    private boolean isSnapshotNewerThanDataFiles() throws IOException {
+        Path snapshotPath = Paths.get(snapshotFilePath);
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+        FileTime snapshotTime = Files.getLastModifiedTime(snapshotPath);
+        for (String dataFilePath : new String[] {profileFilePath, foodNutritionRecordFilePath,
+                recipeFilePath, dailyFoodRecordDirectoryPath}) {
+            if (dataFilePath.equals(foodNutritionRecordFilePath) && foodNutritionRecord.isShared()) {
+                continue;
+            }
+            Path dataPath = Paths.get(dataFilePath);
+            if (!Files.exists(dataPath) || Files.getLastModifiedTime(dataPath).compareTo(snapshotTime) > 0) {
+                return false;
+            }
+        }
+        return this.getNewestFoodRecordFileTime().compareTo(snapshotTime) <= 0;
+    }
+
+    /**
+     * Returns the latest time a month file in the food record directory was modified. Editing or replacing a
+     * month file in place does not change the modified time of the directory itself on most file systems.
+     */
+
+    private FileTime getNewestFoodRecordFileTime() throws IOException {
+        FileTime newestTime = FileTime.fromMillis(0);
+        try (DirectoryStream<Path> monthFiles = Files.newDirectoryStream(Paths.get(dailyFoodRecordDirectoryPath))) {
+            for (Path monthFile : monthFiles) {
+                FileTime modifiedTime = Files.getLastModifiedTime(monthFile);
+                if (this.parseFoodRecordMonth(monthFile).isPresent() && modifiedTime.compareTo(newestTime) > 0) {
+                    newestTime = modifiedTime;
+                }
+            }
+        }
+        return newestTime;
+    }
+
+    /**
+     * Writes the binary snapshot of all data stores, to be loaded during the next start up.
+     */
+
+    public void writeSnapshot() {
+        try {
+            snapshot.write(profile, foodNutritionRecord, profile.getRecipeManager(),
+                    mealJournalGeneration, mealJournalEntryCount);
+        } catch (IOException e) {
+            logsCentre.writeSevereLog("Error in writing snapshot file");
+            ui.displayFileErrorMessage();
+        }
+    }
+
+    /**
+     * Appends the changes made to the food records and recipe to the meal journal,
+     * compacting the journal once it grows beyond the compaction threshold.
+     *
+     * @param mealChanges the changes made, in order.
+     */
+
+    public void appendMealJournal(List<MealChange> mealChanges) {
+        try {
+            mealJournal.append(mealChanges);
+            mealJournalEntryCount += mealChanges.size();
+            if (mealJournal.size() > MEAL_JOURNAL_COMPACTION_THRESHOLD) {
+                this.compactMealJournal();
+            }
+        } catch (IOException e) {
+            logsCentre.writeSevereLog("Error in meal journal file, saving all meal records instead.");
+            this.compactMealJournal();
+        }
+    }
+
+    /**
+     * Rewrites the food record and recipe data files from the current data and empties the meal journal.
+     */
+
+    public void compactMealJournal() {
+        mealJournalGeneration += 1;
+        List<Path> compactedPaths = new ArrayList<>();
+        for (YearMonth month : profile.getFoodRecordHistory().getModifiedMonths()) {
+            compactedPaths.add(this.getFoodRecordPath(month));
+        }
+        compactedPaths.add(Paths.get(recipeFilePath));
+        this.writeFoodRecordFile();
+        this.writeRecipeFile();
+        isCompactionPending = !writer.flush(compactedPaths);
+        if (isCompactionPending) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Paths.get(dailyFoodRecordFilePath));
+            mealJournal.reset(mealJournalGeneration);
+            mealJournalEntryCount = 0;
+            profile.setFoodRecordModified(false);
+            profile.getRecipeManager().setModified(false);
+            logsCentre.writeFineLog("Meal journal compacted, generation " + mealJournalGeneration);
+        } catch (IOException e) {
+            isCompactionPending = true;
+            logsCentre.writeSevereLog("Error in meal journal file");
+            ui.displayFileErrorMessage();
+        }
+    }
+
+    /**
+     * Replays the changes in the meal journal on top of the loaded food records and recipe. <br>
+     * If an invalid entry is found, the valid entries before it are kept and the journal is compacted.
+     */
+
+    public void loadMealJournal() {
+        try {
+            List<String> entries = mealJournal.readEntries();
+            mealJournalGeneration = mealJournal.getGeneration();
+            mealJournalEntryCount = entries.size();
+            for (String entry : entries.subList(snapshotEntryCount, entries.size())) {
+                this.replayMealJournalEntry(entry);
+            }
+            if (entries.size() > snapshotEntryCount) {
+                logsCentre.writeInfoLog("Meal journal replayed: " + (entries.size() - snapshotEntryCount)
+                        + " changes");
+            }
+        } catch (IOException e) {
+            logsCentre.writeSevereLog("Error in meal journal file");
+            ui.displayFileErrorMessage();
+        } catch (InvalidFormatException | InvalidFoodNameException | InvalidCaloriesException
+                | InvalidDateException | IllegalArgumentException e) {
+            logsCentre.writeWarningLog("Meal journal entry invalid, remaining entries discarded.");
+            this.compactMealJournal();
+        }
+        profile.takeMealChanges();
+        profile.getRecipeManager().takeMealChanges();
+    }
+
+    /**
+     * Applies a single meal journal entry, unless the entry is already saved in the data file it changes. <br>
+     * A food record entry is checked against the data file of the month of its date, and clearing the food
+     * records only clears the months whose data files were written before the entry.
+     *
+     * @param entry the meal journal entry.
+     * @throws InvalidFormatException   if the entry has the wrong format.
+     * @throws InvalidFoodNameException if a food name is invalid.
+     * @throws InvalidCaloriesException if a calories value is invalid.
+     * @throws InvalidDateException     if a date is invalid.
+     */
+
+    private void replayMealJournalEntry(String entry)
+            throws InvalidFormatException, InvalidFoodNameException, InvalidCaloriesException, InvalidDateException {
+        String[] entryArray = StorageParser.parseMealJournalEntry(entry);
+        MealChange.Action action = MealChange.Action.valueOf(entryArray[0]);
+        if (action == MealChange.Action.CLEAR) {
+            profile.getFoodRecordHistory().clear(month -> !this.isSavedInFoodRecordFile(month));
+            return;
+        }
+
+        String[] dataLineArray = StorageParser.parseFoodRecordDataLine(entryArray[1]);
+        String[] timeDescriptionArray = StorageParser.parseTimeDescription(dataLineArray[0]);
+        String date = timeDescriptionArray[0].trim();
+        String timeFrame = timeDescriptionArray[1].trim().toLowerCase();
+        if (action == MealChange.Action.RECIPE) {
+            if (mealJournalGeneration >= recipeGeneration) {
+                int index = Weekday.valueOf(date.toUpperCase()).getIndex() - 1;
+                profile.getRecipeManager().setRecipe(index, timeFrame, parseFoodList(dataLineArray[1].trim()));
+            }
+            return;
+        }
+        LocalDate recordDate = DateParser.parseDate(date, profile.getToday());
+        if (!this.isSavedInFoodRecordFile(YearMonth.from(recordDate))) {
+            profile.recordMeals(recordDate, timeFrame, parseFoodList(dataLineArray[1].trim()));
+        }
+    }
+
+    /**
+     * Returns whether the data file of a month was written after the entries of the current meal journal.
+     *
+     * @param month the month of the data file.
+     * @return true if the entries of the meal journal are already saved in the data file.
+     */
+
+    private boolean isSavedInFoodRecordFile(YearMonth month) {
+        return mealJournalGeneration < foodRecordGenerations.getOrDefault(month, 0);
     }
 
     /**
@@ -115,10 +560,10 @@ public class Storage {
      */
 
     public void loadDataDirectory() {
-        Path directoryPath = Paths.get(DATA_DIRECTORY_PATH);
+        Path directoryPath = Paths.get(dataDirectoryPath);
         if (!Files.exists(directoryPath)) {
             try {
-                Files.createDirectory(directoryPath);
+                Files.createDirectories(directoryPath);
                 logsCentre.writeInfoLog("New Directory created: " + directoryPath.getFileName().toString());
             } catch (IOException e) {
                 logsCentre.writeSevereLog("Error in creating new directory");
@@ -130,20 +575,43 @@ public class Storage {
     }
 
     /**
-     * Searches for the data file in the directory, if absent, creates a new data file. <br>
-     * If data file is present, loads the existing data from the file such that it is accessible by the user.
+     * Searches for the food record directory, if absent, creates a new directory. <br>
+     * If the directory is present, finds the data file of each month without reading the food records,
+     * which are only read once a date of the month is looked up.
      */
 
     public void loadDailyFoodRecordFile() {
+        this.readFoodRecordGenerations();
+        for (YearMonth month : foodRecordGenerations.keySet()) {
+            profile.getFoodRecordHistory().addUnloadedMonth(month);
+        }
+        logsCentre.writeInfoLog("Existing food record files found: " + foodRecordGenerations.size() + " months");
+        if (Files.exists(Paths.get(dailyFoodRecordFilePath))) {
+            this.migrateWeekdayFoodRecordFile();
+        }
+    }
+
+    /**
+     * Finds the data file of each month in the food record directory and reads its generation, creating
+     * the directory if absent. The food records of a month are read by the month loader once needed.
+     */
+
+    private void readFoodRecordGenerations() {
+        profile.getFoodRecordHistory().setMonthLoader(this::readFoodRecordFile);
+        Path directoryPath = Paths.get(dailyFoodRecordDirectoryPath);
         try {
-            File foodRecordData = new File(DAILY_FOOD_RECORD_FILE_PATH);
-            if (foodRecordData.createNewFile()) {
-                logsCentre.writeInfoLog("No existing food record file found, new file created: "
-                        + foodRecordData.getName());
-            } else {
-                logsCentre.writeInfoLog("Existing food record file found: "
-                        + foodRecordData.getName());
-                this.readFoodRecordFile();
+            if (!Files.exists(directoryPath)) {
+                Files.createDirectory(directoryPath);
+                logsCentre.writeInfoLog("No existing food record directory found, new directory created: "
+                        + directoryPath.getFileName());
+            }
+            try (DirectoryStream<Path> monthFiles = Files.newDirectoryStream(directoryPath)) {
+                for (Path monthFile : monthFiles) {
+                    Optional<YearMonth> month = this.parseFoodRecordMonth(monthFile);
+                    if (month.isPresent()) {
+                        foodRecordGenerations.put(month.get(), this.readFoodRecordGeneration(monthFile));
+                    }
+                }
             }
         } catch (IOException e) {
             logsCentre.writeSevereLog("Error in food record data file");
@@ -152,16 +620,61 @@ public class Storage {
     }
 
     /**
-     * Reads the data file and parses the existing data in the file, restoring the daily food record.
+     * Returns the month of a food record data file named {@code yyyy-MM.txt}.
+     *
+     * @param monthFile the data file.
+     * @return the month of the data file, or empty if the file is not a food record data file.
      */
 
-    public void readFoodRecordFile() {
+    private Optional<YearMonth> parseFoodRecordMonth(Path monthFile) {
+        String fileName = monthFile.getFileName().toString();
+        if (!fileName.endsWith(DATA_FILE_EXTENSION)) {
+            return Optional.empty();
+        }
+        String monthDescription = fileName.substring(0, fileName.length() - DATA_FILE_EXTENSION.length());
         try {
-            File foodRecordData = new File(DAILY_FOOD_RECORD_FILE_PATH);
-            Scanner myReader = new Scanner(foodRecordData);
-            Optional<String> foodName;
+            return Optional.of(YearMonth.parse(monthDescription));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
 
-            FoodNutritionRecord foodNutritionRecord = FoodNutritionRecord.getInstance();
+    /**
+     * Reads the generation from the first line of the data file of a month.
+     *
+     * @param monthFile the data file of the month.
+     * @return the generation of the data file, or 0 if it has none.
+     * @throws IOException if the data file cannot be read.
+     */
+
+    private int readFoodRecordGeneration(Path monthFile) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(monthFile)) {
+            String firstLine = reader.readLine();
+            if (firstLine == null) {
+                return 0;
+            }
+            String[] dataLineArray = StorageParser.parseFoodRecordDataLine(firstLine);
+            if (!dataLineArray[0].trim().equals(GENERATION_LABEL)) {
+                return 0;
+            }
+            return StorageParser.parseGeneration(dataLineArray[1].trim());
+        } catch (InvalidFormatException | NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Reads the data file of a month and parses the existing data in the file, restoring the daily food
+     * records of the month.
+     *
+     * @param month the month to restore.
+     */
+
+    public void readFoodRecordFile(YearMonth month) {
+        FoodRecordHistory foodRecordHistory = profile.getFoodRecordHistory();
+        try {
+            File foodRecordData = this.getFoodRecordPath(month).toFile();
+            Scanner myReader = new Scanner(foodRecordData);
 
             while (myReader.hasNextLine()) {
                 String dataLine = myReader.nextLine();
@@ -169,108 +682,117 @@ public class Storage {
                 String timeDescription = dataLineArray[0].trim();
                 String foodDescription = dataLineArray[1].trim();
 
-                if (foodDescription.equals("nothing")) {
+                if (timeDescription.equals(GENERATION_LABEL) || foodDescription.equals("nothing")) {
                     continue;
                 }
 
                 String[] timeDescriptionArray = StorageParser.parseTimeDescription(timeDescription);
-                String date = timeDescriptionArray[0].trim().toLowerCase();
+                LocalDate date = DateParser.parseDate(timeDescriptionArray[0].trim(), profile.getToday());
                 String timeFrame = timeDescriptionArray[1].trim().toLowerCase();
+                if (!YearMonth.from(date).equals(month)) {
+                    throw new InvalidFormatException();
+                }
 
-                ArrayList<Food> foods = new ArrayList<>();
+                foodRecordHistory.getRecord(date).recordMeals(timeFrame, parseFoodList(foodDescription));
+            }
+            myReader.close();
+        } catch (FileNotFoundException | InvalidFormatException | InvalidFoodNameException
+                | InvalidCaloriesException | InvalidDateException e) {
+            logsCentre.writeInfoLog("Food record Information Invalid, food record of " + month + " cleared.");
+            foodRecordHistory.clear(month::equals);
+        }
+        for (DailyFoodRecord record : foodRecordHistory.getRecords(month)) {
+            record.setModified(false);
+        }
+    }
 
-                String[] foodList = foodDescription.split(",");
-                for (String foodInfo : foodList) {
-                    int splitIndex = foodInfo.indexOf("(");
-                    String nameDescription = foodInfo.substring(0, splitIndex);
+    /**
+     * Reads the food records of the seven weekdays saved by earlier versions into the dates of this week,
+     * to be saved in the data file of each month during the next compaction of the meal journal. <br>
+     * If any month is already saved, the weekday data file was already migrated and is deleted instead.
+     */
 
-                    foodName = Optional.of(FoodNameParser.parseFoodName(nameDescription));
-                    Optional<Food> curFood = foodNutritionRecord.findFood(foodName.get());
-                    if (curFood.isPresent()) {
-                        foods.add(curFood.get());
-                    } else {
-                        foods.add(new Food(foodName.get()));
-                    }
+    public void migrateWeekdayFoodRecordFile() {
+        if (!foodRecordGenerations.isEmpty()) {
+            clearFoodRecord();
+            return;
+        }
+        int weekdayFileGeneration = 0;
+        try {
+            File foodRecordData = new File(dailyFoodRecordFilePath);
+            Scanner myReader = new Scanner(foodRecordData);
+
+            while (myReader.hasNextLine()) {
+                String dataLine = myReader.nextLine();
+                String[] dataLineArray = StorageParser.parseFoodRecordDataLine(dataLine);
+                String timeDescription = dataLineArray[0].trim();
+                String foodDescription = dataLineArray[1].trim();
+
+                if (timeDescription.equals(GENERATION_LABEL)) {
+                    weekdayFileGeneration = StorageParser.parseGeneration(foodDescription);
+                    continue;
+                }
+                if (foodDescription.equals("nothing")) {
+                    continue;
                 }
 
-                DailyFoodRecord curRecord = profile.getRecordOfDay(date);
-                curRecord.recordMeals(timeFrame, foods);
+                String[] timeDescriptionArray = StorageParser.parseTimeDescription(timeDescription);
+                String date = timeDescriptionArray[0].trim().toLowerCase();
+                String timeFrame = timeDescriptionArray[1].trim().toLowerCase();
+
+                profile.recordMeals(date, timeFrame, parseFoodList(foodDescription));
             }
             myReader.close();
-        } catch (FileNotFoundException | InvalidFormatException | InvalidFoodNameException e) {
+        } catch (FileNotFoundException | InvalidFormatException | InvalidFoodNameException
+                | InvalidCaloriesException | IllegalArgumentException e) {
             logsCentre.writeInfoLog("Food record Information Invalid, food record cleared.");
-            clearFoodRecord();
+            profile.clearAllFoodRecords();
+        }
+        for (YearMonth month : profile.getFoodRecordHistory().getModifiedMonths()) {
+            foodRecordGenerations.put(month, weekdayFileGeneration);
         }
+        logsCentre.writeInfoLog("Weekday food record file migrated: "
+                + Paths.get(dailyFoodRecordFilePath).getFileName());
+        isCompactionPending = true;
     }
 
     /**
-     * Clears all content in the daily food record data file.
+     * Deletes the weekday food record data file saved by earlier versions.
      */
 
     public void clearFoodRecord() {
         try {
-            PrintWriter pw = new PrintWriter(DAILY_FOOD_RECORD_FILE_PATH);
-            pw.close();
-        } catch (FileNotFoundException e) {
+            Files.deleteIfExists(Paths.get(dailyFoodRecordFilePath));
+        } catch (IOException e) {
             ui.displayFileErrorMessage();
         }
     }
 
+    private Path getFoodRecordPath(YearMonth month) {
+        return Paths.get(dailyFoodRecordDirectoryPath, month + DATA_FILE_EXTENSION);
+    }
+
     /**
-     * Rewrites the data file to reflect the current data.
+     * Queues the data file of each month with changes to be rewritten in the background to reflect the current data.
+     * The data file of a cleared month is rewritten without any record.
      */
 
     public void writeFoodRecordFile() {
-        try {
-            FileWriter myWriter = new FileWriter(DAILY_FOOD_RECORD_FILE_PATH, false);
-            for (Weekday date : Weekday.values()) {
-                String curDate = date.getName();
-                DailyFoodRecord curRecord = profile.getRecordOfDay(curDate);
-
-                ArrayList<Food> morningFoods = curRecord.getDailyFood("morning");
-                String morningFoodDescription = "";
-
-                for (Food food : morningFoods) {
-                    morningFoodDescription += food.getPair();
-                }
-                if (!morningFoodDescription.equals("")) {
-                    morningFoodDescription = morningFoodDescription.substring(0, morningFoodDescription.length() - 1);
-                    myWriter.write(curDate + " morning: " + morningFoodDescription + System.lineSeparator());
-                } else {
-                    myWriter.write(curDate + " morning: " + "nothing" + System.lineSeparator());
-                }
-
-                ArrayList<Food> afternoonFoods = curRecord.getDailyFood("afternoon");
-                String afternoonFoodDescription = "";
-
-                for (Food food : afternoonFoods) {
-                    afternoonFoodDescription += food.getPair();
-                }
-                if (!afternoonFoodDescription.equals("")) {
-                    afternoonFoodDescription =
-                            afternoonFoodDescription.substring(0, afternoonFoodDescription.length() - 1);
-                    myWriter.write(curDate + " afternoon: " + afternoonFoodDescription + System.lineSeparator());
-                } else {
-                    myWriter.write(curDate + " afternoon: " + "nothing" + System.lineSeparator());
-                }
-
-                ArrayList<Food> nightFoods = curRecord.getDailyFood("night");
-                String nightFoodDescription = "";
-
-                for (Food food : nightFoods) {
-                    nightFoodDescription += food.getPair();
-                }
-                if (!nightFoodDescription.equals("")) {
-                    nightFoodDescription = nightFoodDescription.substring(0, nightFoodDescription.length() - 1);
-                    myWriter.write(curDate + " night: " + nightFoodDescription + System.lineSeparator());
-                } else {
-                    myWriter.write(curDate + " night: " + "nothing" + System.lineSeparator());
+        FoodRecordHistory foodRecordHistory = profile.getFoodRecordHistory();
+        for (YearMonth month : foodRecordHistory.getModifiedMonths()) {
+            StringBuilder data = new StringBuilder();
+            data.append(GENERATION_LABEL + ": " + mealJournalGeneration + System.lineSeparator());
+            for (DailyFoodRecord record : foodRecordHistory.getRecords(month)) {
+                for (String mealType : MEAL_TYPES) {
+                    ArrayList<Food> foods = record.getDailyFood(mealType);
+                    if (!foods.isEmpty()) {
+                        data.append(record.getDate() + " " + mealType + ": " + MealJournal.formatFoodList(foods)
+                                + System.lineSeparator());
+                    }
                 }
-
             }
-            myWriter.close();
-        } catch (IOException e) {
-            ui.displayFileErrorMessage();
+            writer.submit(this.getFoodRecordPath(month), data.toString());
+            foodRecordGenerations.put(month, mealJournalGeneration);
         }
     }
 
@@ -281,10 +803,11 @@ public class Storage {
 
     public void loadRecipeFile() {
         try {
-            File recipeData = new File(RECIPE_FILE_PATH);
+            File recipeData = new File(recipeFilePath);
             if (recipeData.createNewFile()) {
                 logsCentre.writeInfoLog("No existing Recipe file found, new file created: "
                         + recipeData.getName());
+                profile.getRecipeManager().setModified(true);
             } else {
                 logsCentre.writeInfoLog("Existing Recipe file found: "
                         + recipeData.getName());
@@ -301,78 +824,71 @@ public class Storage {
      */
 
     public void readRecipeFile() {
+        RecipeManager recipeManager = profile.getRecipeManager();
         try {
-            File recipeData = new File(RECIPE_FILE_PATH);
+            File recipeData = new File(recipeFilePath);
             Scanner myReader = new Scanner(recipeData);
-            Optional<String> foodName;
-
-            RecipeManager recipeManager = RecipeManager.getInstance();
-            FoodNutritionRecord foodNutritionRecord = FoodNutritionRecord.getInstance();
 
             while (myReader.hasNextLine()) {
                 String dataLine = myReader.nextLine();
-                String[] dataLineArray = StorageParser.parseRecipeDataLine(dataLine);
-                String morningFood = dataLineArray[1].trim();
-                String afternoonFood = dataLineArray[2].trim();
-                String nightFood = dataLineArray[2].trim();
-
-                ArrayList<Food> morningFoods = new ArrayList<>();
-                ArrayList<Food> afternoonFoods = new ArrayList<>();
-                ArrayList<Food> nightFoods = new ArrayList<>();
-
-                String[] morningFoodList = morningFood.split(",");
-                for (String foodInfo : morningFoodList) {
-                    int splitIndex = foodInfo.indexOf("(");
-                    String nameDescription = foodInfo.substring(0, splitIndex);
-
-                    foodName = Optional.of(FoodNameParser.parseFoodName(nameDescription));
-                    Optional<Food> curFood = foodNutritionRecord.findFood(foodName.get());
-                    if (curFood.isPresent()) {
-                        morningFoods.add(curFood.get());
-                    } else {
-                        morningFoods.add(new Food(foodName.get()));
-                    }
-                }
-
-                String[] afternoonFoodList = afternoonFood.split(",");
-                for (String foodInfo : afternoonFoodList) {
-                    int splitIndex = foodInfo.indexOf("(");
-                    String nameDescription = foodInfo.substring(0, splitIndex);
-
-                    foodName = Optional.of(FoodNameParser.parseFoodName(nameDescription));
-                    Optional<Food> curFood = foodNutritionRecord.findFood(foodName.get());
-                    if (curFood.isPresent()) {
-                        afternoonFoods.add(curFood.get());
-                    } else {
-                        afternoonFoods.add(new Food(foodName.get()));
-                    }
-                }
-
-                String[] nightFoodList = nightFood.split(",");
-                for (String foodInfo : nightFoodList) {
-                    int splitIndex = foodInfo.indexOf("(");
-                    String nameDescription = foodInfo.substring(0, splitIndex);
-
-                    foodName = Optional.of(FoodNameParser.parseFoodName(nameDescription));
-                    Optional<Food> curFood = foodNutritionRecord.findFood(foodName.get());
-                    if (curFood.isPresent()) {
-                        nightFoods.add(curFood.get());
-                    } else {
-                        nightFoods.add(new Food(foodName.get()));
-                    }
+                if (dataLine.startsWith(GENERATION_LABEL)) {
+                    String[] generationArray = StorageParser.parseProfileDataLine(dataLine);
+                    this.recipeGeneration = StorageParser.parseGeneration(generationArray[1]);
+                    continue;
                 }
-
+                String[] dataLineArray = StorageParser.parseRecipeDataLine(dataLine);
                 String date = dataLineArray[0].trim().toLowerCase();
 
-                recipeManager.setRecipe(date, "morning", morningFoods);
-                recipeManager.setRecipe(date, "afternoon", afternoonFoods);
-                recipeManager.setRecipe(date, "night", nightFoods);
+                recipeManager.setRecipe(date, "morning", parseFoodList(dataLineArray[1].trim()));
+                recipeManager.setRecipe(date, "afternoon", parseFoodList(dataLineArray[2].trim()));
+                recipeManager.setRecipe(date, "night", parseFoodList(dataLineArray[3].trim()));
             }
             myReader.close();
-        } catch (FileNotFoundException | InvalidFormatException | InvalidFoodNameException e) {
+        } catch (FileNotFoundException | InvalidFormatException | InvalidFoodNameException
+                | InvalidCaloriesException | IllegalArgumentException e) {
             logsCentre.writeInfoLog("Recipe Information Invalid, Recipe cleared.");
             clearRecipe();
+            recipeManager.clearRecipe();
+        }
+        recipeManager.setModified(false);
+    }
+
+    /**
+     * Parses a comma separated list of food names and calories stored in a data file.
+     *
+     * @param foodDescription the stored food list.
+     * @return the list of foods.
+     * @throws InvalidFormatException   if the food list has the wrong format.
+     * @throws InvalidFoodNameException if a food name is invalid.
+     * @throws InvalidCaloriesException if a calories value is invalid.
+     */
+
+    private ArrayList<Food> parseFoodList(String foodDescription)
+            throws InvalidFormatException, InvalidFoodNameException, InvalidCaloriesException {
+        ArrayList<Food> foods = new ArrayList<>();
+        if (foodDescription.equals("nothing")) {
+            return foods;
+        }
+        Tokenizer foodInfos = new Tokenizer(foodDescription);
+        while (foodInfos.nextPart(",")) {
+            String foodInfo = foodInfos.token();
+            int splitIndex = foodInfo.lastIndexOf("(");
+            if (splitIndex < 0 || !foodInfo.endsWith(")")) {
+                throw new InvalidFormatException();
+            }
+            String foodName = FoodNameParser.parseFoodName(foodInfo.substring(0, splitIndex));
+            String caloriesDescription = foodInfo.substring(splitIndex + 1, foodInfo.length() - 1);
+
+            Optional<Food> curFood = foodNutritionRecord.findFood(foodName);
+            if (!caloriesDescription.equals("Nan")) {
+                foods.add(new Food(foodName, CaloriesParser.parseCalories(caloriesDescription)));
+            } else if (curFood.isPresent()) {
+                foods.add(curFood.get());
+            } else {
+                foods.add(new Food(foodName));
+            }
         }
+        return foods;
     }
 
 
@@ -382,7 +898,7 @@ public class Storage {
 
     public void clearRecipe() {
         try {
-            PrintWriter pw = new PrintWriter(RECIPE_FILE_PATH);
+            PrintWriter pw = new PrintWriter(recipeFilePath);
             pw.close();
         } catch (FileNotFoundException e) {
             ui.displayFileErrorMessage();
@@ -391,17 +907,12 @@ public class Storage {
 
 
     /**
-     * Rewrites the data file to reflect the current data.
+     * Queues the data file to be rewritten in the background to reflect the current data.
      */
 
     public void writeRecipeFile() {
-        try {
-            FileWriter myWriter = new FileWriter(RECIPE_FILE_PATH, false);
-            myWriter.write(RecipeManager.getInstance().getRecipeBody());
-            myWriter.close();
-        } catch (IOException e) {
-            ui.displayFileErrorMessage();
-        }
+        writer.submit(Paths.get(recipeFilePath), GENERATION_LABEL + ": " + mealJournalGeneration
+                + System.lineSeparator() + profile.getRecipeManager().getRecipeBody());
     }
 
     /**
@@ -411,7 +922,7 @@ public class Storage {
 
     public void loadProfileFile() {
         try {
-            File profileData = new File(PROFILE_FILE_PATH);
+            File profileData = new File(profileFilePath);
             if (profileData.createNewFile()) {
                 logsCentre.writeInfoLog("No existing Profile found, new file created: "
                         + profileData.getName().toString());
@@ -433,13 +944,14 @@ public class Storage {
 
     public void readProfileFile() {
         try {
-            File profileData = new File(PROFILE_FILE_PATH);
+            File profileData = new File(profileFilePath);
             Scanner myReader = new Scanner(profileData);
             Optional<String> name = Optional.empty();
             Optional<Integer> age = Optional.empty();
             Optional<String> gender = Optional.empty();
             Optional<Double> height = Optional.empty();
             Optional<List<Double>> weightList = Optional.empty();
+            Optional<List<Long>> weightDates = Optional.empty();
             Optional<Double> weightGoal = Optional.empty();
 
             while (myReader.hasNextLine()) {
@@ -463,6 +975,9 @@ public class Storage {
                 case "WeightList":
                     weightList = Optional.of(StorageParser.parseWeightListDataLine(description));
                     break;
+                case "WeightDates":
+                    weightDates = Optional.of(StorageParser.parseWeightDatesDataLine(description));
+                    break;
                 case "Weight-Goal":
                     weightGoal = Optional.of(WeightParser.parseWeight(description));
                     break;
@@ -480,10 +995,16 @@ public class Storage {
                 double profileWeightGoal = weightGoal.get();
                 this.profile.setProfile(profileName, profileAge, profileGender,
                         profileHeight, profileWeightList.get(profileWeightList.size() - 1), profileWeightGoal);
-                this.profile.getWeightRecord().clear();
+                if (weightDates.isPresent() && weightDates.get().size() != profileWeightList.size()) {
+                    throw new InvalidFormatException();
+                }
+                long today = this.profile.getToday().toEpochDay();
+                this.profile.getWeightHistory().clear();
                 for (int i = 0; i < (profileWeightList.size()); i++) {
-                    this.profile.getWeightRecord().add(profileWeightList.get(i));
+                    long weightDay = weightDates.isPresent() ? weightDates.get().get(i) : today;
+                    this.profile.getWeightHistory().add(weightDay, profileWeightList.get(i));
                 }
+                this.profile.setProfileModified(weightDates.isEmpty());
             } else {
                 throw new InvalidFormatException();
             }
@@ -501,7 +1022,7 @@ public class Storage {
 
     public void clearProfileFile() {
         try {
-            PrintWriter pw = new PrintWriter(PROFILE_FILE_PATH);
+            PrintWriter pw = new PrintWriter(profileFilePath);
             pw.close();
         } catch (FileNotFoundException e) {
             ui.displayFileErrorMessage();
@@ -509,26 +1030,28 @@ public class Storage {
     }
 
     /**
-     * Rewrites the data file to reflect the current data.
+     * Queues the data file to be rewritten in the background to reflect the current data.
      */
 
     public void writeProfileFile() {
-        try {
-            FileWriter myWriter = new FileWriter(PROFILE_FILE_PATH, false);
-            myWriter.write("Name: " + this.profile.getName() + System.lineSeparator());
-            myWriter.write("Age: " + this.profile.getAge() + System.lineSeparator());
-            myWriter.write("Gender: " + this.profile.getGender() + System.lineSeparator());
-            myWriter.write("Height: " + this.profile.getHeight() + System.lineSeparator());
-            myWriter.write("WeightList: ");
-            for (double weightRecord : this.profile.getWeightRecord()) {
-                myWriter.write(weightRecord + ",");
-            }
-            myWriter.write(System.lineSeparator());
-            myWriter.write("Weight-Goal: " + this.profile.getWeightGoal());
-            myWriter.close();
-        } catch (IOException e) {
-            ui.displayFileErrorMessage();
+        StringBuilder data = new StringBuilder();
+        data.append("Name: " + this.profile.getName() + System.lineSeparator());
+        data.append("Age: " + this.profile.getAge() + System.lineSeparator());
+        data.append("Gender: " + this.profile.getGender() + System.lineSeparator());
+        data.append("Height: " + this.profile.getHeight() + System.lineSeparator());
+        WeightHistory weightHistory = this.profile.getWeightHistory();
+        data.append("WeightList: ");
+        for (int i = 0; i < weightHistory.size(); i++) {
+            data.append(weightHistory.getWeight(i) + ",");
+        }
+        data.append(System.lineSeparator());
+        data.append("WeightDates: ");
+        for (int i = 0; i < weightHistory.size(); i++) {
+            data.append(LocalDate.ofEpochDay(weightHistory.getEpochDay(i)) + ",");
         }
+        data.append(System.lineSeparator());
+        data.append("Weight-Goal: " + this.profile.getWeightGoal());
+        writer.submit(Paths.get(profileFilePath), data.toString());
     }
 
     /**
@@ -538,10 +1061,11 @@ public class Storage {
 
     public void loadFoodNutritionRecordFile() {
         try {
-            File foodNutritionRecordData = new File(FOOD_NUTRITION_RECORD_FILE_PATH);
+            File foodNutritionRecordData = new File(foodNutritionRecordFilePath);
             if (foodNutritionRecordData.createNewFile()) {
                 logsCentre.writeInfoLog("No existing Food Nutrition Record found, new file created: "
                         + foodNutritionRecordData.getName().toString());
+                foodNutritionRecord.setModified(true);
             } else {
                 logsCentre.writeInfoLog("Existing Food Nutrition Record found: "
                         + foodNutritionRecordData.getName().toString());
@@ -554,31 +1078,19 @@ public class Storage {
     }
 
     /**
-     * Reads the data file and parses the existing data in the file, converting it into tasks which is added into
-     * the tasklist such that it is accessible by the user.
+     * Reads the data file and parses the existing data in the file, restoring the food nutrition database.
      */
 
     public void readFoodNutritionRecordFile() {
         try {
-            File profileData = new File(FOOD_NUTRITION_RECORD_FILE_PATH);
-            Scanner myReader = new Scanner(profileData);
-
-            this.foodNutritionRecord.clearFoodNutritionRecordList();
-
-            while (myReader.hasNextLine()) {
-                String dataLine = myReader.nextLine();
-                String[] dataLineArray = StorageParser.parseFoodNutritionRecordDataLine(dataLine);
-                String label = dataLineArray[0];
-                String description = dataLineArray[1];
-                String foodName = FoodNameParser.parseFoodName(label);
-                double calories = CaloriesParser.parseCalories(description);
-                this.foodNutritionRecord.addFoodNutritionRecord(foodName, calories);
-            }
-            myReader.close();
-        } catch (FileNotFoundException | InvalidFormatException
-                | InvalidFoodNameException | InvalidCaloriesException e) {
+            List<Food> foods = FoodNutritionLoader.load(Paths.get(foodNutritionRecordFilePath));
+            this.foodNutritionRecord.setFoodNutritionRecordList(foods);
+            this.foodNutritionRecord.setModified(false);
+        } catch (IOException | InvalidFormatException | InvalidCaloriesException e) {
             logsCentre.writeInfoLog("Food Nutrition Record Information Invalid, Food Nutrition Record cleared.");
             clearFoodNutritionRecordFile();
+            this.foodNutritionRecord.clearFoodNutritionRecordList();
+            this.foodNutritionRecord.setModified(true);
         }
     }
 
@@ -588,7 +1100,7 @@ public class Storage {
 
     public void clearFoodNutritionRecordFile() {
         try {
-            PrintWriter pw = new PrintWriter(FOOD_NUTRITION_RECORD_FILE_PATH);
+            PrintWriter pw = new PrintWriter(foodNutritionRecordFilePath);
             pw.close();
         } catch (FileNotFoundException e) {
             ui.displayFileErrorMessage();
@@ -596,25 +1108,38 @@ public class Storage {
     }
 
     /**
-     * Rewrites the data file to reflect the current data.
+     * Queues the data file to be rewritten in the background to reflect the current data.
      */
 
     public void writeFoodNutritionRecordFile() {
         try {
-            FileWriter myWriter = new FileWriter(FOOD_NUTRITION_RECORD_FILE_PATH, false);
-            for (Food food : this.foodNutritionRecord.getFoodNutritionRecordList()) {
-                String foodName = food.getFoodName();
-                foodName = FoodNameParser.parseFoodName(foodName);
-                double calories = 0.00;
-                if (food.hasCaloriesData()) {
-                    calories = food.getCalories().get();
-                }
-                myWriter.write(foodName + "," + calories + System.lineSeparator());
-            }
-            myWriter.close();
-        } catch (IOException | InvalidFoodNameException e) {
+            writer.submit(Paths.get(foodNutritionRecordFilePath), toFoodNutritionRecordData(foodNutritionRecord));
+        } catch (InvalidFoodNameException e) {
             ui.displayFileErrorMessage();
         }
     }
 
+    /**
+     * Returns the content of the food nutrition record data file of a food database.
+     *
+     * @param foodNutritionRecord the food database to save.
+     * @return the content of the data file, one {@code name,calories} line per food.
+     * @throws InvalidFoodNameException if a food name cannot be saved.
+     */
+
+    public static String toFoodNutritionRecordData(FoodNutritionRecord foodNutritionRecord)
+            throws InvalidFoodNameException {
+        FoodNutritionRecord foods = foodNutritionRecord.getSnapshot();
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < foods.getListSize(); i++) {
+            String foodName = FoodNameParser.parseFoodName(foods.getFoodName(i));
+            double calories = 0.00;
+            if (foods.hasCaloriesData(i)) {
+                calories = foods.getFoodCalories(i);
+            }
+            data.append(foodName + "," + calories + System.lineSeparator());
+        }
+        return data.toString();
+    }
+
 }
@@ -0,0 +1,185 @@
+package seedu.dietmanager.storage;
+
+import seedu.dietmanager.commons.core.LogsCentre;
+import seedu.dietmanager.ui.UI;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WriteBehindWriter is the public class responsible for writing data files on a background thread.
+ * Writes submitted within a short period of each other are merged, so that only the latest content
+ * of each data file is written to disk.
+ */
+
+public class WriteBehindWriter {
+
+    /**
+     * The delay before pending writes are flushed to disk, in milliseconds.
+     */
+
+    private static final long WRITE_DELAY_MILLISECONDS = 200;
+
+    private UI ui;
+
+    private LogsCentre logsCentre;
+
+    /**
+     * The latest content waiting to be written, keyed by the path of the data file.
+     */
+
+    private final Map<Path, String> pendingWrites = new LinkedHashMap<>();
+
+    /**
+     * Ensures that only one flush writes to the data files at any time.
+     */
+
+    private final Object flushLock = new Object();
+
+    /**
+     * The data files whose last write failed, guarded by the flush lock.
+     */
+
+    private final Set<Path> failedPaths = new HashSet<>();
+
+    private final ScheduledExecutorService executor;
+
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Constructs the WriteBehindWriter object.
+     *
+     * @param ui         the object containing user interface functions.
+     * @param logsCentre the object recording logs for the application.
+     */
+
+    public WriteBehindWriter(UI ui, LogsCentre logsCentre) {
+        this.ui = ui;
+        this.logsCentre = logsCentre;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the content to be written to a data file, replacing any content still waiting for that file.
+     *
+     * @param path    the path of the data file.
+     * @param content the full content of the data file.
+     */
+
+    public synchronized void submit(Path path, String content) {
+        pendingWrites.put(path, content);
+        if (scheduledFlush == null && !executor.isShutdown()) {
+            scheduledFlush = executor.schedule(() -> this.flush(), WRITE_DELAY_MILLISECONDS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes all pending content to disk.
+     *
+     * @return true if all pending content is written, false if any data file could not be written.
+     */
+
+    public boolean flush() {
+        boolean isSuccessful = true;
+        synchronized (flushLock) {
+            Map<Path, String> writes;
+            synchronized (this) {
+                writes = new LinkedHashMap<>(pendingWrites);
+                pendingWrites.clear();
+                scheduledFlush = null;
+            }
+            for (Map.Entry<Path, String> write : writes.entrySet()) {
+                try {
+                    writeAtomically(write.getKey(), write.getValue());
+                    failedPaths.remove(write.getKey());
+                } catch (IOException e) {
+                    isSuccessful = false;
+                    failedPaths.add(write.getKey());
+                    logsCentre.writeSevereLog("Error in writing data file: " + write.getKey().getFileName());
+                    ui.displayFileErrorMessage();
+                }
+            }
+        }
+        return isSuccessful;
+    }
+
+    /**
+     * Writes all pending content to disk and tells whether the last write of each of some data files succeeded,
+     * including writes made by a flush on the background thread. Failed writes of other data files, such as those
+     * of other sessions sharing the writer, do not affect the result.
+     *
+     * @param paths the paths of the data files to check.
+     * @return true if the last write of each of the data files succeeded, false otherwise.
+     */
+
+    public boolean flush(Collection<Path> paths) {
+        synchronized (flushLock) {
+            this.flush();
+            return Collections.disjoint(failedPaths, paths);
+        }
+    }
+
+    /**
+     * Writes the content to a temporary file before moving it over the data file,
+     * so that an interrupted write never leaves a partially written data file.
+     *
+     * @param path    the path of the data file.
+     * @param content the full content of the data file.
+     * @throws IOException if the data file cannot be written.
+     */
+
+    static void writeAtomically(Path path, String content) throws IOException {
+        writeAtomically(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the bytes to a temporary file before moving it over the data file.
+     *
+     * @param path    the path of the data file.
+     * @param content the full content of the data file.
+     * @throws IOException if the data file cannot be written.
+     */
+
+    static void writeAtomically(Path path, byte[] content) throws IOException {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temporaryPath, content);
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes all pending content to disk and stops the background thread.
+     */
+
+    public void close() {
+        synchronized (this) {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+            }
+            executor.shutdown();
+        }
+        flush();
+    }
+
+}
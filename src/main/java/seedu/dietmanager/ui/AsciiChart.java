@@ -0,0 +1,163 @@
+package seedu.dietmanager.ui;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * AsciiChart is the public class responsible for drawing a series of dated values as a fixed-size ASCII chart. <br>
+ * Long series are first downsampled to one point per column with the largest-triangle-three-buckets algorithm,
+ * which keeps the peaks and dips that shape the series, so the chart has the same size for any series length.
+ */
+
+public class AsciiChart {
+
+    /**
+     * The number of columns of the plot, which is also the number of points drawn.
+     */
+
+    public static final int WIDTH = 60;
+
+    /**
+     * The number of rows of the plot.
+     */
+
+    public static final int HEIGHT = 10;
+
+    private static final int LABEL_WIDTH = 9;
+
+    private static final int DATE_WIDTH = 10;
+
+    private static final char POINT = '*';
+
+    /**
+     * Returns the indices of the points kept when a series is downsampled with largest-triangle-three-buckets,
+     * in one pass over the series. <br>
+     * The first and last points are always kept. Every other kept point is the point of its bucket that forms
+     * the largest triangle with the point kept before it and the average of the next bucket.
+     *
+     * @param count     the number of points in the series.
+     * @param x         the x value of each point, in non-decreasing order.
+     * @param y         the y value of each point.
+     * @param threshold the maximum number of points to keep, at least 3.
+     * @return the indices of the kept points in order.
+     */
+
+    public static int[] downsample(int count, IntToDoubleFunction x, IntToDoubleFunction y, int threshold) {
+        if (threshold >= count || threshold < 3) {
+            int[] indices = new int[count];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = i;
+            }
+            return indices;
+        }
+        int[] indices = new int[threshold];
+        double bucketSize = (double) (count - 2) / (threshold - 2);
+        int selected = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, count);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x.applyAsDouble(i);
+                averageY += y.applyAsDouble(i);
+            }
+            averageX /= nextEnd - nextStart;
+            averageY /= nextEnd - nextStart;
+
+            double selectedX = x.applyAsDouble(selected);
+            double selectedY = y.applyAsDouble(selected);
+            double maxArea = -1;
+            int nextSelected = nextStart - 1;
+            for (int i = (int) (bucket * bucketSize) + 1; i < nextStart; i++) {
+                double area = Math.abs((selectedX - averageX) * (y.applyAsDouble(i) - selectedY)
+                        - (selectedX - x.applyAsDouble(i)) * (averageY - selectedY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    nextSelected = i;
+                }
+            }
+            indices[bucket + 1] = nextSelected;
+            selected = nextSelected;
+        }
+        indices[threshold - 1] = count - 1;
+        return indices;
+    }
+
+    /**
+     * Draws a series of dated values as a chart of {@code HEIGHT} rows and {@code WIDTH} columns, with the
+     * highest and lowest value drawn on the y axis and the first and last date on the x axis.
+     *
+     * @param title    the title of the chart.
+     * @param count    the number of points in the series, at least one.
+     * @param epochDay the epoch day of each point, in non-decreasing order.
+     * @param value    the value of each point.
+     * @return the chart.
+     */
+
+    public static String render(String title, int count, IntToDoubleFunction epochDay, IntToDoubleFunction value) {
+        int[] indices = downsample(count, epochDay, value, WIDTH);
+        double firstDay = epochDay.applyAsDouble(indices[0]);
+        double lastDay = epochDay.applyAsDouble(indices[indices.length - 1]);
+        double minValue = Double.POSITIVE_INFINITY;
+        double maxValue = Double.NEGATIVE_INFINITY;
+        for (int index : indices) {
+            minValue = Math.min(minValue, value.applyAsDouble(index));
+            maxValue = Math.max(maxValue, value.applyAsDouble(index));
+        }
+
+        char[][] plot = new char[HEIGHT][WIDTH];
+        for (char[] row : plot) {
+            Arrays.fill(row, ' ');
+        }
+        for (int i = 0; i < indices.length; i++) {
+            int column = lastDay == firstDay
+                    ? (indices.length == 1 ? 0 : i * (WIDTH - 1) / (indices.length - 1))
+                    : (int) Math.round((epochDay.applyAsDouble(indices[i]) - firstDay) / (lastDay - firstDay)
+                            * (WIDTH - 1));
+            int row = maxValue == minValue
+                    ? HEIGHT / 2
+                    : (int) Math.round((maxValue - value.applyAsDouble(indices[i])) / (maxValue - minValue)
+                            * (HEIGHT - 1));
+            plot[row][column] = POINT;
+        }
+
+        String lineSeparator = System.lineSeparator();
+        StringBuilder chart = new StringBuilder(title.length()
+                + (HEIGHT + 3) * (LABEL_WIDTH + WIDTH + 2 + lineSeparator.length()));
+        chart.append(title).append(lineSeparator);
+        for (int row = 0; row < HEIGHT; row++) {
+            String label = row == 0 ? String.format("%.2f", maxValue)
+                    : row == HEIGHT - 1 ? String.format("%.2f", minValue) : "";
+            appendPadded(chart, label, LABEL_WIDTH);
+            chart.append(" |").append(plot[row]);
+            chart.append(lineSeparator);
+        }
+        appendPadded(chart, "", LABEL_WIDTH);
+        chart.append(" +");
+        for (int column = 0; column < WIDTH; column++) {
+            chart.append('-');
+        }
+        chart.append(lineSeparator);
+        appendPadded(chart, "", LABEL_WIDTH + 2);
+        chart.append(LocalDate.ofEpochDay((long) firstDay));
+        if (lastDay != firstDay) {
+            appendPadded(chart, "", WIDTH - 2 * DATE_WIDTH);
+            chart.append(LocalDate.ofEpochDay((long) lastDay));
+        }
+        return chart.toString();
+    }
+
+    /**
+     * Appends a text right-aligned in a field of a given width.
+     */
+
+    private static void appendPadded(StringBuilder chart, String text, int width) {
+        for (int i = text.length(); i < width; i++) {
+            chart.append(' ');
+        }
+        chart.append(text);
+    }
+
+}
@@ -1,5 +1,7 @@
 package seedu.dietmanager.ui;
 
+import java.io.InputStream;
+import java.io.PrintStream;
 import java.util.Scanner;
 
 import static seedu.dietmanager.commons.core.MessageBank.CREATE_PROFILE_MESSAGE;
@@ -21,6 +23,12 @@ public class UI {
 
     private Scanner sc;
 
+    /**
+     * The stream the messages are printed to.
+     */
+
+    private PrintStream out;
+
     /**
      * The exit status determining whether to close the application.
      */
@@ -28,12 +36,24 @@ public class UI {
     private boolean exitStatus;
 
     /**
-     * Constructs the UI object.
+     * Constructs the UI object reading from the standard input and printing to the standard output.
      */
 
     public UI() {
+        this(System.in, System.out);
+    }
+
+    /**
+     * Constructs the UI object reading user input from a stream and printing messages to another.
+     *
+     * @param in  the stream of user input.
+     * @param out the stream the messages are printed to.
+     */
+
+    public UI(InputStream in, PrintStream out) {
         this.exitStatus = false;
-        this.sc = new Scanner(System.in);
+        this.sc = new Scanner(in);
+        this.out = out;
     }
 
     /**
@@ -118,7 +138,7 @@ public class UI {
 
     public void showMessage(String... message) {
         for (String m : message) {
-            System.out.println(m);
+            out.println(m);
         }
     }
 
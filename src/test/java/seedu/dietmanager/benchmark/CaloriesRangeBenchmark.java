@@ -0,0 +1,100 @@
+package seedu.dietmanager.benchmark;
+
+import seedu.dietmanager.model.CaloriesSummary;
+import seedu.dietmanager.model.DailyFoodRecord;
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.FoodRecordHistory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Compares calories queries over random ranges of ten years of daily records, answered by the range index
+ * of {@code FoodRecordHistory} and by the loop over every day of the range it replaced. <br>
+ * Run with {@code gradlew benchmark -Pbenchmark=CaloriesRangeBenchmark}.
+ */
+
+public class CaloriesRangeBenchmark {
+
+    private static final int HISTORY_DAYS = 3_653;
+
+    private static final int QUERY_COUNT = 10_000;
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static double blackhole;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used.
+     */
+
+    public static void main(String[] args) {
+        FoodRecordHistory history = new FoodRecordHistory();
+        LocalDate firstDate = LocalDate.of(2010, 1, 1);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < HISTORY_DAYS; i++) {
+            DailyFoodRecord record = history.getRecord(firstDate.plusDays(i));
+            for (String mealType : new String[] {"morning", "afternoon", "night"}) {
+                ArrayList<Food> foods = new ArrayList<>(List.of(new Food("food-" + i, 200 + random.nextInt(600))));
+                record.recordMeals(mealType, foods);
+            }
+        }
+        LocalDate[] froms = new LocalDate[QUERY_COUNT];
+        LocalDate[] tos = new LocalDate[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            int from = random.nextInt(HISTORY_DAYS);
+            froms[i] = firstDate.plusDays(from);
+            tos[i] = firstDate.plusDays(from + random.nextInt(HISTORY_DAYS - from));
+        }
+
+        double loop = measure(() -> {
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                double total = 0;
+                double max = 0;
+                for (LocalDate date = froms[i]; !date.isAfter(tos[i]); date = date.plusDays(1)) {
+                    Optional<Double> calories = history.findRecord(date).flatMap(DailyFoodRecord::getDailyCalories);
+                    if (calories.isPresent()) {
+                        total += calories.get();
+                        max = Math.max(max, calories.get());
+                    }
+                }
+                blackhole += total + max;
+            }
+        });
+        double index = measure(() -> {
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                CaloriesSummary summary = history.getCaloriesSummary(froms[i], tos[i]);
+                blackhole += summary.getTotalCalories() + summary.getMaxCalories();
+            }
+        });
+
+        System.out.printf("%-36s %16s%n", "range query over " + HISTORY_DAYS + " days", "time");
+        System.out.printf(Locale.ROOT, "%-36s %13.1f us%n", "loop over each day", loop / QUERY_COUNT / 1_000);
+        System.out.printf(Locale.ROOT, "%-36s %13.1f us%n", "range index", index / QUERY_COUNT / 1_000);
+        System.out.println("(checksum " + blackhole + ")");
+    }
+
+    /**
+     * Returns the average time of one run in nanoseconds.
+     */
+
+    private static double measure(Runnable benchmark) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            benchmark.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            benchmark.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+
+}
@@ -0,0 +1,110 @@
+package seedu.dietmanager.benchmark;
+
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.FoodNutritionRecord;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Compares the columns of {@code FoodNutritionRecord} against the list of {@code Food} objects, the hash map
+ * index and the sorted keys they replaced, in heap used per food and in the time to sum the calories
+ * of all foods. <br>
+ * Run with {@code gradlew benchmark -Pbenchmark=FoodColumnBenchmark}.
+ */
+
+public class FoodColumnBenchmark {
+
+    private static final int FOOD_COUNT = 1_000_000;
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static double blackhole;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used.
+     */
+
+    public static void main(String[] args) {
+        String[] foodNames = new String[FOOD_COUNT];
+        for (int i = 0; i < FOOD_COUNT; i++) {
+            foodNames[i] = "food-" + i;
+        }
+
+        long heapBefore = usedHeap();
+        List<Food> foodList = new ArrayList<>();
+        Map<String, Food> foodIndex = new HashMap<>();
+        NavigableSet<String> sortedFoodKeys = new TreeSet<>();
+        for (int i = 0; i < FOOD_COUNT; i++) {
+            Food food = new Food(foodNames[i], i % 1000);
+            foodList.add(food);
+            foodIndex.put(foodNames[i], food);
+            sortedFoodKeys.add(foodNames[i]);
+        }
+        long objectHeap = usedHeap() - heapBefore;
+
+        FoodNutritionRecord database = FoodNutritionRecord.getInstance();
+        database.clearFoodNutritionRecordList();
+        heapBefore = usedHeap();
+        for (int i = 0; i < FOOD_COUNT; i++) {
+            database.addFoodNutritionRecord(foodNames[i], (double) (i % 1000));
+        }
+        long columnHeap = usedHeap() - heapBefore;
+
+        double objectSum = measure(() -> {
+            double sum = 0;
+            for (Food food : foodList) {
+                sum += food.getCalories().get();
+            }
+            blackhole += sum;
+        });
+        double columnSum = measure(() -> {
+            double sum = 0;
+            for (int i = 0; i < database.getListSize(); i++) {
+                sum += database.getFoodCalories(i);
+            }
+            blackhole += sum;
+        });
+
+        System.out.printf("%-28s %16s %16s%n", FOOD_COUNT + " foods", "Food objects", "columns");
+        System.out.printf(Locale.ROOT, "%-28s %16s %16s%n", "heap per food",
+                objectHeap / FOOD_COUNT + " B", columnHeap / FOOD_COUNT + " B");
+        System.out.printf(Locale.ROOT, "%-28s %16s %16s%n", "sum of calories",
+                String.format(Locale.ROOT, "%.2f ms", objectSum / 1_000_000),
+                String.format(Locale.ROOT, "%.2f ms", columnSum / 1_000_000));
+        System.out.println("(checksum " + (blackhole + foodIndex.size() + sortedFoodKeys.size()) + ")");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Returns the average time of one run in nanoseconds.
+     */
+
+    private static double measure(Runnable benchmark) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            benchmark.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            benchmark.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+
+}
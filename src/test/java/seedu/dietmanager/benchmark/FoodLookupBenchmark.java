@@ -0,0 +1,143 @@
+package seedu.dietmanager.benchmark;
+
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.FoodNutritionRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Compares food lookups and inserts in the indexed {@code FoodNutritionRecord} against the linear scan
+ * it replaced, and measures prefix searches, at 10k, 100k and 1M foods. <br>
+ * Run with {@code gradlew benchmark -Pbenchmark=FoodLookupBenchmark}.
+ */
+
+public class FoodLookupBenchmark {
+
+    private static final int[] DATABASE_SIZES = {10_000, 100_000, 1_000_000};
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * The largest database that is still filled with the quadratic linear scan insert.
+     */
+
+    private static final int MAX_LINEAR_INSERT_SIZE = 10_000;
+
+    private static int blackhole;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used.
+     */
+
+    public static void main(String[] args) {
+        FoodNutritionRecord database = FoodNutritionRecord.getInstance();
+        System.out.printf("%-10s %-22s %16s %16s%n", "foods", "operation", "linear scan", "hash index");
+        for (int size : DATABASE_SIZES) {
+            String[] queries = createQueries(size, 1_000);
+
+            double indexedInsert = measure(() -> fill(database, size), 1) / size;
+            String linearInsert = size <= MAX_LINEAR_INSERT_SIZE
+                    ? format(measure(() -> fillWithLinearScan(size), 1) / size) : "(quadratic)";
+            report(size, "insert", linearInsert, format(indexedInsert));
+
+            int linearQueryCount = Math.max(10, 10_000_000 / size);
+            List<Food> foods = database.getFoodNutritionRecordList();
+            double linearLookup = measure(() -> {
+                for (int i = 0; i < linearQueryCount; i++) {
+                    blackhole += findWithLinearScan(foods, queries[i % queries.length]).isPresent() ? 1 : 0;
+                }
+            }, linearQueryCount);
+            double indexedLookup = measure(() -> {
+                for (int i = 0; i < 1_000_000; i++) {
+                    blackhole += database.findFood(queries[i % queries.length]).isPresent() ? 1 : 0;
+                }
+            }, 1_000_000);
+            report(size, "findFood", format(linearLookup), format(indexedLookup));
+
+            String[] prefixes = new String[queries.length];
+            for (int i = 0; i < queries.length; i++) {
+                prefixes[i] = queries[i].substring(0, queries[i].length() - 1);
+            }
+            double prefixSearch = measure(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    blackhole += database.searchFood(prefixes[i % prefixes.length], 10).size();
+                }
+            }, 100_000);
+            report(size, "searchFood (top 10)", "-", format(prefixSearch));
+        }
+        System.out.println("(checksum " + blackhole + ")");
+    }
+
+    private static String[] createQueries(int size, int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] queries = new String[count];
+        for (int i = 0; i < count; i++) {
+            queries[i] = "Food-" + random.nextInt(size);
+        }
+        return queries;
+    }
+
+    private static void fill(FoodNutritionRecord database, int size) {
+        database.clearFoodNutritionRecordList();
+        for (int i = 0; i < size; i++) {
+            database.addFoodNutritionRecord("food-" + i, (double) (i % 1000));
+        }
+    }
+
+    private static void fillWithLinearScan(int size) {
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String foodName = "food-" + i;
+            if (findWithLinearScan(foods, foodName).isEmpty()) {
+                foods.add(new Food(foodName, i % 1000));
+            }
+        }
+        blackhole += foods.size();
+    }
+
+    /**
+     * Finds a food the way {@code FoodNutritionRecord} did before the index.
+     */
+
+    private static Optional<Food> findWithLinearScan(List<Food> foods, String foodName) {
+        Optional<Food> foodFound = Optional.empty();
+        for (Food food : foods) {
+            if (food.getFoodName().toLowerCase().equals(foodName.toLowerCase())) {
+                foodFound = Optional.of(food);
+            }
+        }
+        return foodFound;
+    }
+
+    /**
+     * Returns the average time of one operation in nanoseconds.
+     */
+
+    private static double measure(Runnable benchmark, int operationCount) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            benchmark.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            benchmark.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_ROUNDS / operationCount;
+    }
+
+    private static String format(double nanoseconds) {
+        return String.format(Locale.ROOT, "%,.1f ns/op", nanoseconds);
+    }
+
+    private static void report(int size, String operation, String linear, String indexed) {
+        System.out.printf(Locale.ROOT, "%-10d %-22s %16s %16s%n", size, operation, linear, indexed);
+    }
+
+}
@@ -0,0 +1,146 @@
+package seedu.dietmanager.benchmark;
+
+import seedu.dietmanager.model.FoodNutritionRecord;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Measures typo-tolerant food lookups in {@code FoodNutritionRecord} at 10k, 100k and 500k foods: building
+ * the trigram index, adding a food to the built index, and finding the closest food to misspelt names. <br>
+ * Run with {@code gradlew benchmark -Pbenchmark=FoodMatchBenchmark}.
+ */
+
+public class FoodMatchBenchmark {
+
+    private static final int[] DATABASE_SIZES = {10_000, 100_000, 500_000};
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final String[] WORDS = {
+        "chicken", "beef", "pork", "fish", "prawn", "tofu", "egg", "rice", "noodles", "curry", "soup",
+        "fried", "steamed", "roasted", "spicy", "sweet", "sour", "laksa", "satay", "bread", "cake", "tart"
+    };
+
+    private static int blackhole;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used.
+     */
+
+    public static void main(String[] args) {
+        FoodNutritionRecord database = FoodNutritionRecord.getInstance();
+        System.out.printf("%-10s %-26s %16s%n", "foods", "operation", "time");
+        for (int size : DATABASE_SIZES) {
+            String[] foodNames = createFoodNames(size);
+            String[] misspeltNames = createMisspeltNames(foodNames, 1_000);
+
+            double build = measure(() -> {
+                fill(database, foodNames);
+                blackhole += database.findClosestFood(misspeltNames[0]).isPresent() ? 1 : 0;
+            }, 1);
+            report(size, "fill and build index", format(build / 1_000_000) + " ms");
+
+            double insert = measure(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    database.addFoodNutritionRecord("added-food-" + i, 100.0);
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    database.deleteFoodNutritionRecord("added-food-" + i);
+                }
+            }, 2_000);
+            report(size, "add or delete food", format(insert / 1_000) + " us");
+
+            double match = measure(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    blackhole += database.findClosestFood(misspeltNames[i % misspeltNames.length]).isPresent()
+                            ? 1 : 0;
+                }
+            }, 10_000);
+            report(size, "findClosestFood (typo)", format(match / 1_000) + " us");
+        }
+        System.out.println("(checksum " + blackhole + ")");
+    }
+
+    /**
+     * Returns distinct food names made of two to four words and a number, like {@code spicy-fish-soup-17}.
+     */
+
+    private static String[] createFoodNames(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] foodNames = new String[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder foodName = new StringBuilder();
+            int wordCount = 2 + random.nextInt(3);
+            for (int j = 0; j < wordCount; j++) {
+                foodName.append(WORDS[random.nextInt(WORDS.length)]).append('-');
+            }
+            foodNames[i] = foodName.append(i).toString();
+        }
+        return foodNames;
+    }
+
+    /**
+     * Returns food names with one or two characters replaced, dropped or doubled.
+     */
+
+    private static String[] createMisspeltNames(String[] foodNames, int count) {
+        SplittableRandom random = new SplittableRandom(7);
+        String[] misspeltNames = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder(foodNames[random.nextInt(foodNames.length)]);
+            int typoCount = 1 + random.nextInt(2);
+            for (int j = 0; j < typoCount; j++) {
+                int position = random.nextInt(name.length());
+                switch (random.nextInt(3)) {
+                case 0:
+                    name.setCharAt(position, (char) ('a' + random.nextInt(26)));
+                    break;
+                case 1:
+                    name.deleteCharAt(position);
+                    break;
+                default:
+                    name.insert(position, name.charAt(position));
+                    break;
+                }
+            }
+            misspeltNames[i] = name.toString();
+        }
+        return misspeltNames;
+    }
+
+    private static void fill(FoodNutritionRecord database, String[] foodNames) {
+        database.clearFoodNutritionRecordList();
+        for (String foodName : foodNames) {
+            database.addFoodNutritionRecord(foodName, 100.0);
+        }
+    }
+
+    /**
+     * Returns the average time of one operation in nanoseconds.
+     */
+
+    private static double measure(Runnable benchmark, int operationCount) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            benchmark.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            benchmark.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_ROUNDS / operationCount;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%,.3f", value);
+    }
+
+    private static void report(int size, String operation, String time) {
+        System.out.printf(Locale.ROOT, "%-10d %-26s %16s%n", size, operation, time);
+    }
+
+}
@@ -0,0 +1,99 @@
+package seedu.dietmanager.benchmark;
+
+import seedu.dietmanager.logic.parser.CaloriesParser;
+import seedu.dietmanager.logic.parser.FoodNameParser;
+import seedu.dietmanager.logic.parser.StorageParser;
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.storage.FoodNutritionLoader;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Scanner;
+import java.util.Set;
+
+/**
+ * Compares the rows per second of loading a food nutrition data file with the memory-mapped
+ * {@code FoodNutritionLoader} against the previous {@code Scanner} based loader. <br>
+ * Run with {@code gradlew benchmark -Pbenchmark=FoodNutritionLoadBenchmark -Prows=500000}.
+ */
+
+public class FoodNutritionLoadBenchmark {
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the number of rows in the data file, 500000 by default.
+     * @throws Exception if the data file cannot be written or read.
+     */
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 500000;
+        Path path = Files.createTempFile("food-nutrition-record", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            for (int i = 0; i < rows; i++) {
+                writer.write("food-" + i + "," + (i % 1000) + "." + (i % 10) + System.lineSeparator());
+            }
+        }
+        System.out.printf("%d rows, %.1f MB%n", rows, Files.size(path) / 1e6);
+        report("Scanner", rows, measure(() -> loadWithScanner(path.toFile()), rows));
+        report("FoodNutritionLoader", rows, measure(() -> FoodNutritionLoader.load(path).size(), rows));
+        Files.delete(path);
+    }
+
+    /**
+     * Loads the data file the way {@code Storage} did before the memory-mapped loader, except that duplicate
+     * names are found with a hash set rather than a scan of the database.
+     */
+
+    private static int loadWithScanner(File file) throws Exception {
+        List<Food> foods = new ArrayList<>();
+        Set<String> foodNames = new HashSet<>();
+        Scanner scanner = new Scanner(file);
+        while (scanner.hasNextLine()) {
+            String[] dataLineArray = StorageParser.parseFoodNutritionRecordDataLine(scanner.nextLine());
+            String foodName = FoodNameParser.parseFoodName(dataLineArray[0]);
+            double calories = CaloriesParser.parseCalories(dataLineArray[1]);
+            if (foodNames.add(foodName)) {
+                foods.add(new Food(foodName, calories));
+            }
+        }
+        scanner.close();
+        return foods.size();
+    }
+
+    private static double measure(Loader loader, int rows) throws Exception {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            check(loader.load(), rows);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            check(loader.load(), rows);
+        }
+        return (System.nanoTime() - start) / 1e9 / MEASURED_ROUNDS;
+    }
+
+    private static void check(int loaded, int rows) {
+        if (loaded != rows) {
+            throw new IllegalStateException("Loaded " + loaded + " of " + rows + " rows");
+        }
+    }
+
+    private static void report(String name, int rows, double seconds) {
+        System.out.printf(Locale.ROOT, "%-20s %8.1f ms %,14.0f rows/sec%n", name, seconds * 1000, rows / seconds);
+    }
+
+    private interface Loader {
+        int load() throws Exception;
+    }
+
+}
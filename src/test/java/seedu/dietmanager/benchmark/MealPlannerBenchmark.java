@@ -0,0 +1,114 @@
+package seedu.dietmanager.benchmark;
+
+import seedu.dietmanager.model.MealPlanner;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Compares planning the 21 meals of a weekly recipe from a database of random foods, with the bounded subset-sum
+ * of {@code MealPlanner} and with the random sampling it replaced, by time and by how far each meal falls short
+ * of its calories target. <br>
+ * Run with {@code gradlew benchmark -Pbenchmark=MealPlannerBenchmark}.
+ */
+
+public class MealPlannerBenchmark {
+
+    private static final int FOOD_COUNT = 100_000;
+
+    private static final double TARGET_CALORIES = 733.4;
+
+    private static final int MAX_FOOD_TYPES = 3;
+
+    private static final int MEALS_IN_WEEK = 21;
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static double blackhole;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used.
+     */
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] calories = new double[FOOD_COUNT];
+        for (int i = 0; i < FOOD_COUNT; i++) {
+            calories[i] = 20 + random.nextInt(120_000) / 100.0;
+        }
+
+        double[] samplingGap = new double[1];
+        double sampling = measure(() -> {
+            samplingGap[0] = 0;
+            for (int meal = 0; meal < MEALS_IN_WEEK; meal++) {
+                samplingGap[0] += TARGET_CALORIES - sampleMeal(calories);
+            }
+        });
+        double[] plannerGap = new double[1];
+        MealPlanner planner = new MealPlanner(TARGET_CALORIES, MAX_FOOD_TYPES);
+        double subsetSum = measure(() -> {
+            plannerGap[0] = 0;
+            for (int meal = 0; meal < MEALS_IN_WEEK; meal++) {
+                double total = 0;
+                for (int food : planner.planMeal(FOOD_COUNT, i -> true, i -> calories[i], meal)) {
+                    total += calories[food];
+                }
+                plannerGap[0] += TARGET_CALORIES - total;
+                blackhole += total;
+            }
+        });
+
+        System.out.printf("%-32s %16s %16s%n", "weekly recipe, " + FOOD_COUNT + " foods", "time", "average gap");
+        System.out.printf(Locale.ROOT, "%-32s %13.1f ms %12.2f cal%n", "random sampling", sampling / 1_000_000,
+                samplingGap[0] / MEALS_IN_WEEK);
+        System.out.printf(Locale.ROOT, "%-32s %13.1f ms %12.2f cal%n", "bounded subset-sum", subsetSum / 1_000_000,
+                plannerGap[0] / MEALS_IN_WEEK);
+        System.out.println("(checksum " + blackhole + ")");
+    }
+
+    /**
+     * Samples a meal the way recipes were built before, drawing unchecked foods at random until one fits under
+     * the target, for each food of the meal.
+     */
+
+    private static double sampleMeal(double[] calories) {
+        double sum = 0;
+        boolean[] checked = new boolean[calories.length];
+        int checkedNum = 0;
+        for (int i = 0; i < MAX_FOOD_TYPES && checkedNum < calories.length; i++) {
+            while (checkedNum < calories.length) {
+                int rand = (int) (Math.random() * calories.length);
+                if (!checked[rand]) {
+                    checked[rand] = true;
+                    checkedNum += 1;
+                    if (sum + calories[rand] <= TARGET_CALORIES) {
+                        sum += calories[rand];
+                        break;
+                    }
+                }
+            }
+        }
+        blackhole += sum;
+        return sum;
+    }
+
+    /**
+     * Returns the average time of one run in nanoseconds.
+     */
+
+    private static double measure(Runnable benchmark) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            benchmark.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            benchmark.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+
+}
@@ -0,0 +1,283 @@
+package seedu.dietmanager.benchmark;
+
+import seedu.dietmanager.commons.exceptions.InvalidCommandException;
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+import seedu.dietmanager.logic.parser.CommandParser;
+import seedu.dietmanager.logic.parser.DescriptionParser;
+import seedu.dietmanager.logic.parser.StorageParser;
+import seedu.dietmanager.logic.parser.Tokenizer;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Measures the throughput of splitting a million generated command lines and a million generated data file
+ * lines with the {@code Tokenizer}, against the regex splits it replaced, and of parsing the command lines into
+ * commands. <br>
+ * Run with {@code gradlew benchmark -Pbenchmark=ParseThroughputBenchmark}.
+ */
+
+public class ParseThroughputBenchmark {
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final int LINE_COUNT = 1_000_000;
+
+    private static final String[] DAYS = {"monday", "tuesday", "wednesday", "thursday", "friday", "saturday",
+        "sunday", "2020-04-08"};
+
+    private static final String[] MEALS = {"morning", "afternoon", "night"};
+
+    private static final String[] FOODS = {"chicken-rice", "laksa", "egg", "toast", "fried-noodles", "steak",
+        "fries", "kaya-toast"};
+
+    private static long blackhole;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used.
+     */
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] commandLines = new String[LINE_COUNT];
+        String[] dataLines = new String[LINE_COUNT];
+        for (int i = 0; i < LINE_COUNT; i++) {
+            commandLines[i] = createCommandLine(random);
+            dataLines[i] = createDataLine(random);
+        }
+
+        double regexCommands = measure(() -> {
+            for (String line : commandLines) {
+                blackhole += splitCommandWithRegex(line);
+            }
+        });
+        double tokenizerCommands = measure(() -> {
+            for (String line : commandLines) {
+                blackhole += splitCommandWithTokenizer(line);
+            }
+        });
+        double parsedCommands = measure(() -> {
+            for (String line : commandLines) {
+                try {
+                    blackhole += CommandParser.parseInput(line).get().getCommand().length();
+                } catch (InvalidCommandException | InvalidFormatException e) {
+                    blackhole++;
+                }
+            }
+        });
+        double regexData = measure(() -> {
+            for (String line : dataLines) {
+                blackhole += splitDataWithRegex(line);
+            }
+        });
+        double tokenizerData = measure(() -> {
+            for (String line : dataLines) {
+                blackhole += splitDataWithTokenizer(line);
+            }
+        });
+
+        System.out.printf("%-36s %18s%n", "operation (" + LINE_COUNT + " lines)", "throughput");
+        report("command split (regex)", regexCommands, "commands");
+        report("command split (tokenizer)", tokenizerCommands, "commands");
+        report("CommandParser.parseInput", parsedCommands, "commands");
+        report("data line split (regex)", regexData, "lines");
+        report("data line split (StorageParser)", tokenizerData, "lines");
+        System.out.println("(checksum " + blackhole + ")");
+    }
+
+    private static String createCommandLine(SplittableRandom random) {
+        String day = DAYS[random.nextInt(DAYS.length)];
+        String meal = MEALS[random.nextInt(MEALS.length)];
+        String food = FOODS[random.nextInt(FOODS.length)];
+        switch (random.nextInt(6)) {
+        case 0:
+            return "record-meal " + day + " " + meal + " /" + food + " -- " + random.nextInt(900) + " /"
+                    + FOODS[random.nextInt(FOODS.length)];
+        case 1:
+            return "check-meal " + day + "  " + meal;
+        case 2:
+            return "calculate " + day + "->" + DAYS[random.nextInt(DAYS.length - 1)];
+        case 3:
+            return "addf " + food + random.nextInt(1_000) + " --" + random.nextInt(900);
+        case 4:
+            return "set-profile John " + (18 + random.nextInt(50)) + " male 180 " + (50 + random.nextInt(50))
+                    + " 70";
+        default:
+            return "new-recipe " + (1 + random.nextInt(5)) + " moderate seed/" + random.nextInt();
+        }
+    }
+
+    private static String createDataLine(SplittableRandom random) {
+        String food = FOODS[random.nextInt(FOODS.length)];
+        switch (random.nextInt(5)) {
+        case 0:
+            return "Weight-Goal: " + (50 + random.nextInt(50));
+        case 1:
+            return "2020-04-" + (10 + random.nextInt(20)) + " " + MEALS[random.nextInt(MEALS.length)] + ": "
+                    + food + "(" + random.nextInt(900) + ")," + FOODS[random.nextInt(FOODS.length)] + "(Nan)";
+        case 2:
+            return "MONDAY " + food + "(300) " + food + "(400) " + food + "(500)";
+        case 3:
+            return "70.5,71.0,70.2," + (60 + random.nextInt(30)) + ".0,";
+        default:
+            return "ADD 2020-04-08 night " + food + "(" + random.nextInt(900) + ")";
+        }
+    }
+
+    /**
+     * Splits a command line the way {@code CommandParser}, {@code DescriptionParser} and the commands did before
+     * the tokenizer, returning the total length of the arguments.
+     */
+
+    private static int splitCommandWithRegex(String line) {
+        String[] inputArray = line.trim().split(" ", 2);
+        String command = inputArray[0].trim().toLowerCase();
+        String description = inputArray[1].trim();
+        int length = command.length();
+        switch (command) {
+        case "record-meal":
+            String[] descriptionArray = description.trim().split("\\s+", 3);
+            for (String food : descriptionArray[2].trim().split("/")) {
+                for (String part : food.trim().split("--")) {
+                    length += part.trim().length();
+                }
+            }
+            return length + descriptionArray[0].length() + descriptionArray[1].length();
+        case "check-meal":
+            return length + sumLengths(description.trim().split("\\s+", 2));
+        case "calculate":
+            return length + sumLengths(description.trim().split("\\s+", 1)[0].split("->"));
+        case "addf":
+            return length + sumLengths(description.trim().split("\\s+", 1)[0].split("--"));
+        case "set-profile":
+            return length + sumLengths(description.trim().split("\\s+", 6));
+        default:
+            descriptionArray = description.trim().split("\\s+", 2);
+            return length + descriptionArray[0].length() + sumLengths(descriptionArray[1].trim().split("\\s+"));
+        }
+    }
+
+    private static int splitCommandWithTokenizer(String line) {
+        Tokenizer tokenizer = new Tokenizer(line);
+        tokenizer.nextToken();
+        String command = tokenizer.token().toLowerCase();
+        tokenizer.rest();
+        String description = tokenizer.token();
+        int length = command.length();
+        try {
+            switch (command) {
+            case "record-meal":
+                String[] descriptionArray = DescriptionParser.parseDescription(description, 3);
+                Tokenizer foods = new Tokenizer(descriptionArray[2]);
+                while (foods.nextPart("/")) {
+                    Tokenizer parts = foods.tokenizeToken();
+                    while (parts.nextPart("--")) {
+                        length += parts.trimmedToken().length();
+                    }
+                }
+                return length + descriptionArray[0].length() + descriptionArray[1].length();
+            case "check-meal":
+                return length + sumLengths(DescriptionParser.parseDescription(description, 2));
+            case "calculate":
+                return length + sumPartLengths(DescriptionParser.parseDescription(description, 1)[0], "->");
+            case "addf":
+                return length + sumPartLengths(DescriptionParser.parseDescription(description, 1)[0], "--");
+            case "set-profile":
+                return length + sumLengths(DescriptionParser.parseDescription(description, 6));
+            default:
+                descriptionArray = DescriptionParser.parseDescription(description, 2);
+                Tokenizer arguments = new Tokenizer(descriptionArray[1]);
+                length += descriptionArray[0].length();
+                while (arguments.nextToken()) {
+                    length += arguments.token().length();
+                }
+                return length;
+            }
+        } catch (InvalidFormatException e) {
+            return length;
+        }
+    }
+
+    /**
+     * Splits a data file line the way {@code StorageParser} and {@code Storage} did before the tokenizer,
+     * returning the total length of the fields.
+     */
+
+    private static int splitDataWithRegex(String line) {
+        switch (line.charAt(0)) {
+        case 'W':
+            return sumLengths(line.trim().split(": ", 2));
+        case 'A':
+            return sumLengths(line.trim().split(" ", 2));
+        case '2':
+            String[] recordArray = line.trim().split(": ", 2);
+            return sumLengths(recordArray[0].trim().split("\\s+", 2)) + sumLengths(recordArray[1].split(","));
+        case 'M':
+            return sumLengths(line.trim().split("\\s+", 4));
+        default:
+            return sumLengths(line.trim().split(","));
+        }
+    }
+
+    private static int splitDataWithTokenizer(String line) {
+        try {
+            switch (line.charAt(0)) {
+            case 'W':
+                return sumLengths(StorageParser.parseProfileDataLine(line));
+            case 'A':
+                return sumLengths(StorageParser.parseMealJournalEntry(line));
+            case '2':
+                String[] recordArray = StorageParser.parseFoodRecordDataLine(line);
+                return sumLengths(StorageParser.parseTimeDescription(recordArray[0]))
+                        + sumPartLengths(recordArray[1], ",");
+            case 'M':
+                return sumLengths(StorageParser.parseRecipeDataLine(line));
+            default:
+                return sumPartLengths(line, ",");
+            }
+        } catch (InvalidFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int sumLengths(String[] parts) {
+        int length = 0;
+        for (String part : parts) {
+            length += part.length();
+        }
+        return length;
+    }
+
+    private static int sumPartLengths(String input, String delimiter) {
+        Tokenizer tokenizer = new Tokenizer(input);
+        int length = 0;
+        while (tokenizer.nextPart(delimiter)) {
+            length += tokenizer.token().length();
+        }
+        return length;
+    }
+
+    /**
+     * Returns the average time of one round over all lines in nanoseconds.
+     */
+
+    private static double measure(Runnable benchmark) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            benchmark.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            benchmark.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+
+    private static void report(String operation, double nanoseconds, String unit) {
+        System.out.printf(Locale.ROOT, "%-36s %10.0f %s/s%n", operation, LINE_COUNT / (nanoseconds / 1e9), unit);
+    }
+
+}
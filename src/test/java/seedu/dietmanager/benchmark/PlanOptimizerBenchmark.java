@@ -0,0 +1,76 @@
+package seedu.dietmanager.benchmark;
+
+import seedu.dietmanager.model.PlanOptimizer;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Measures how long {@code PlanOptimizer} takes to plan 12 weeks of meals from a database of 50,000 random
+ * foods, and how close the plan comes to the daily target. <br>
+ * Run with {@code gradlew benchmark -Pbenchmark=PlanOptimizerBenchmark}.
+ */
+
+public class PlanOptimizerBenchmark {
+
+    private static final int FOOD_COUNT = 50_000;
+
+    private static final int WEEKS = 12;
+
+    private static final double DAILY_TARGET = 2_200;
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static double blackhole;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used.
+     */
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] calories = new double[FOOD_COUNT];
+        for (int i = 0; i < FOOD_COUNT; i++) {
+            calories[i] = 20 + random.nextInt(120_000) / 100.0;
+        }
+        boolean[] hasCalories = new boolean[FOOD_COUNT];
+        Arrays.fill(hasCalories, true);
+
+        PlanOptimizer[] optimizer = new PlanOptimizer[1];
+        double time = measure(() -> {
+            optimizer[0] = new PlanOptimizer(WEEKS, DAILY_TARGET, 3, 3, hasCalories, calories);
+            optimizer[0].optimize(random.nextLong());
+            blackhole += optimizer[0].getViolationCount();
+        });
+        double deviation = 0;
+        for (int day = 0; day < optimizer[0].getDayCount(); day++) {
+            deviation += Math.abs(optimizer[0].getDayCalories(day) - DAILY_TARGET);
+        }
+
+        System.out.printf("%-32s %16s %16s%n", WEEKS + " weeks, " + FOOD_COUNT + " foods", "time", "average gap");
+        System.out.printf(Locale.ROOT, "%-32s %13.1f ms %12.2f cal%n", "simulated annealing", time / 1_000_000,
+                deviation / optimizer[0].getDayCount());
+        System.out.println("(violations " + optimizer[0].getViolationCount() + ", checksum " + blackhole + ")");
+    }
+
+    /**
+     * Returns the average time of one run in nanoseconds.
+     */
+
+    private static double measure(Runnable benchmark) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            benchmark.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            benchmark.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+
+}
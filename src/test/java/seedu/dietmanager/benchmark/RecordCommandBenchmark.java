@@ -0,0 +1,204 @@
+package seedu.dietmanager.benchmark;
+
+import seedu.dietmanager.commons.core.Weekday;
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+import seedu.dietmanager.logic.commands.CalculateCaloriesCommand;
+import seedu.dietmanager.logic.commands.CheckRecordCommand;
+import seedu.dietmanager.logic.commands.CheckRequiredCaloriesCommand;
+import seedu.dietmanager.logic.commands.Command;
+import seedu.dietmanager.logic.commands.RecordMealCommand;
+import seedu.dietmanager.model.DailyFoodRecord;
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.FoodRecordHistory;
+import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.ui.UI;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Measures daily record lookups in {@code Profile} against the linear scan with case-folding they replaced,
+ * the calorie total of a day against the stream it replaced, lookups in ten years of dated records, and the
+ * throughput of a mix of record-heavy commands. <br>
+ * Run with {@code gradlew benchmark -Pbenchmark=RecordCommandBenchmark}.
+ */
+
+public class RecordCommandBenchmark {
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final int LOOKUP_COUNT = 10_000_000;
+
+    private static final int COMMAND_MIX_COUNT = 100_000;
+
+    private static final int FOODS_IN_LARGE_DAY = 1_000;
+
+    private static final int TOTAL_COUNT = 10_000;
+
+    private static final int HISTORY_DAYS = 3_653;
+
+    /**
+     * The number of command mixes after which the records are cleared, so that the days do not keep growing.
+     */
+
+    private static final int MIXES_PER_WEEK = 20;
+
+    private static long blackhole;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used.
+     */
+
+    public static void main(String[] args) throws InvalidFormatException {
+        Profile profile = new Profile();
+        profile.setProfile("John", 20, "male", 180, 80, 75);
+        List<DailyFoodRecord> records = new ArrayList<>();
+        Weekday[] weekdays = Weekday.values();
+        String[] dates = new String[weekdays.length];
+        for (int i = 0; i < weekdays.length; i++) {
+            dates[i] = weekdays[i].getName();
+            records.add(new DailyFoodRecord(dates[i]));
+        }
+
+        double linearLookup = measure(() -> {
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                blackhole += findWithLinearScan(records, dates[i % dates.length]).getDate().length();
+            }
+        }, LOOKUP_COUNT);
+        double nameLookup = measure(() -> {
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                blackhole += profile.getRecordOfDay(dates[i % dates.length]).getDate().length();
+            }
+        }, LOOKUP_COUNT);
+        double weekdayLookup = measure(() -> {
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                blackhole += profile.getRecordOfDay(weekdays[i % weekdays.length]).getDate().length();
+            }
+        }, LOOKUP_COUNT);
+        System.out.printf("%-32s %16s%n", "operation", "time");
+        report("getRecordOfDay (linear scan)", linearLookup);
+        report("getRecordOfDay(String)", nameLookup);
+        report("getRecordOfDay(Weekday)", weekdayLookup);
+
+        DailyFoodRecord largeDay = new DailyFoodRecord("MONDAY");
+        ArrayList<Food> foods = new ArrayList<>();
+        for (int i = 0; i < FOODS_IN_LARGE_DAY; i++) {
+            foods.add(i % 10 == 0 ? new Food("food-" + i) : new Food("food-" + i, i % 500));
+        }
+        largeDay.recordMeals("morning", foods);
+        largeDay.recordMeals("afternoon", foods);
+        largeDay.recordMeals("night", foods);
+        double streamTotal = measure(() -> {
+            for (int i = 0; i < TOTAL_COUNT; i++) {
+                blackhole += sumWithStream(largeDay).isPresent() ? 1 : 0;
+            }
+        }, TOTAL_COUNT);
+        double runningTotal = measure(() -> {
+            for (int i = 0; i < TOTAL_COUNT; i++) {
+                blackhole += largeDay.hasCalculableCalories() && largeDay.isCaloriesPresent()
+                        ? 1 : (long) largeDay.getCalculableCalories();
+            }
+        }, TOTAL_COUNT);
+        report("day total (stream, " + FOODS_IN_LARGE_DAY * 3 + " foods)", streamTotal);
+        report("day total (running totals)", runningTotal);
+
+        FoodRecordHistory history = new FoodRecordHistory();
+        LocalDate firstDate = LocalDate.of(2010, 1, 1);
+        for (int i = 0; i < HISTORY_DAYS; i++) {
+            history.getRecord(firstDate.plusDays(i));
+        }
+        double historyLookup = measure(() -> {
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                blackhole += history.getRecord(firstDate.plusDays(i % HISTORY_DAYS)).getDate().length();
+            }
+        }, LOOKUP_COUNT);
+        double historyRange = measure(() -> {
+            for (int i = 0; i < TOTAL_COUNT; i++) {
+                LocalDate from = firstDate.plusDays(i % (HISTORY_DAYS - 30));
+                blackhole += history.getRecords(from, from.plusDays(29)).size();
+            }
+        }, TOTAL_COUNT);
+        report("getRecord (" + HISTORY_DAYS / 365 + " years of dates)", historyLookup);
+        report("getRecords (30 days)", historyRange);
+
+        UI ui = new UI();
+        double commandMix = measure(() -> {
+            for (int i = 0; i < COMMAND_MIX_COUNT; i++) {
+                if (i % MIXES_PER_WEEK == 0) {
+                    profile.clearAllFoodRecords();
+                    profile.takeMealChanges();
+                }
+                String date = dates[i % dates.length];
+                for (Command command : createCommandMix(date)) {
+                    blackhole += command.execute(profile, ui).showResult().length();
+                }
+            }
+        }, COMMAND_MIX_COUNT * 4);
+        report("record/check/calculate command", commandMix);
+        System.out.println("(checksum " + blackhole + ")");
+    }
+
+    private static Command[] createCommandMix(String date) {
+        try {
+            return new Command[] {
+                new RecordMealCommand("record-meal", date + " morning /egg -- 80 /toast -- 120"),
+                new CheckRecordCommand("check-meal", date + " morning"),
+                new CheckRequiredCaloriesCommand("check-required-cal", date + " moderate"),
+                new CalculateCaloriesCommand("calculate", "MONDAY->SUNDAY")
+            };
+        } catch (InvalidFormatException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Finds a record the way {@code Profile} did before the index.
+     */
+
+    private static DailyFoodRecord findWithLinearScan(List<DailyFoodRecord> records, String date) {
+        for (DailyFoodRecord record : records) {
+            if (record.getDate().toLowerCase().equals(date.toLowerCase())) {
+                return record;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sums the calories of a day the way {@code DailyFoodRecord} did before the running totals.
+     */
+
+    private static Optional<Double> sumWithStream(DailyFoodRecord record) {
+        return record.getDailyFood().stream().filter(Food::hasCaloriesData)
+                .map(Food::getCalories)
+                .map(Optional::get)
+                .reduce(Double::sum);
+    }
+
+    /**
+     * Returns the average time of one operation in nanoseconds.
+     */
+
+    private static double measure(Runnable benchmark, int operationCount) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            benchmark.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            benchmark.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_ROUNDS / operationCount;
+    }
+
+    private static void report(String operation, double nanoseconds) {
+        System.out.printf(Locale.ROOT, "%-32s %13.1f ns%n", operation, nanoseconds);
+    }
+
+}
@@ -0,0 +1,113 @@
+package seedu.dietmanager.benchmark;
+
+import seedu.dietmanager.commons.core.LogsCentre;
+import seedu.dietmanager.logic.SessionServer;
+import seedu.dietmanager.ui.UI;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Drives a {@code SessionServer} with thousands of users connected at the same time. Every connection is opened
+ * before any of them sends a command, so every session is running at once, and then each user sets a profile,
+ * records a meal, searches the shared food database, checks the meal and exits. <br>
+ * Run with {@code gradlew benchmark -Pbenchmark=SessionServerLoadBenchmark -Prows=2000}.
+ */
+
+public class SessionServerLoadBenchmark {
+
+    private static final int WARM_UP_SESSIONS = 200;
+
+    private static final int READER_COUNT = 16;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the number of users connected at once, 2000 by default.
+     * @throws Exception if the server cannot be started or a session fails.
+     */
+
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        Path root = Files.createTempDirectory("server-benchmark");
+        UI ui = new UI(new ByteArrayInputStream(new byte[0]), new PrintStream(new ByteArrayOutputStream()));
+        SessionServer server = new SessionServer(root, 0, ui, new LogsCentre());
+        Thread serverThread = new Thread(server::serve, "server");
+        serverThread.setDaemon(true);
+        serverThread.start();
+        try {
+            runSessions(server, "warm-up", WARM_UP_SESSIONS);
+            long start = System.nanoTime();
+            runSessions(server, "user", sessions);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf(Locale.ROOT, "%d sessions connected at once, peak %d JVM threads%n", sessions,
+                    ManagementFactory.getThreadMXBean().getPeakThreadCount());
+            System.out.printf(Locale.ROOT, "%-24s %10.2f s%n", "wall time", seconds);
+            System.out.printf(Locale.ROOT, "%-24s %10.0f sessions/s%n", "throughput", sessions / seconds);
+        } finally {
+            server.close();
+            deleteDirectory(root);
+        }
+    }
+
+    /**
+     * Connects every user before sending any command, then sends each script and checks every output.
+     */
+
+    private static void runSessions(SessionServer server, String prefix, int sessions) throws Exception {
+        List<Socket> sockets = new ArrayList<>();
+        ExecutorService readers = Executors.newFixedThreadPool(READER_COUNT);
+        try {
+            for (int session = 0; session < sessions; session++) {
+                sockets.add(new Socket(InetAddress.getLoopbackAddress(), server.getPort()));
+            }
+            List<Future<String>> outputs = new ArrayList<>();
+            for (int session = 0; session < sessions; session++) {
+                Socket socket = sockets.get(session);
+                String script = prefix + session + "\n"
+                        + "set-profile John 30 male 175 70 65\n"
+                        + "record-meal monday morning rice --" + (100 + session % 500) + "\n"
+                        + "search-food chicken\n"
+                        + "check-meal monday morning\n"
+                        + "exit\n";
+                socket.getOutputStream().write(script.getBytes(StandardCharsets.UTF_8));
+                socket.getOutputStream().flush();
+                outputs.add(readers.submit(() -> new String(socket.getInputStream().readAllBytes(),
+                        StandardCharsets.UTF_8)));
+            }
+            for (int session = 0; session < sessions; session++) {
+                if (!outputs.get(session).get().contains("Calories: " + (100 + session % 500) + ".00cal")) {
+                    throw new IllegalStateException("Session " + prefix + session + " gave a wrong result");
+                }
+            }
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+            readers.shutdownNow();
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+}
@@ -2,6 +2,8 @@ package seedu.dietmanager.commons.core;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class WeekdayTest {
@@ -27,4 +29,11 @@ class WeekdayTest {
         assertEquals("SATURDAY", Weekday.SATURDAY.getName());
         assertEquals("SUNDAY", Weekday.SUNDAY.getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findWeekday() {
+        assertEquals(Optional.of(Weekday.MONDAY), Weekday.findWeekday("MONDAY"));
+        assertEquals(Optional.of(Weekday.SUNDAY), Weekday.findWeekday("sunday"));
+        assertEquals(Optional.empty(), Weekday.findWeekday("everyday"));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.dietmanager.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.dietmanager.commons.core.LogsCentre;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AppManagerTest {
+
+    private static final int SESSION_COUNT = 200;
+
+    private static final int THREAD_COUNT = 16;
+
+    @Test
+    void run_manySessions_keepTheirOwnData() throws Exception {
+        Path root = Files.createTempDirectory("sessions");
+        LogsCentre logsCentre = new LogsCentre();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<String>> outputs = new ArrayList<>();
+            for (int session = 0; session < SESSION_COUNT; session++) {
+                String name = "user" + session;
+                String script = "set-profile " + name + " " + (20 + session % 40) + " male 175 70 65\n"
+                        + "record-meal monday morning rice --" + (100 + session) + "\n"
+                        + "new-recipe 3 moderate seed/" + session + "\n"
+                        + "check-meal monday morning\n"
+                        + "exit\n";
+                outputs.add(executor.submit(() -> runSession(root.resolve(name), script, logsCentre)));
+            }
+            for (int session = 0; session < SESSION_COUNT; session++) {
+                String output = outputs.get(session).get();
+                assertTrue(output.contains("Calories: " + (100 + session) + ".00cal"));
+                assertFalse(output.contains("Calories: " + (101 + session) + ".00cal"));
+            }
+
+            for (int session = 0; session < SESSION_COUNT; session += 50) {
+                String output = runSession(root.resolve("user" + session), "profile\ncheck-meal monday morning\n",
+                        logsCentre);
+                assertTrue(output.contains("user" + session));
+                assertTrue(output.contains("Calories: " + (100 + session) + ".00cal"));
+            }
+        } finally {
+            executor.shutdownNow();
+            deleteDirectory(root);
+        }
+    }
+
+    @Test
+    void run_inputEnds_closesSession() throws IOException {
+        Path root = Files.createTempDirectory("sessions");
+        try {
+            String output = runSession(root.resolve("user"), "help\n", new LogsCentre());
+            assertTrue(output.contains("See you again soon"));
+            assertTrue(Files.exists(root.resolve("user")));
+        } finally {
+            deleteDirectory(root);
+        }
+    }
+
+    @Test
+    void run_monthFileEditedAfterSnapshot_readsMonthFile() throws IOException {
+        Path root = Files.createTempDirectory("sessions");
+        Path dataDirectory = root.resolve("user");
+        LogsCentre logsCentre = new LogsCentre();
+        try {
+            runSession(dataDirectory, "set-profile John 30 male 175 70 65\nexit\n", logsCentre);
+            FileTime snapshotTime = Files.getLastModifiedTime(dataDirectory.resolve("snapshot.bin"));
+            Path monthDirectory = dataDirectory.resolve("daily-food-record");
+            Path monthFile = monthDirectory.resolve("2020-04.txt");
+            Files.writeString(monthFile, "Generation: 0" + System.lineSeparator()
+                    + "2020-04-06 morning: rice(456)" + System.lineSeparator());
+            Files.setLastModifiedTime(monthFile, FileTime.fromMillis(snapshotTime.toMillis() + 10_000));
+            Files.setLastModifiedTime(monthDirectory, FileTime.fromMillis(snapshotTime.toMillis() - 10_000));
+
+            String output = runSession(dataDirectory, "check-meal 2020-04-06 morning\nexit\n", logsCentre);
+            assertTrue(output.contains("Calories: 456.00cal"));
+        } finally {
+            deleteDirectory(root);
+        }
+    }
+
+    private static String runSession(Path dataDirectory, String script, LogsCentre logsCentre) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new AppManager(dataDirectory, new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(output, true), logsCentre).run();
+        return output.toString();
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+}
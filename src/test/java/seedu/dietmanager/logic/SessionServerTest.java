@@ -0,0 +1,190 @@
+package seedu.dietmanager.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.dietmanager.commons.core.LogsCentre;
+import seedu.dietmanager.ui.UI;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionServerTest {
+
+    private static final int CLIENT_COUNT = 300;
+
+    private static final int READER_COUNT = 8;
+
+    private static final String PROFILE = "set-profile John 30 male 175 70 65\n";
+
+    @Test
+    void serve_foodAddedByOneUser_seenByOthers() throws Exception {
+        Path root = Files.createTempDirectory("server");
+        SessionServer server = startServer(root);
+        try {
+            String alice = runClient(server, "alice\n" + PROFILE + "addf durian --360\nexit\n");
+            assertTrue(alice.contains("Please key in your user ID:"));
+            String bob = runClient(server, "bob\n" + PROFILE + "search-food durian\nexit\n");
+            assertTrue(bob.contains("durian"));
+            assertTrue(Files.exists(root.resolve("users").resolve("alice")));
+            assertFalse(Files.exists(root.resolve("users").resolve("alice").resolve("food-nutrition-record.txt")));
+        } finally {
+            server.close();
+        }
+        try {
+            assertTrue(Files.readString(root.resolve("food-nutrition-record.txt")).contains("durian"));
+        } finally {
+            deleteDirectory(root);
+        }
+    }
+
+    @Test
+    void serve_foodAdded_savedBeforeSessionEnds() throws Exception {
+        Path root = Files.createTempDirectory("server");
+        SessionServer server = startServer(root);
+        Path foodNutritionRecordPath = root.resolve("food-nutrition-record.txt");
+        Socket socket = connect(server);
+        try {
+            socket.getOutputStream().write(("dave\n" + PROFILE + "addf durian --360\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            socket.getOutputStream().flush();
+            readUntil(socket.getInputStream(), "durian");
+            for (int attempt = 0; attempt < 200 && !isFoodSaved(foodNutritionRecordPath, "durian"); attempt++) {
+                Thread.sleep(10);
+            }
+            assertTrue(isFoodSaved(foodNutritionRecordPath, "durian"));
+        } finally {
+            socket.close();
+            server.close();
+            deleteDirectory(root);
+        }
+    }
+
+    @Test
+    void serve_invalidOrConnectedUser_rejected() throws Exception {
+        Path root = Files.createTempDirectory("server");
+        SessionServer server = startServer(root);
+        try {
+            assertTrue(runClient(server, "../etc\nexit\n").contains("Sorry"));
+            assertFalse(Files.exists(root.resolve("etc")));
+
+            Socket first = connect(server);
+            try {
+                first.getOutputStream().write("carol\n".getBytes(StandardCharsets.UTF_8));
+                first.getOutputStream().flush();
+                readUntil(first.getInputStream(), "Please key in your user ID:");
+                readUntil(first.getInputStream(), "\n");
+                assertTrue(waitForUserDirectory(root.resolve("users").resolve("carol")));
+                assertTrue(runClient(server, "carol\nexit\n").contains("user carol is already connected"));
+            } finally {
+                first.close();
+            }
+        } finally {
+            server.close();
+            deleteDirectory(root);
+        }
+    }
+
+    @Test
+    void serve_manyClientsAtOnce_allServed() throws Exception {
+        Path root = Files.createTempDirectory("server");
+        SessionServer server = startServer(root);
+        ExecutorService readers = Executors.newFixedThreadPool(READER_COUNT);
+        List<Socket> sockets = new ArrayList<>();
+        try {
+            for (int client = 0; client < CLIENT_COUNT; client++) {
+                sockets.add(connect(server));
+            }
+            List<Future<String>> outputs = new ArrayList<>();
+            for (int client = 0; client < CLIENT_COUNT; client++) {
+                Socket socket = sockets.get(client);
+                OutputStream out = socket.getOutputStream();
+                out.write(("user" + client + "\n" + PROFILE + "record-meal monday morning rice --"
+                        + (100 + client) + "\ncheck-meal monday morning\nexit\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                outputs.add(readers.submit(() -> new String(socket.getInputStream().readAllBytes(),
+                        StandardCharsets.UTF_8)));
+            }
+            for (int client = 0; client < CLIENT_COUNT; client++) {
+                assertTrue(outputs.get(client).get().contains("Calories: " + (100 + client) + ".00cal"));
+            }
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+            readers.shutdownNow();
+            server.close();
+            deleteDirectory(root);
+        }
+    }
+
+    private static SessionServer startServer(Path root) throws IOException {
+        UI ui = new UI(new ByteArrayInputStream(new byte[0]), new PrintStream(new ByteArrayOutputStream()));
+        SessionServer server = new SessionServer(root, 0, ui, new LogsCentre());
+        Thread thread = new Thread(server::serve, "server");
+        thread.setDaemon(true);
+        thread.start();
+        return server;
+    }
+
+    private static Socket connect(SessionServer server) throws IOException {
+        return new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    private static String runClient(SessionServer server, String script) throws IOException {
+        Socket socket = connect(server);
+        try {
+            socket.getOutputStream().write(script.getBytes(StandardCharsets.UTF_8));
+            socket.getOutputStream().flush();
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        } finally {
+            socket.close();
+        }
+    }
+
+    private static void readUntil(InputStream in, String text) throws IOException {
+        StringBuilder read = new StringBuilder();
+        while (read.indexOf(text) == -1) {
+            int nextByte = in.read();
+            if (nextByte == -1) {
+                return;
+            }
+            read.append((char) nextByte);
+        }
+    }
+
+    private static boolean isFoodSaved(Path foodNutritionRecordPath, String foodName) throws IOException {
+        return Files.exists(foodNutritionRecordPath) && Files.readString(foodNutritionRecordPath).contains(foodName);
+    }
+
+    private static boolean waitForUserDirectory(Path directory) throws InterruptedException {
+        for (int attempt = 0; attempt < 200 && !Files.exists(directory); attempt++) {
+            Thread.sleep(10);
+        }
+        return Files.exists(directory);
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+}
@@ -4,10 +4,18 @@ import org.junit.jupiter.api.Test;
 import seedu.dietmanager.commons.core.MessageBank;
 import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.logic.Result;
+import seedu.dietmanager.model.FoodNutritionRecord;
 import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.model.RecipePlanCache;
 import seedu.dietmanager.ui.UI;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CommandTest {
 
@@ -19,15 +27,22 @@ class CommandTest {
         Command command = new AddFoodCommand("addf", "Fried-rice --550");
         command.execute(profile, ui);
         assertEquals(MessageBank.ADDED_FOOD_ALREADY_EXIST_MESSAGE, command.getResult(profile).showResult());
+        assertFalse(command.isSuccessful());
 
         command = new AddFoodCommand("addf", "Fried-chicken ---500");
         command.execute(profile, ui);
         assertEquals(MessageBank.INCORRECT_CALORIES_INFO_MESSAGE, command.getResult(profile).showResult());
 
+        command = new AddFoodCommand("addf", "Fried-chicken");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INCORRECT_CALORIES_INFO_MESSAGE, command.getResult(profile).showResult());
+        assertFalse(command.isSuccessful());
+
         command = new AddFoodCommand("addf", "Fried-chicken --990");
         command.execute(profile, ui);
         assertEquals(MessageBank.NEW_FOOD_ADDED_MESSAGE + "Food: fried-chicken, Calories: 990.0",
                 command.getResult(profile).showResult());
+        assertTrue(command.isSuccessful());
     }
 
     @Test
@@ -61,6 +76,143 @@ class CommandTest {
                 + "-5.00 kg more to go to meet your dream girl/boy!", command.resultString);
     }
 
+    @Test
+    void weightForecastCommand() {
+        Profile profile = new Profile();
+        UI ui = new UI();
+        Command command = new WeightForecastCommand("weight-forecast");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INVALID_PROFILE_MESSAGE, command.getResult(profile).showResult());
+
+        profile.setClock(Clock.fixed(Instant.parse("2020-04-01T12:00:00Z"), ZoneOffset.UTC));
+        profile.setProfile("John", 20, "male", 180, 80, 75);
+        command.execute(profile, ui);
+        assertEquals(MessageBank.WEIGHT_FORECAST_NO_TREND_MESSAGE, command.getResult(profile).showResult());
+
+        profile.setClock(Clock.fixed(Instant.parse("2020-04-08T12:00:00Z"), ZoneOffset.UTC));
+        profile.setWeight(79);
+        command.execute(profile, ui);
+        assertEquals(String.format(MessageBank.WEIGHT_FORECAST_TREND_MESSAGE, -1.0) + System.lineSeparator()
+                + String.format(MessageBank.WEIGHT_FORECAST_MESSAGE, 75.0, "2020-05-06"),
+                command.getResult(profile).showResult());
+
+        profile.setWeightGoal(85);
+        command.execute(profile, ui);
+        assertEquals(String.format(MessageBank.WEIGHT_FORECAST_TREND_MESSAGE, -1.0) + System.lineSeparator()
+                + String.format(MessageBank.WEIGHT_FORECAST_AWAY_FROM_GOAL_MESSAGE, 85.0),
+                command.getResult(profile).showResult());
+
+        profile.setWeightGoal(79);
+        command.execute(profile, ui);
+        assertEquals(String.format(MessageBank.WEIGHT_FORECAST_GOAL_REACHED_MESSAGE, 79.0),
+                command.getResult(profile).showResult());
+
+        profile.removeWeight(1);
+        profile.removeWeight(0);
+        command.execute(profile, ui);
+        assertEquals(MessageBank.WEIGHT_FORECAST_NO_TREND_MESSAGE, command.getResult(profile).showResult());
+    }
+
+    @Test
+    void buildNewRecipeCommand() throws InvalidFormatException {
+        Profile profile = new Profile();
+        UI ui = new UI();
+        profile.setProfile("John", 20, "Male", 180, 80, 75);
+        Command command = new BuildNewRecipeCommand("new-recipe", "3 moderate seed/42");
+        command.execute(profile, ui);
+        String recipe = command.getResult(profile).showResult();
+        assertTrue(recipe.startsWith(String.format(MessageBank.RECIPE_SEED_MESSAGE, 42)));
+
+        new BuildNewRecipeCommand("new-recipe", "3 moderate seed/7").execute(profile, ui);
+        RecipePlanCache planCache = profile.getRecipeManager().getPlanCache();
+        int hitCount = planCache.getHitCount();
+        command = new BuildNewRecipeCommand("new-recipe", "3 MODERATE SEED/42");
+        command.execute(profile, ui);
+        assertEquals(recipe, command.getResult(profile).showResult());
+        assertEquals(hitCount + 1, planCache.getHitCount());
+
+        profile.getFoodNutritionRecord().addFoodNutritionRecord("plan-cache-test-food", 1.0);
+        int missCount = planCache.getMissCount();
+        command.execute(profile, ui);
+        assertEquals(missCount + 1, planCache.getMissCount());
+        profile.getFoodNutritionRecord().deleteFoodNutritionRecord("plan-cache-test-food");
+
+        command = new BuildNewRecipeCommand("new-recipe", "99 moderate seed/42");
+        command.execute(profile, ui);
+        assertTrue(command.getResult(profile).showResult().startsWith(MessageBank.EXCEEDS_MAX_FOOD_TYPES_MESSAGE));
+        assertTrue(command.isSuccessful());
+
+        command = new BuildNewRecipeCommand("new-recipe", "3 moderate seed/abc");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INCORRECT_PARAMS_TO_BUILD_RECIPE_MESSAGE, command.getResult(profile).showResult());
+        assertFalse(command.isSuccessful());
+        command = new BuildNewRecipeCommand("new-recipe", "3 moderate 42");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INCORRECT_PARAMS_TO_BUILD_RECIPE_MESSAGE, command.getResult(profile).showResult());
+    }
+
+    @Test
+    void newPlanCommand() throws InvalidFormatException {
+        Profile profile = new Profile();
+        UI ui = new UI();
+        profile.setProfile("John", 20, "Male", 180, 80, 75);
+        Command command = new NewPlanCommand("new-plan", "2 low seed/42");
+        command.execute(profile, ui);
+        String plan = command.getResult(profile).showResult();
+        assertTrue(plan.contains("Plan seed: 42"));
+        assertTrue(plan.contains(String.format(MessageBank.PLAN_WEEK_MESSAGE, 2)));
+        assertTrue(!plan.contains(String.format(MessageBank.PLAN_WEEK_MESSAGE, 3)));
+
+        command = new NewPlanCommand("new-plan", "2 LOW seed/42");
+        command.execute(profile, ui);
+        assertEquals(plan, command.getResult(profile).showResult());
+
+        Profile ownFoodsProfile = new Profile(new FoodNutritionRecord());
+        ownFoodsProfile.setProfile("John", 20, "Male", 180, 80, 75);
+        command = new NewPlanCommand("new-plan", "2 low seed/42");
+        command.execute(ownFoodsProfile, ui);
+        ownFoodsProfile.getFoodNutritionRecord().clearFoodNutritionRecordList();
+        assertEquals(plan, command.getResult(ownFoodsProfile).showResult());
+        command.execute(ownFoodsProfile, ui);
+        assertEquals(MessageBank.PLAN_NO_FOOD_MESSAGE, command.getResult(ownFoodsProfile).showResult());
+
+        command = new NewPlanCommand("new-plan", "53 low");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INCORRECT_PARAMS_TO_BUILD_PLAN_MESSAGE, command.getResult(profile).showResult());
+        command = new NewPlanCommand("new-plan", "0 low");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INCORRECT_PARAMS_TO_BUILD_PLAN_MESSAGE, command.getResult(profile).showResult());
+        command = new NewPlanCommand("new-plan", "2 low seed/x");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INCORRECT_PARAMS_TO_BUILD_PLAN_MESSAGE, command.getResult(profile).showResult());
+    }
+
+    @Test
+    void chartCommand() throws InvalidFormatException {
+        Profile profile = new Profile();
+        UI ui = new UI();
+        profile.setProfile("John", 20, "male", 180, 80, 75);
+        Command command = new ChartCommand("chart", "calories");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.NO_CALORIES_CHART_MESSAGE, command.getResult(profile).showResult());
+
+        new RecordMealCommand("record-meal", "2020-01-20 night rice --3000").execute(profile, ui);
+        new RecordMealCommand("record-meal", "2020-04-06 morning egg --2000").execute(profile, ui);
+        command.execute(profile, ui);
+        String chart = command.getResult(profile).showResult();
+        assertTrue(chart.startsWith(String.format(MessageBank.CALORIES_CHART_TITLE, 2)));
+        assertTrue(chart.endsWith("2020-01-20                                        2020-04-06"));
+
+        command = new ChartCommand("chart", "weight");
+        command.execute(profile, ui);
+        assertTrue(command.getResult(profile).showResult()
+                .startsWith(String.format(MessageBank.WEIGHT_CHART_TITLE, 1)));
+
+        command = new ChartCommand("chart", "bmi");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INVALID_CHART_TYPE_MESSAGE, command.getResult(profile).showResult());
+    }
+
     @Test
     void deleteWeightCommand() throws InvalidFormatException {
         Profile profile = new Profile();
@@ -87,6 +239,14 @@ class CommandTest {
         command = new RecordMealCommand("record-meal", "monday night apple --50 / pear --60");
         command.execute(profile, ui);
         assertEquals(MessageBank.DINNER_RECORD_MESSAGE + "MONDAY.", command.getResult(profile).showResult());
+        assertTrue(command.isSuccessful());
+
+        command = new RecordMealCommand("record-meal", "tuesday morning chiken rice / unknown food");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.BREAKFAST_RECORD_MESSAGE + "TUESDAY." + System.lineSeparator()
+                + MessageBank.FOOD_NAME_CORRECTED_MESSAGE + "chiken rice as chicken-rice.",
+                command.getResult(profile).showResult());
+        assertEquals("chicken-rice", profile.getRecordOfDay("TUESDAY").getDailyFood("morning").get(0).getFoodName());
 
         command = new RecordMealCommand("record-meal", "everyday night fried rice");
         command.execute(profile, ui);
@@ -94,9 +254,71 @@ class CommandTest {
 
         command = new RecordMealCommand("record-meal", "monday evening fried rice");
         command.execute(profile, ui);
+        assertFalse(command.isSuccessful());
+
+        command = new RecordMealCommand("record-meal", "monday night apple --fifty");
+        command.execute(profile, ui);
+        assertFalse(command.isSuccessful());
         //assertEquals(MessageBank.INVALID_DATE_MESSAGE, command.getResult(profile).showResult());
     }
 
+    @Test
+    void calculateCaloriesCommand() throws InvalidFormatException {
+        Profile profile = new Profile();
+        UI ui = new UI();
+        profile.setProfile("John", 20, "Male", 180, 80, 75);
+        profile.setClock(Clock.fixed(Instant.parse("2020-04-08T12:00:00Z"), ZoneOffset.UTC));
+        new RecordMealCommand("record-meal", "2019-12-31 night apple --50").execute(profile, ui);
+        new RecordMealCommand("record-meal", "monday morning egg --80").execute(profile, ui);
+        assertEquals("2020-04-06", profile.getRecordOfDay("MONDAY").getDate());
+
+        Command command = new CalculateCaloriesCommand("calculate", "2019-12-01->monday");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.CALCULATE_CALORIES_MESSAGE + "130.00." + System.lineSeparator()
+                + String.format(MessageBank.DAILY_CALORIES_SUMMARY_MESSAGE, 2, 65.0, 50.0, 80.0),
+                command.getResult(profile).showResult());
+
+        command = new CalculateCaloriesCommand("calculate", "2020-01-01->2020-04-05");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.CALCULATE_CALORIES_MESSAGE + "0.00.", command.getResult(profile).showResult());
+
+        command = new CalculateCaloriesCommand("calculate", "2020-04-06->2019-12-31");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INVALID_DATE_RANGE_MESSAGE, command.getResult(profile).showResult());
+
+        command = new CalculateCaloriesCommand("calculate", "2020-02-30");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INVALID_DATE_MESSAGE, command.getResult(profile).showResult());
+    }
+
+    @Test
+    void trendCommand() throws InvalidFormatException {
+        Profile profile = new Profile();
+        UI ui = new UI();
+        Command command = new TrendCommand("trend", "low");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INVALID_PROFILE_MESSAGE, command.getResult(profile).showResult());
+
+        profile.setProfile("John", 20, "male", 180, 80, 75);
+        profile.setClock(Clock.fixed(Instant.parse("2020-04-08T12:00:00Z"), ZoneOffset.UTC));
+        new RecordMealCommand("record-meal", "2020-01-20 night rice --3000").execute(profile, ui);
+        new RecordMealCommand("record-meal", "2020-04-06 morning egg --2000").execute(profile, ui);
+        new RecordMealCommand("record-meal", "2020-04-07 morning egg --1000").execute(profile, ui);
+        command = new TrendCommand("trend", "low");
+        command.execute(profile, ui);
+        double caloriesRequired = new CheckRequiredCaloriesCommand("check-required-cal")
+                .getRecommendedCaloriesIntake(profile, "low");
+        assertEquals(String.format(MessageBank.TREND_HEADER_MESSAGE, "2020-04-08", caloriesRequired, "low")
+                + String.format(MessageBank.TREND_WINDOW_MESSAGE, 7, 1500.0, 2, "deficit", caloriesRequired - 1500)
+                + String.format(MessageBank.TREND_WINDOW_MESSAGE, 30, 1500.0, 2, "deficit", caloriesRequired - 1500)
+                + String.format(MessageBank.TREND_WINDOW_MESSAGE, 90, 2000.0, 3, "deficit", caloriesRequired - 2000)
+                + String.format(MessageBank.TREND_STREAK_MESSAGE, 2), command.getResult(profile).showResult());
+
+        command = new TrendCommand("trend", "extreme");
+        command.execute(profile, ui);
+        assertEquals(MessageBank.INVALID_CALORIES_REQUIREMENT_ERROR, command.getResult(profile).showResult());
+    }
+
     @Test
     void setAgeCommand() {
         Profile profile = new Profile();
@@ -116,6 +338,7 @@ class CommandTest {
         command.execute(profile, ui);
         assertEquals(Result.class, command.getResult(profile).getClass());
         assertEquals(MessageBank.INVALID_AGE_MESSAGE, command.getResult(profile).showResult());
+        assertFalse(command.isSuccessful());
     }
 
     @Test
@@ -0,0 +1,32 @@
+package seedu.dietmanager.logic.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.dietmanager.commons.exceptions.InvalidDateException;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DateParserTest {
+
+    @Test
+    void parseDate() throws InvalidDateException {
+        LocalDate today = LocalDate.of(2020, 4, 8);
+        assertEquals(LocalDate.of(2020, 4, 6), DateParser.parseDate("monday", today));
+        assertEquals(LocalDate.of(2020, 4, 12), DateParser.parseDate("SUNDAY", today));
+        assertEquals(LocalDate.of(2019, 12, 31), DateParser.parseDate(" 2019-12-31 ", today));
+        assertThrows(InvalidDateException.class, () -> {
+            DateParser.parseDate("everyday", today);
+        });
+        assertThrows(InvalidDateException.class, () -> {
+            DateParser.parseDate("2020-02-30", today);
+        });
+        assertThrows(InvalidDateException.class, () -> {
+            DateParser.parseDate("06/04/2020", today);
+        });
+        assertThrows(InvalidDateException.class, () -> {
+            DateParser.parseDate("1899-12-31", today);
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.dietmanager.logic.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.dietmanager.logic.commands.Command;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParserConcurrencyTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    private static final int PARSES_PER_THREAD = 125_000;
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 4, 8);
+
+    private static final String[] INPUTS = {
+        "profile", "help", "exit", "list-food", "show-recipe", "check-bmi", "weight-forecast", "profile hi",
+        "set-profile john 25 Male 175 70 75", "set-profile mary 30 female 160.5 55 50", "set-profile bob",
+        "set-name john doe", "set-name  ", "set-age 25", "set-age 0", "set-age abc", "set-age 149",
+        "set-gender Male", "set-gender FEMALE", "set-gender other", "set-height 175", "set-height 301",
+        "set-weight 70.5", "set-weight -3", "set-weight-goal 65", "delete-weight 2",
+        "record-meal monday morning rice --300 /egg", "record-meal 2020-01-20 night chicken rice",
+        "check-meal tuesday afternoon", "check-required-cal wednesday high", "calculate monday->sunday",
+        "addf fried noodles --450", "addf soup", "delf fried noodles", "search-food chi", "new-recipe 3 low seed/5",
+        "new-recipe 2 moderate seed/42", "new-plan 4 high seed/-7", "chart weight", "trend moderate",
+        "unknown-command", "", "   ", "SET-AGE 40", "check-meal", "new-recipe x y z",
+    };
+
+    @Test
+    void parse_manyThreads_matchesSingleThreadedParsing() throws Exception {
+        String[] expected = new String[INPUTS.length];
+        for (int i = 0; i < INPUTS.length; i++) {
+            expected[i] = parseSignature(INPUTS[i]);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<Integer>> mismatches = new ArrayList<>();
+            for (int thread = 0; thread < THREAD_COUNT; thread++) {
+                long seed = thread;
+                mismatches.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    int mismatchCount = 0;
+                    for (int i = 0; i < PARSES_PER_THREAD; i++) {
+                        int input = random.nextInt(INPUTS.length);
+                        if (!expected[input].equals(parseSignature(INPUTS[input]))) {
+                            mismatchCount++;
+                        }
+                    }
+                    return mismatchCount;
+                }));
+            }
+            for (Future<Integer> mismatchCount : mismatches) {
+                assertEquals(0, (int) mismatchCount.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parses an input with the command parser and with every value parser, and describes every result or
+     * failure in one string.
+     */
+
+    private static String parseSignature(String input) {
+        StringBuilder signature = new StringBuilder();
+        try {
+            Optional<Command> command = CommandParser.parseInput(input);
+            signature.append(command.map(ParserConcurrencyTest::describeCommand).orElse("none"));
+        } catch (Exception e) {
+            signature.append(e.getClass().getSimpleName());
+        }
+
+        String[] inputArray = input.trim().split(" ", 2);
+        String description = inputArray.length == 2 ? inputArray[1] : "";
+        signature.append('|')
+                .append(describe(() -> Arrays.toString(DescriptionParser.parseDescription(description, 2))));
+        signature.append('|').append(describe(() -> AgeParser.parseAge(description)));
+        signature.append('|').append(describe(() -> GenderParser.parseGender(description)));
+        signature.append('|').append(describe(() -> HeightParser.parseHeight(description)));
+        signature.append('|').append(describe(() -> WeightParser.parseWeight(description)));
+        signature.append('|').append(describe(() -> NameParser.parseName(description)));
+        signature.append('|').append(describe(() -> FoodNameParser.parseFoodName(description)));
+        signature.append('|').append(describe(() -> CaloriesParser.parseCalories(description)));
+        signature.append('|').append(describe(() -> SeedParser.parseSeed(description)));
+        signature.append('|').append(describe(() -> DateParser.parseDate(description, TODAY)));
+        return signature.toString();
+    }
+
+    /**
+     * Describes a parsed command by its class and the value of every field it holds, so that arguments parsed
+     * into the wrong command are told apart.
+     */
+
+    private static String describeCommand(Command command) {
+        StringBuilder description = new StringBuilder(command.getClass().getSimpleName());
+        for (Class<?> type = command.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    description.append(':').append(field.getName()).append('=')
+                            .append(Arrays.deepToString(new Object[] {field.get(command)}));
+                } catch (IllegalAccessException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }
+        return description.toString();
+    }
+
+    private static String describe(ParseAction action) {
+        try {
+            return String.valueOf(action.parse());
+        } catch (Exception e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    private interface ParseAction {
+        Object parse() throws Exception;
+    }
+
+}
@@ -0,0 +1,35 @@
+package seedu.dietmanager.logic.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SeedParserTest {
+
+    @Test
+    void parseSeed() throws InvalidFormatException {
+        assertEquals(42, SeedParser.parseSeed("seed/42"));
+        assertEquals(-7, SeedParser.parseSeed("SEED/-7"));
+        assertThrows(InvalidFormatException.class, () -> {
+            SeedParser.parseSeed("42");
+        });
+        assertThrows(InvalidFormatException.class, () -> {
+            SeedParser.parseSeed("seed/");
+        });
+        assertThrows(InvalidFormatException.class, () -> {
+            SeedParser.parseSeed("seed/4.2");
+        });
+    }
+
+    @Test
+    void parseOptionalSeed() throws InvalidFormatException {
+        assertEquals(42, SeedParser.parseOptionalSeed(new Tokenizer("seed/42")));
+        SeedParser.parseOptionalSeed(new Tokenizer("   "));
+        assertThrows(InvalidFormatException.class, () -> {
+            SeedParser.parseOptionalSeed(new Tokenizer("42"));
+        });
+    }
+
+}
@@ -5,6 +5,7 @@ import seedu.dietmanager.commons.exceptions.InvalidFormatException;
 import seedu.dietmanager.commons.exceptions.InvalidWeightException;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -68,6 +69,14 @@ class StorageParserTest {
         }
     }
 
+    @Test
+    void parseWeightDatesDataLine() throws InvalidFormatException {
+        assertThrows(InvalidFormatException.class, () -> {
+            StorageParser.parseWeightDatesDataLine("2020-04-06,Monday");
+        });
+        assertEquals(List.of(18_358L, 18_359L), StorageParser.parseWeightDatesDataLine("2020-04-06, 2020-04-07,"));
+    }
+
     @Test
     void parseFoodNutritionRecordDataLine() {
         assertThrows(InvalidFormatException.class, () -> {
@@ -87,4 +96,34 @@ class StorageParserTest {
             return;
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void parseMealJournalEntry() {
+        assertThrows(InvalidFormatException.class, () -> {
+            StorageParser.parseMealJournalEntry("RECORD");
+        });
+        try {
+            assertEquals(1, StorageParser.parseMealJournalEntry("CLEAR").length);
+            assertEquals("RECORD", StorageParser.parseMealJournalEntry("RECORD MONDAY morning: egg(80.00)")[0]);
+            assertEquals("MONDAY morning: egg(80.00)",
+                    StorageParser.parseMealJournalEntry("RECORD MONDAY morning: egg(80.00)")[1]);
+        } catch (InvalidFormatException e) {
+            return;
+        }
+    }
+
+    @Test
+    void parseGeneration() {
+        assertThrows(InvalidFormatException.class, () -> {
+            StorageParser.parseGeneration("one");
+        });
+        assertThrows(InvalidFormatException.class, () -> {
+            StorageParser.parseGeneration("-1");
+        });
+        try {
+            assertEquals(3, StorageParser.parseGeneration(" 3 "));
+        } catch (InvalidFormatException e) {
+            return;
+        }
+    }
+}
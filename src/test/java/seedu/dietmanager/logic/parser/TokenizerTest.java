@@ -0,0 +1,83 @@
+package seedu.dietmanager.logic.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenizerTest {
+
+    @Test
+    void nextToken_whitespaceRuns_readsTokensOfTrimmedInput() {
+        Tokenizer tokenizer = new Tokenizer("  set-profile \t john  25 ");
+        assertTrue(tokenizer.nextToken());
+        assertEquals("set-profile", tokenizer.token());
+        assertTrue(tokenizer.nextToken());
+        assertEquals("john", tokenizer.token());
+        assertTrue(tokenizer.hasMore());
+        assertTrue(tokenizer.nextToken());
+        assertEquals("25", tokenizer.token());
+        assertFalse(tokenizer.hasMore());
+        assertFalse(tokenizer.nextToken());
+        assertFalse(new Tokenizer("   ").nextToken());
+    }
+
+    @Test
+    void rest_afterToken_readsRestOfInput() {
+        Tokenizer tokenizer = new Tokenizer("record-meal   monday  morning /rice ");
+        tokenizer.nextToken();
+        assertTrue(tokenizer.rest());
+        assertEquals("monday  morning /rice", tokenizer.token());
+        assertFalse(tokenizer.rest());
+
+        tokenizer = new Tokenizer("help");
+        tokenizer.nextToken();
+        assertTrue(tokenizer.rest());
+        assertEquals("", tokenizer.token());
+    }
+
+    @Test
+    void nextPart_sameAsStringSplit() {
+        String[] inputs = {"a,b,c", "a,,b", ",a", "a,", "70.0,71.5,", "", "a", "rice--300", "rice--",
+            "a--b--c", "/steak -- 500 /fries", "monday->sunday", "monday->"};
+        String[] delimiters = {",", ",", ",", ",", ",", ",", ",", "--", "--", "--", "/", "->", "->"};
+        for (int i = 0; i < inputs.length; i++) {
+            assertEquals(Arrays.asList(inputs[i].split(delimiters[i])), readParts(inputs[i], delimiters[i]));
+        }
+    }
+
+    @Test
+    void trimmedToken_andTokenizeToken_shareInput() {
+        Tokenizer foods = new Tokenizer(" steak -- 500 / fries ");
+        assertTrue(foods.nextPart("/"));
+        assertEquals("steak -- 500 ", foods.token());
+        assertEquals("steak -- 500", foods.trimmedToken());
+
+        Tokenizer food = foods.tokenizeToken();
+        assertTrue(food.nextPart("--"));
+        assertEquals("steak", food.trimmedToken());
+        assertTrue(food.nextPart("--"));
+        assertEquals("500", food.trimmedToken());
+        assertFalse(food.nextPart("--"));
+
+        assertTrue(foods.nextPart("/"));
+        assertFalse(foods.isTokenBlank());
+        assertEquals("fries", foods.trimmedToken());
+        assertFalse(foods.nextPart("/"));
+    }
+
+    private static List<String> readParts(String input, String delimiter) {
+        List<String> parts = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(input);
+        while (tokenizer.nextPart(delimiter)) {
+            parts.add(tokenizer.token());
+        }
+        return parts;
+    }
+
+}
@@ -0,0 +1,64 @@
+package seedu.dietmanager.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CaloriesRangeIndexTest {
+
+    @Test
+    void query_matchesEveryDay() {
+        CaloriesRangeIndex index = new CaloriesRangeIndex();
+        double[] calories = new double[5000];
+        boolean[] hasCalories = new boolean[calories.length];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 20_000; i++) {
+            int day = random.nextInt(calories.length);
+            hasCalories[day] = random.nextInt(4) != 0;
+            calories[day] = hasCalories[day] ? random.nextInt(3000) : 0;
+            index.update(10_000 + day, calories[day], hasCalories[day]);
+        }
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(calories.length);
+            int to = from + random.nextInt(calories.length - from);
+            double total = 0;
+            int dayCount = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int day = from; day <= to; day++) {
+                if (hasCalories[day]) {
+                    total += calories[day];
+                    dayCount++;
+                    min = Math.min(min, calories[day]);
+                    max = Math.max(max, calories[day]);
+                }
+            }
+            CaloriesSummary summary = index.query(10_000 + from, 10_000 + to);
+            assertEquals(dayCount, summary.getDayCount());
+            assertEquals(total, summary.getTotalCalories());
+            if (dayCount > 0) {
+                assertEquals(min, summary.getMinCalories());
+                assertEquals(max, summary.getMaxCalories());
+            }
+        }
+    }
+
+    @Test
+    void update_outsideWindow_keepsEarlierDays() {
+        CaloriesRangeIndex index = new CaloriesRangeIndex();
+        index.update(0, 100, true);
+        index.update(-40_000, 50, true);
+        index.update(40_000, 300, true);
+        index.update(0, 0, false);
+        index.update(90_000, 0, false);
+        CaloriesSummary summary = index.query(-50_000, 50_000);
+        assertEquals(2, summary.getDayCount());
+        assertEquals(350, summary.getTotalCalories());
+        assertEquals(50, summary.getMinCalories());
+        assertEquals(300, summary.getMaxCalories());
+        assertEquals(175, summary.getAverageCalories());
+        assertEquals(0, index.query(1, 39_999).getDayCount());
+    }
+}
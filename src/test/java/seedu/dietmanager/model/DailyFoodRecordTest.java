@@ -3,6 +3,8 @@ package seedu.dietmanager.model;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -24,4 +26,41 @@ class DailyFoodRecordTest {
         assertEquals("monday", test.getDate());
     }
 
-}
\ No newline at end of file
+    @Test
+    void isModified() {
+        DailyFoodRecord test = new DailyFoodRecord("monday");
+        assertFalse(test.isModified());
+        ArrayList<Food> foods = new ArrayList<>();
+        foods.add(new Food("apple", 50));
+        test.recordMeals("morning", foods);
+        assertTrue(test.isModified());
+        test.setModified(false);
+        test.recordMeals("evening", foods);
+        assertFalse(test.isModified());
+        test.clearRecords("morning");
+        assertTrue(test.isModified());
+    }
+
+    @Test
+    void getDailyCalories() {
+        DailyFoodRecord test = new DailyFoodRecord("monday");
+        assertEquals(Optional.empty(), test.getDailyCalories());
+        assertFalse(test.hasCalculableCalories());
+        assertTrue(test.isCaloriesPresent());
+        test.recordMeals("morning", new ArrayList<>(List.of(new Food("egg", 80), new Food("toast", 120))));
+        test.recordMeals("night", new ArrayList<>(List.of(new Food("apple"))));
+        assertEquals(Optional.of(200.0), test.getDailyCalories());
+        assertEquals(200.0, test.getCalculableCalories());
+        assertEquals(Optional.of(200.0), test.getDailyCalories("morning"));
+        assertEquals(Optional.empty(), test.getDailyCalories("night"));
+        assertFalse(test.isCaloriesPresent());
+        assertTrue(test.isCaloriesPresent("morning"));
+        assertFalse(test.isCaloriesPresent("night"));
+        test.clearRecords("night");
+        assertTrue(test.isCaloriesPresent());
+        test.clearRecords("morning");
+        assertEquals(Optional.empty(), test.getDailyCalories());
+        assertEquals(0.0, test.getCalculableCalories());
+    }
+
+}
@@ -0,0 +1,49 @@
+package seedu.dietmanager.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FoodNameMatcherTest {
+
+    @Test
+    void findClosest() {
+        FoodNameMatcher matcher = new FoodNameMatcher(List.of("chicken-rice", "fried-rice", "french-fries"));
+        assertEquals(Optional.of("chicken-rice"), matcher.findClosest("chicken-rice"));
+        assertEquals(Optional.of("chicken-rice"), matcher.findClosest("chiken-rice"));
+        assertEquals(Optional.of("chicken-rice"), matcher.findClosest("chiken-rce"));
+        assertEquals(Optional.of("fried-rice"), matcher.findClosest("fried-ricee"));
+        assertFalse(matcher.findClosest("fries").isPresent());
+        assertFalse(matcher.findClosest("rice").isPresent());
+        assertFalse(matcher.findClosest("fish-soup").isPresent());
+    }
+
+    @Test
+    void findClosest_equallyClose_firstInAlphabeticalOrder() {
+        FoodNameMatcher matcher = new FoodNameMatcher(List.of("pear-tart", "bear-tart"));
+        assertEquals(Optional.of("bear-tart"), matcher.findClosest("dear-tart"));
+    }
+
+    @Test
+    void addAndRemove() {
+        FoodNameMatcher matcher = new FoodNameMatcher(List.of());
+        assertFalse(matcher.findClosest("kaya-toast").isPresent());
+        matcher.add("kaya-toast");
+        assertEquals(Optional.of("kaya-toast"), matcher.findClosest("kaya-tost"));
+        matcher.remove("kaya-toast");
+        assertFalse(matcher.findClosest("kaya-tost").isPresent());
+        for (int i = 0; i < 3000; i++) {
+            matcher.add("food-" + i);
+        }
+        for (int i = 0; i < 2500; i++) {
+            matcher.remove("food-" + i);
+        }
+        assertEquals(Optional.of("food-2999"), matcher.findClosest("food-29999"));
+        assertFalse(matcher.findClosest("food-1234x").isPresent());
+    }
+
+}
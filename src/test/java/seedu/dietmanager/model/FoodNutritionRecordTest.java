@@ -3,9 +3,12 @@ package seedu.dietmanager.model;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FoodNutritionRecordTest {
@@ -21,6 +24,71 @@ class FoodNutritionRecordTest {
         assertTrue(test.findFood("chicken-rice").isPresent());
     }
 
+    @Test
+    void findFoodIgnoringCase() {
+        FoodNutritionRecord test = FoodNutritionRecord.getInstance();
+        assertTrue(test.addFoodNutritionRecord("Kaya-Toast", 300.00));
+        assertTrue(test.findFood("kaya-toast").isPresent());
+        assertTrue(test.isInDatabase("KAYA-TOAST"));
+        assertTrue(test.deleteFoodNutritionRecord("kaya-TOAST"));
+        assertFalse(test.findFood("Kaya-Toast").isPresent());
+        assertFalse(test.getFoodNutritionRecordList().stream()
+                .anyMatch(food -> food.getFoodName().equals("Kaya-Toast")));
+    }
+
+    @Test
+    void searchFood() {
+        FoodNutritionRecord test = FoodNutritionRecord.getInstance();
+        test.addFoodNutritionRecord("search-apricot", 50.00);
+        test.addFoodNutritionRecord("Search Apple", 60.00);
+        test.addFoodNutritionRecord("search-banana", 70.00);
+        List<Food> foodsFound = test.searchFood("SEARCH-AP", 10);
+        assertEquals(2, foodsFound.size());
+        assertEquals("Search Apple", foodsFound.get(0).getFoodName());
+        assertEquals("search-apricot", foodsFound.get(1).getFoodName());
+        assertEquals(1, test.searchFood("search ", 1).size());
+        test.deleteFoodNutritionRecord("search-apple");
+        assertEquals(1, test.searchFood("search-ap", 10).size());
+        test.deleteFoodNutritionRecord("search-apricot");
+        test.deleteFoodNutritionRecord("search-banana");
+        assertTrue(test.searchFood("search", 10).isEmpty());
+    }
+
+    @Test
+    void findClosestFood() {
+        FoodNutritionRecord test = FoodNutritionRecord.getInstance();
+        assertEquals("fried-rice", test.findClosestFood("Fried Rice").get().getFoodName());
+        assertEquals("fried-rice", test.findClosestFood("fried rcie").get().getFoodName());
+        assertFalse(test.findClosestFood("laksa-soup").isPresent());
+        test.addFoodNutritionRecord("laksa", 590.00);
+        assertEquals("laksa", test.findClosestFood("Laksa").get().getFoodName());
+        test.addFoodNutritionRecord("Laksa Soup", 350.00);
+        assertEquals("Laksa Soup", test.findClosestFood("laksa-sup").get().getFoodName());
+        test.deleteFoodNutritionRecord("laksa-soup");
+        test.deleteFoodNutritionRecord("laksa");
+        assertFalse(test.findClosestFood("laksa-sup").isPresent());
+    }
+
+    @Test
+    void getFoodCalories_afterDeletion() {
+        FoodNutritionRecord test = FoodNutritionRecord.getInstance();
+        test.addFoodNutritionRecord("column-soup", 120.00);
+        test.addFoodNutritionRecord("column-tea", null);
+        int size = test.getListSize();
+        assertTrue(test.deleteFoodNutritionRecord("column-soup"));
+        assertEquals(size - 1, test.getListSize());
+        assertEquals("column-tea", test.getFoodName(size - 2));
+        assertFalse(test.hasCaloriesData(size - 2));
+        assertFalse(test.findFood("column-tea").get().hasCaloriesData());
+        assertThrows(NoSuchElementException.class, () -> test.getFoodCalories(size - 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> test.findFood(size - 1));
+        assertTrue(test.addFoodNutritionRecord("column-soup", 130.00));
+        assertEquals(130.00, test.getFoodCalories(size - 1));
+        assertEquals(130.00, test.findFood("Column Soup").get().getCalories().get());
+        test.deleteFoodNutritionRecord("column-soup");
+        test.deleteFoodNutritionRecord("column-tea");
+    }
+
     @Test
     void testFindFood() {
         FoodNutritionRecord test = FoodNutritionRecord.getInstance();
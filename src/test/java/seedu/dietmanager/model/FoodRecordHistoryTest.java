@@ -0,0 +1,86 @@
+package seedu.dietmanager.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FoodRecordHistoryTest {
+
+    @Test
+    void getRecords_acrossMonths() {
+        FoodRecordHistory history = new FoodRecordHistory();
+        DailyFoodRecord first = history.getRecord(LocalDate.of(2020, 1, 31));
+        DailyFoodRecord second = history.getRecord(LocalDate.of(2020, 2, 29));
+        DailyFoodRecord third = history.getRecord(LocalDate.of(2020, 3, 1));
+        history.getRecord(LocalDate.of(2020, 3, 2));
+        assertSame(second, history.getRecord(LocalDate.of(2020, 2, 29)));
+        assertEquals(List.of(first, second, third),
+                history.getRecords(LocalDate.of(2020, 1, 31), LocalDate.of(2020, 3, 1)));
+        assertTrue(history.getRecords(LocalDate.of(2020, 3, 1), LocalDate.of(2020, 2, 1)).isEmpty());
+        assertFalse(history.findRecord(LocalDate.of(2020, 2, 1)).isPresent());
+        assertEquals(4, history.getLoadedRecords().size());
+    }
+
+    @Test
+    void getRecords_unloadedMonth_loadedOnce() {
+        FoodRecordHistory history = new FoodRecordHistory();
+        List<YearMonth> loadedMonths = new ArrayList<>();
+        history.setMonthLoader(month -> {
+            loadedMonths.add(month);
+            history.getRecord(month.atDay(15)).recordMeals("morning", new ArrayList<>(List.of(new Food("egg", 80))));
+        });
+        history.addUnloadedMonth(YearMonth.of(2015, 6));
+        history.addUnloadedMonth(YearMonth.of(2019, 6));
+        history.getRecord(LocalDate.of(2020, 4, 6));
+        assertTrue(loadedMonths.isEmpty());
+        assertEquals(1, history.getRecords(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 12, 31)).size());
+        assertEquals(List.of(YearMonth.of(2019, 6)), loadedMonths);
+        assertTrue(history.findRecord(LocalDate.of(2019, 6, 15)).isPresent());
+        assertEquals(List.of(YearMonth.of(2019, 6)), loadedMonths);
+        assertEquals(3, history.getMonths().size());
+    }
+
+    @Test
+    void getCaloriesSummary() {
+        FoodRecordHistory history = new FoodRecordHistory();
+        history.setMonthLoader(month -> history.getRecord(month.atDay(1))
+                .recordMeals("night", new ArrayList<>(List.of(new Food("rice", 300)))));
+        history.addUnloadedMonth(YearMonth.of(2019, 6));
+        DailyFoodRecord record = history.getRecord(LocalDate.of(2020, 4, 6));
+        record.recordMeals("morning", new ArrayList<>(List.of(new Food("egg", 80), new Food("apple"))));
+        history.getRecord(LocalDate.of(2020, 4, 7)).recordMeals("night", new ArrayList<>(List.of(new Food("tea"))));
+        CaloriesSummary summary = history.getCaloriesSummary(LocalDate.of(2019, 1, 1), LocalDate.of(2020, 12, 31));
+        assertEquals(2, summary.getDayCount());
+        assertEquals(380, summary.getTotalCalories());
+        record.clearRecords("morning");
+        assertEquals(300, history.getCaloriesSummary(LocalDate.of(2019, 1, 1), LocalDate.of(2020, 12, 31))
+                .getTotalCalories());
+        history.clear(YearMonth.of(2019, 6)::equals);
+        assertEquals(0, history.getCaloriesSummary(LocalDate.of(2019, 1, 1), LocalDate.of(2020, 12, 31))
+                .getDayCount());
+    }
+
+    @Test
+    void clear_modifiedMonths() {
+        FoodRecordHistory history = new FoodRecordHistory();
+        history.addUnloadedMonth(YearMonth.of(2019, 6));
+        history.getRecord(LocalDate.of(2020, 4, 6)).recordMeals("night", new ArrayList<>(List.of(new Food("pear"))));
+        assertEquals(List.of(YearMonth.of(2020, 4)), new ArrayList<>(history.getModifiedMonths()));
+        history.setModified(false);
+        assertFalse(history.isModified());
+        history.clear(month -> true);
+        assertEquals(List.of(YearMonth.of(2019, 6), YearMonth.of(2020, 4)),
+                new ArrayList<>(history.getModifiedMonths()));
+        assertTrue(history.getMonths().isEmpty());
+        history.setModified(false);
+        assertFalse(history.isModified());
+    }
+}
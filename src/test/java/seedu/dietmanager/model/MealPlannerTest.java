@@ -0,0 +1,98 @@
+package seedu.dietmanager.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MealPlannerTest {
+
+    @Test
+    void planMeal_matchesBruteForce() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int round = 0; round < 300; round++) {
+            int foodCount = random.nextInt(12);
+            double[] calories = new double[foodCount];
+            boolean[] isAvailable = new boolean[foodCount];
+            for (int i = 0; i < foodCount; i++) {
+                calories[i] = random.nextInt(80_000) / 100.0;
+                isAvailable[i] = random.nextInt(5) != 0;
+            }
+            double target = random.nextInt(1_200);
+            int maxFoodTypes = 1 + random.nextInt(3);
+            MealPlanner planner = new MealPlanner(target, maxFoodTypes);
+            int[] meal = planner.planMeal(foodCount, i -> isAvailable[i], i -> calories[i], round);
+
+            assertTrue(meal.length <= maxFoodTypes);
+            boolean[] isChosen = new boolean[foodCount];
+            int total = 0;
+            for (int food : meal) {
+                assertTrue(isAvailable[food]);
+                assertTrue(!isChosen[food]);
+                isChosen[food] = true;
+                total += (int) Math.ceil(calories[food]);
+            }
+            assertTrue(total <= target);
+            assertEquals(bestTotal(calories, isAvailable, 0, maxFoodTypes, (int) target, 0), total);
+        }
+    }
+
+    @Test
+    void planMeal_noFoodUnderTarget_returnsEmptyMeal() {
+        MealPlanner planner = new MealPlanner(100, 3);
+        assertEquals(0, planner.planMeal(2, i -> true, i -> 150, 0).length);
+        assertEquals(0, planner.planMeal(2, i -> false, i -> 50, 0).length);
+        assertEquals(0, new MealPlanner(-10, 3).planMeal(2, i -> true, i -> 0, 0).length);
+    }
+
+    @Test
+    void planMeal_roundsCaloriesUp_neverExceedsTarget() {
+        double[] calories = {50.5, 49.5, 40};
+        MealPlanner planner = new MealPlanner(100, 2);
+        int[] meal = planner.planMeal(calories.length, i -> true, i -> calories[i], 0);
+        assertEquals(2, meal.length);
+        assertEquals(90.5, calories[meal[0]] + calories[meal[1]]);
+    }
+
+    @Test
+    void planMeal_prefersFewerFoods() {
+        MealPlanner planner = new MealPlanner(500, 3);
+        int[] meal = planner.planMeal(3, i -> true, i -> new double[] {200, 300, 500}[i], 0);
+        assertEquals(1, meal.length);
+        assertEquals(2, meal[0]);
+    }
+
+    @Test
+    void planMeal_largeDatabase_reachesTarget() {
+        SplittableRandom random = new SplittableRandom(7);
+        double[] calories = new double[100_000];
+        for (int i = 0; i < calories.length; i++) {
+            calories[i] = 50 + random.nextInt(90_000) / 100.0;
+        }
+        MealPlanner planner = new MealPlanner(733.4, 3);
+        int[] meal = planner.planMeal(calories.length, i -> true, i -> calories[i], 0);
+        int total = 0;
+        for (int food : meal) {
+            total += (int) Math.ceil(calories[food]);
+        }
+        assertEquals(733, total);
+    }
+
+    private static int bestTotal(double[] calories, boolean[] isAvailable, int from, int foodsLeft, int target,
+            int total) {
+        int best = total;
+        if (foodsLeft == 0) {
+            return best;
+        }
+        for (int i = from; i < calories.length; i++) {
+            int newTotal = total + (int) Math.ceil(calories[i]);
+            if (isAvailable[i] && newTotal <= target) {
+                best = Math.max(best, bestTotal(calories, isAvailable, i + 1, foodsLeft - 1, target, newTotal));
+            }
+        }
+        return best;
+    }
+
+}
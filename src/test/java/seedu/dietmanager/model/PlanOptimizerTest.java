@@ -0,0 +1,122 @@
+package seedu.dietmanager.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlanOptimizerTest {
+
+    @Test
+    void optimize_largeDatabase_meetsTargetAndVariety() {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] calories = new double[50_000];
+        boolean[] hasCalories = new boolean[calories.length];
+        for (int i = 0; i < calories.length; i++) {
+            calories[i] = 20 + random.nextInt(90_000) / 100.0;
+            hasCalories[i] = random.nextInt(10) != 0;
+        }
+        PlanOptimizer optimizer = new PlanOptimizer(12, 2_200, 3, 2, hasCalories, calories);
+        optimizer.optimize(7);
+
+        assertEquals(84, optimizer.getDayCount());
+        assertEquals(countViolations(optimizer, 12, 2), optimizer.getViolationCount());
+        assertEquals(0, optimizer.getViolationCount());
+        for (int day = 0; day < optimizer.getDayCount(); day++) {
+            assertEquals(2_200, optimizer.getDayCalories(day), 5);
+            for (int mealType = 0; mealType < PlanOptimizer.MEALS_PER_DAY; mealType++) {
+                int[] meal = optimizer.getMeal(day, mealType);
+                assertTrue(meal.length >= 1 && meal.length <= 3);
+                for (int food : meal) {
+                    assertTrue(hasCalories[food]);
+                }
+                assertEquals(meal.length, Arrays.stream(meal).distinct().count());
+            }
+        }
+    }
+
+    @Test
+    void optimize_yearOverLargeDatabase_countsViolationsIncrementally() {
+        SplittableRandom random = new SplittableRandom(3);
+        double[] calories = new double[500_000];
+        boolean[] hasCalories = new boolean[calories.length];
+        for (int i = 0; i < calories.length; i++) {
+            calories[i] = 20 + random.nextInt(90_000) / 100.0;
+            hasCalories[i] = true;
+        }
+        PlanOptimizer optimizer = new PlanOptimizer(52, 2_000, 3, 1, hasCalories, calories);
+        optimizer.optimize(11);
+        assertEquals(364, optimizer.getDayCount());
+        assertEquals(countViolations(optimizer, 52, 1), optimizer.getViolationCount());
+    }
+
+    @Test
+    void optimize_smallDatabase_countsViolationsIncrementally() {
+        double[] calories = {702, 508, 77, 163, 330};
+        boolean[] hasCalories = {true, true, true, true, true};
+        PlanOptimizer optimizer = new PlanOptimizer(2, 2_400, 3, 2, hasCalories, calories);
+        optimizer.optimize(42);
+        assertEquals(countViolations(optimizer, 2, 2), optimizer.getViolationCount());
+        assertTrue(optimizer.getViolationCount() > 0);
+    }
+
+    @Test
+    void optimize_sameSeed_samePlan() {
+        double[] calories = {702, 508, 77, 163, 330, 120, 80, 450, 459, 300, 450};
+        boolean[] hasCalories = new boolean[calories.length];
+        Arrays.fill(hasCalories, true);
+        PlanOptimizer first = new PlanOptimizer(3, 2_000, 3, 4, hasCalories, calories);
+        PlanOptimizer second = new PlanOptimizer(3, 2_000, 3, 4, hasCalories, calories);
+        first.optimize(5);
+        second.optimize(5);
+        for (int day = 0; day < first.getDayCount(); day++) {
+            for (int mealType = 0; mealType < PlanOptimizer.MEALS_PER_DAY; mealType++) {
+                assertTrue(Arrays.equals(first.getMeal(day, mealType), second.getMeal(day, mealType)));
+            }
+        }
+    }
+
+    @Test
+    void optimize_noFoodWithCalories_givesEmptyPlan() {
+        PlanOptimizer optimizer = new PlanOptimizer(1, 2_000, 3, 2, new boolean[] {false}, new double[] {0});
+        optimizer.optimize(1);
+        assertEquals(0, optimizer.getMeal(0, 0).length);
+        assertEquals(0, optimizer.getViolationCount());
+    }
+
+    private static int countViolations(PlanOptimizer optimizer, int weeks, int maxTimesPerWeek) {
+        int violations = 0;
+        for (int week = 0; week < weeks; week++) {
+            Map<Integer, Integer> counts = new HashMap<>();
+            for (int day = week * 7; day < (week + 1) * 7; day++) {
+                for (int mealType = 0; mealType < PlanOptimizer.MEALS_PER_DAY; mealType++) {
+                    for (int food : optimizer.getMeal(day, mealType)) {
+                        counts.merge(food, 1, Integer::sum);
+                    }
+                }
+            }
+            for (int count : counts.values()) {
+                violations += Math.max(0, count - maxTimesPerWeek);
+            }
+        }
+        int[] previousMeal = new int[0];
+        for (int day = 0; day < optimizer.getDayCount(); day++) {
+            for (int mealType = 0; mealType < PlanOptimizer.MEALS_PER_DAY; mealType++) {
+                int[] meal = optimizer.getMeal(day, mealType);
+                for (int food : meal) {
+                    for (int previousFood : previousMeal) {
+                        violations += food == previousFood ? 1 : 0;
+                    }
+                }
+                previousMeal = meal;
+            }
+        }
+        return violations;
+    }
+
+}
@@ -1,8 +1,19 @@
 package seedu.dietmanager.model;
 
 import org.junit.jupiter.api.Test;
+import seedu.dietmanager.commons.core.Weekday;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ProfileTest {
 
@@ -107,7 +118,41 @@ class ProfileTest {
     void getRecordOfDay() {
         Profile profile = new Profile();
         profile.setProfile("John Doe", 20, "Male", 180, 80, 75);
+        profile.setClock(Clock.fixed(Instant.parse("2020-04-10T12:00:00Z"), ZoneOffset.UTC));
         DailyFoodRecord record = profile.getRecordOfDay("WEDNESDAY");
-        assertEquals("WEDNESDAY", record.getDate());
+        assertEquals("2020-04-08", record.getDate());
+    }
+
+    @Test
+    void getRecordOfDay_sameRecordForEachFormOfDate() {
+        Profile profile = new Profile();
+        profile.setClock(Clock.fixed(Instant.parse("2020-04-06T12:00:00Z"), ZoneOffset.UTC));
+        DailyFoodRecord record = profile.getRecordOfDay("friday");
+        assertEquals("2020-04-10", record.getDate());
+        assertSame(record, profile.getRecordOfDay("FRIDAY"));
+        assertSame(record, profile.getRecordOfDay(Weekday.FRIDAY));
+        assertSame(record, profile.getRecordOfDay("2020-04-10"));
+        assertSame(record, profile.getRecordOfDay(LocalDate.of(2020, 4, 10)));
+        DailyFoodRecord otherRecord = profile.getRecordOfDay("2019-12-31");
+        assertNotSame(record, otherRecord);
+        assertSame(otherRecord, profile.getRecordOfDay(LocalDate.of(2019, 12, 31)));
+        assertThrows(IllegalArgumentException.class, () -> profile.getRecordOfDay("holiday"));
+        profile.clearAllFoodRecords();
+        assertNotSame(record, profile.getRecordOfDay(Weekday.FRIDAY));
+    }
+
+    @Test
+    void isFoodRecordModified() {
+        Profile profile = new Profile();
+        profile.setProfile("John Doe", 20, "Male", 180, 80, 75);
+        assertEquals(true, profile.isProfileModified());
+        profile.setProfileModified(false);
+        profile.getRecordOfDay("MONDAY");
+        assertEquals(false, profile.isFoodRecordModified());
+        profile.getRecordOfDay("MONDAY").recordMeals("night", new ArrayList<>(List.of(new Food("pear"))));
+        assertEquals(true, profile.isFoodRecordModified());
+        assertEquals(false, profile.isProfileModified());
+        profile.setFoodRecordModified(false);
+        assertEquals(false, profile.isFoodRecordModified());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package seedu.dietmanager.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RecipePlanCacheTest {
+
+    @Test
+    void getPlan_countsHitsAndMisses() {
+        RecipePlanCache cache = new RecipePlanCache(4);
+        int[][] plan = {{1, 2}, {3}};
+        assertSame(plan, cache.getPlan(700, "low", 3, 42, 1, () -> plan));
+        assertSame(plan, cache.getPlan(700, "low", 3, 42, 1, () -> new int[0][]));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cache.getPlan(701, "low", 3, 42, 1, () -> new int[0][]);
+        cache.getPlan(700, "high", 3, 42, 1, () -> new int[0][]);
+        cache.getPlan(700, "low", 2, 42, 1, () -> new int[0][]);
+        cache.getPlan(700, "low", 3, 7, 1, () -> new int[0][]);
+        cache.getPlan(700, "low", 3, 42, 2, () -> new int[0][]);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(6, cache.getMissCount());
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    void getPlan_full_dropsLeastRecentlyUsed() {
+        RecipePlanCache cache = new RecipePlanCache(2);
+        int[][] first = new int[0][];
+        cache.getPlan(1, "low", 3, 0, 0, () -> first);
+        cache.getPlan(2, "low", 3, 0, 0, () -> new int[0][]);
+        cache.getPlan(1, "low", 3, 0, 0, () -> new int[0][]);
+        cache.getPlan(3, "low", 3, 0, 0, () -> new int[0][]);
+
+        assertSame(first, cache.getPlan(1, "low", 3, 0, 0, () -> new int[0][]));
+        cache.getPlan(2, "low", 3, 0, 0, () -> new int[0][]);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+}
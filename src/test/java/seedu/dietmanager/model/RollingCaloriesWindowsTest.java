@@ -0,0 +1,94 @@
+package seedu.dietmanager.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RollingCaloriesWindowsTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+
+    @Test
+    void getRollingCalories_matchesEveryDay() {
+        FoodRecordHistory history = new FoodRecordHistory();
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = FIRST_DATE.plusDays(100);
+        for (int i = 0; i < 2_000; i++) {
+            int step = random.nextInt(20);
+            if (step == 0) {
+                today = today.plusDays(random.nextInt(200) - 60);
+            } else if (step < 4) {
+                today = today.plusDays(1);
+            } else {
+                LocalDate date = today.minusDays(random.nextInt(120) - 10);
+                recordCalories(history, date, random.nextInt(3) == 0 ? -1 : random.nextInt(3000));
+            }
+            if (i % 7 == 0) {
+                assertWindows(history, today);
+            }
+        }
+    }
+
+    @Test
+    void getRollingCalories_afterClear_dropsClearedDays() {
+        FoodRecordHistory history = new FoodRecordHistory();
+        LocalDate today = FIRST_DATE.plusDays(60);
+        recordCalories(history, today, 500);
+        recordCalories(history, FIRST_DATE.plusDays(40), 700);
+        assertEquals(2, history.getRollingCalories(today).getDayCount(1));
+        history.clear(month -> month.getMonthValue() == FIRST_DATE.plusDays(40).getMonthValue());
+        RollingCaloriesWindows windows = history.getRollingCalories(today);
+        assertEquals(1, windows.getDayCount(1));
+        assertEquals(500, windows.getTotalCalories(1));
+    }
+
+    @Test
+    void getStreak_countsConsecutiveDaysOnTarget() {
+        FoodRecordHistory history = new FoodRecordHistory();
+        LocalDate today = FIRST_DATE.plusDays(60);
+        recordCalories(history, today.minusDays(5), 3000);
+        for (int i = 1; i <= 4; i++) {
+            recordCalories(history, today.minusDays(i), 1500);
+        }
+        assertEquals(4, history.getRollingCalories(today).getStreak(calories -> calories <= 2000));
+        recordCalories(history, today, 1000);
+        assertEquals(5, history.getRollingCalories(today).getStreak(calories -> calories <= 2000));
+        recordCalories(history, today, 1500);
+        assertEquals(0, history.getRollingCalories(today).getStreak(calories -> calories <= 2000));
+        assertEquals(0, history.getRollingCalories(today.plusDays(2)).getStreak(calories -> calories <= 2000));
+    }
+
+    /**
+     * Records a food with some calories in a date, or a food without calories data if the calories are negative.
+     */
+
+    private static void recordCalories(FoodRecordHistory history, LocalDate date, int calories) {
+        ArrayList<Food> foods = new ArrayList<>();
+        foods.add(calories < 0 ? new Food("water") : new Food("rice", calories));
+        history.getRecord(date).recordMeals("morning", foods);
+    }
+
+    private static void assertWindows(FoodRecordHistory history, LocalDate today) {
+        RollingCaloriesWindows windows = history.getRollingCalories(today);
+        for (int i = 0; i < RollingCaloriesWindows.WINDOW_LENGTHS.length; i++) {
+            LocalDate from = today.minusDays(RollingCaloriesWindows.WINDOW_LENGTHS[i] - 1);
+            List<DailyFoodRecord> records = history.getRecords(from, today);
+            double total = 0;
+            int dayCount = 0;
+            for (DailyFoodRecord record : records) {
+                if (record.hasCalculableCalories()) {
+                    total += record.getCalculableCalories();
+                    dayCount++;
+                }
+            }
+            assertEquals(dayCount, windows.getDayCount(i));
+            assertEquals(total, windows.getTotalCalories(i), 1e-6);
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package seedu.dietmanager.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SharedFoodNutritionRecordTest {
+
+    private static final int READER_COUNT = 8;
+
+    private static final int FOODS_ADDED = 2000;
+
+    @Test
+    void addAndDelete_publishNewSnapshot() {
+        SharedFoodNutritionRecord shared = new SharedFoodNutritionRecord(new FoodNutritionRecord());
+        FoodNutritionRecord snapshot = shared.getSnapshot();
+        long version = shared.getVersion();
+        assertTrue(shared.isShared());
+
+        assertTrue(shared.addFoodNutritionRecord("durian", 360.0));
+        assertFalse(shared.addFoodNutritionRecord("Durian", 1.0));
+        assertFalse(snapshot.isInDatabase("durian"));
+        assertEquals(360.0, shared.findFood("durian").get().getCalories().get());
+        assertEquals(version + 1, shared.getVersion());
+
+        assertTrue(shared.deleteFoodNutritionRecord("chicken-rice"));
+        assertFalse(shared.deleteFoodNutritionRecord("chicken-rice"));
+        assertTrue(snapshot.isInDatabase("chicken-rice"));
+        assertTrue(shared.findClosestFood("fried-rise").isPresent());
+        assertEquals(snapshot.getListSize(), shared.getListSize());
+    }
+
+    @Test
+    void publicMethods_allOverridden() throws Exception {
+        for (Method method : FoodNutritionRecord.class.getDeclaredMethods()) {
+            if (Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers())) {
+                assertEquals(SharedFoodNutritionRecord.class, SharedFoodNutritionRecord.class
+                        .getMethod(method.getName(), method.getParameterTypes()).getDeclaringClass());
+            }
+        }
+    }
+
+    @Test
+    void takeModifiedSnapshot_onlyAfterChange() {
+        FoodNutritionRecord foods = new FoodNutritionRecord();
+        SharedFoodNutritionRecord shared = new SharedFoodNutritionRecord(foods);
+        assertFalse(shared.takeModifiedSnapshot().isPresent());
+
+        shared.addFoodNutritionRecord("durian", 360.0);
+        Optional<FoodNutritionRecord> modified = shared.takeModifiedSnapshot();
+        assertTrue(modified.isPresent());
+        assertSame(shared.getSnapshot(), modified.get());
+        assertFalse(shared.isModified());
+        assertFalse(shared.takeModifiedSnapshot().isPresent());
+    }
+
+    @Test
+    void save_afterChange_savesLatestSnapshotOnce() {
+        List<FoodNutritionRecord> saved = new ArrayList<>();
+        SharedFoodNutritionRecord shared = new SharedFoodNutritionRecord(new FoodNutritionRecord(), saved::add);
+        shared.save();
+        assertTrue(saved.isEmpty());
+
+        shared.addFoodNutritionRecord("durian", 360.0);
+        shared.deleteFoodNutritionRecord("chicken-rice");
+        shared.save();
+        shared.save();
+        assertEquals(1, saved.size());
+        assertSame(shared.getSnapshot(), saved.get(0));
+        assertFalse(shared.isModified());
+    }
+
+    @Test
+    void read_whileFoodsAdded_seesConsistentSnapshots() throws Exception {
+        SharedFoodNutritionRecord shared = new SharedFoodNutritionRecord(new FoodNutritionRecord());
+        int initialSize = shared.getListSize();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT);
+        try {
+            List<Future<Integer>> errors = new ArrayList<>();
+            for (int reader = 0; reader < READER_COUNT; reader++) {
+                errors.add(executor.submit(() -> {
+                    int errorCount = 0;
+                    long lastVersion = -1;
+                    while (isWriting.get()) {
+                        FoodNutritionRecord snapshot = shared.getSnapshot();
+                        int size = snapshot.getListSize();
+                        String lastFood = snapshot.getFoodName(size - 1);
+                        if (snapshot.getVersion() < lastVersion || !snapshot.isInDatabase(lastFood)
+                                || snapshot.getFoodNutritionRecordList().size() != size
+                                || !shared.findClosestFood("chiken-rice").isPresent()) {
+                            errorCount++;
+                        }
+                        lastVersion = snapshot.getVersion();
+                    }
+                    return errorCount;
+                }));
+            }
+            for (int i = 0; i < FOODS_ADDED; i++) {
+                shared.addFoodNutritionRecord("food-" + i, (double) i);
+                if (i % 3 == 0) {
+                    shared.deleteFoodNutritionRecord("food-" + (i / 2));
+                }
+            }
+            isWriting.set(false);
+            for (Future<Integer> errorCount : errors) {
+                assertEquals(0, (int) errorCount.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(initialSize + FOODS_ADDED - (FOODS_ADDED + 2) / 3, shared.getListSize());
+    }
+
+}
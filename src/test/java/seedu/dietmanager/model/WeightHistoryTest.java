@@ -0,0 +1,82 @@
+package seedu.dietmanager.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeightHistoryTest {
+
+    @Test
+    void getDailyChange_matchesLeastSquaresFit() {
+        WeightHistory history = new WeightHistory();
+        List<Long> days = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(42);
+        long day = 18_000;
+        for (int i = 0; i < 5_000; i++) {
+            if (weights.size() > 2 && random.nextInt(4) == 0) {
+                int index = random.nextInt(weights.size());
+                assertEquals((double) weights.remove(index), history.remove(index));
+                days.remove(index);
+            } else {
+                day += random.nextInt(3);
+                double weight = 80 - 0.01 * (day - 18_000) + random.nextDouble();
+                history.add(day, weight);
+                days.add(day);
+                weights.add(weight);
+            }
+            if (i % 50 == 0) {
+                assertEquals(fitSlope(days, weights), history.getDailyChange(), 1e-9);
+            }
+        }
+        assertEquals(weights.size(), history.size());
+        assertEquals((double) weights.get(weights.size() - 1), history.getLatestWeight());
+    }
+
+    @Test
+    void hasTrend_needsTwoDifferentDays() {
+        WeightHistory history = new WeightHistory();
+        assertFalse(history.hasTrend());
+        history.add(18_000, 80);
+        history.add(18_000, 79);
+        assertFalse(history.hasTrend());
+        assertEquals(0, history.getDailyChange());
+        history.add(18_002, 78);
+        assertTrue(history.hasTrend());
+        assertEquals(-0.75, history.getDailyChange(), 1e-12);
+        assertEquals(80, history.remove(0));
+        assertEquals(-0.5, history.getDailyChange(), 1e-12);
+        assertThrows(IndexOutOfBoundsException.class, () -> history.remove(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getWeight(2));
+        history.clear();
+        assertThrows(IndexOutOfBoundsException.class, history::getLatestWeight);
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getWeight(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getEpochDay(0));
+    }
+
+    private static double fitSlope(List<Long> days, List<Double> weights) {
+        double meanDay = 0;
+        double meanWeight = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            meanDay += days.get(i);
+            meanWeight += weights.get(i);
+        }
+        meanDay /= weights.size();
+        meanWeight /= weights.size();
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            covariance += (days.get(i) - meanDay) * (weights.get(i) - meanWeight);
+            variance += (days.get(i) - meanDay) * (days.get(i) - meanDay);
+        }
+        return variance == 0 ? 0 : covariance / variance;
+    }
+
+}
@@ -0,0 +1,122 @@
+package seedu.dietmanager.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.FoodNutritionRecord;
+import seedu.dietmanager.model.FoodRecordHistory;
+import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.model.RecipeManager;
+import seedu.dietmanager.model.SharedFoodNutritionRecord;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinarySnapshotTest {
+
+    @Test
+    void load() throws IOException {
+        Path path = Files.createTempFile("snapshot", ".bin");
+        Profile profile = new Profile();
+        profile.setProfile("John Doe", 20, "Male", 180, 80, 75);
+        profile.setWeight(78);
+        ArrayList<Food> foodList = new ArrayList<>();
+        foodList.add(new Food("steak", 500));
+        foodList.add(new Food("fries"));
+        profile.recordMeals("MONDAY", "morning", foodList);
+
+        BinarySnapshot snapshot = new BinarySnapshot(path);
+        snapshot.write(profile, FoodNutritionRecord.getInstance(), new RecipeManager(), 2, 5);
+        assertTrue(snapshot.verify());
+        assertEquals(2, snapshot.getJournalGeneration());
+        assertEquals(5, snapshot.getJournalEntryCount());
+
+        Profile loadedProfile = new Profile();
+        snapshot.load(loadedProfile, FoodNutritionRecord.getInstance(), new RecipeManager());
+        assertEquals("John Doe", loadedProfile.getName());
+        assertEquals(78, loadedProfile.getWeight());
+        assertEquals(2, loadedProfile.getWeightHistory().size());
+        assertEquals(80, loadedProfile.getWeightHistory().getWeight(0));
+        assertEquals(78, loadedProfile.getWeightHistory().getLatestWeight());
+        assertEquals(profile.getToday().toEpochDay(), loadedProfile.getWeightHistory().getEpochDay(1));
+        List<Food> morning = loadedProfile.getRecordOfDay("MONDAY").getDailyFood("morning");
+        assertEquals(2, morning.size());
+        assertEquals(500, morning.get(0).getCalories().get());
+        assertFalse(morning.get(1).hasCaloriesData());
+        assertFalse(loadedProfile.isProfileModified());
+        Files.delete(path);
+    }
+
+    @Test
+    void load_foodRecordHistory() throws IOException {
+        Path path = Files.createTempFile("snapshot", ".bin");
+        Profile profile = new Profile();
+        profile.getFoodRecordHistory().addUnloadedMonth(YearMonth.of(2018, 12));
+        profile.getFoodRecordHistory().addUnloadedMonth(YearMonth.of(2019, 1));
+        profile.recordMeals("2019-06-15", "night", new ArrayList<>(List.of(new Food("pear"))));
+        profile.recordMeals("2020-04-06", "morning", new ArrayList<>(List.of(new Food("egg", 80))));
+        profile.getRecordOfDay(LocalDate.of(2020, 4, 6)).setModified(false);
+        profile.getFoodRecordHistory().clear(YearMonth.of(2019, 1)::equals);
+
+        BinarySnapshot snapshot = new BinarySnapshot(path);
+        snapshot.write(profile, FoodNutritionRecord.getInstance(), new RecipeManager(), 0, 0);
+        assertTrue(snapshot.verify());
+        Profile loadedProfile = new Profile();
+        snapshot.load(loadedProfile, FoodNutritionRecord.getInstance(), new RecipeManager());
+        FoodRecordHistory history = loadedProfile.getFoodRecordHistory();
+        assertEquals(List.of(YearMonth.of(2018, 12)), new ArrayList<>(history.getUnloadedMonths()));
+        assertEquals(List.of(YearMonth.of(2019, 1), YearMonth.of(2019, 6)),
+                new ArrayList<>(history.getModifiedMonths()));
+        assertEquals(80, history.getRecord(LocalDate.of(2020, 4, 6)).getCalculableCalories());
+        Files.delete(path);
+    }
+
+    @Test
+    void load_sharedFoodNutritionRecord_leftOutOfSnapshot() throws IOException {
+        Path path = Files.createTempFile("snapshot", ".bin");
+        Profile profile = new Profile();
+        profile.setProfile("John Doe", 20, "Male", 180, 80, 75);
+        SharedFoodNutritionRecord sharedFoods = new SharedFoodNutritionRecord(new FoodNutritionRecord());
+        sharedFoods.addFoodNutritionRecord("durian", 360.0);
+
+        BinarySnapshot snapshot = new BinarySnapshot(path);
+        snapshot.write(profile, sharedFoods, new RecipeManager(), 0, 0);
+        assertFalse(new String(Files.readAllBytes(path), StandardCharsets.UTF_8).contains("durian"));
+
+        assertTrue(snapshot.verify());
+        Profile loadedProfile = new Profile();
+        snapshot.load(loadedProfile, sharedFoods, new RecipeManager());
+        assertEquals("John Doe", loadedProfile.getName());
+        assertTrue(sharedFoods.isInDatabase("durian"));
+
+        assertTrue(snapshot.verify());
+        Profile unsharedProfile = new Profile();
+        assertThrows(IOException.class, () -> snapshot.load(unsharedProfile, new FoodNutritionRecord(),
+                new RecipeManager()));
+        assertFalse(unsharedProfile.isProfileExist());
+        Files.delete(path);
+    }
+
+    @Test
+    void verify() throws IOException {
+        Path path = Files.createTempFile("snapshot", ".bin");
+        BinarySnapshot snapshot = new BinarySnapshot(path);
+        snapshot.write(new Profile(), FoodNutritionRecord.getInstance(), new RecipeManager(), 0, 0);
+        byte[] content = Files.readAllBytes(path);
+        content[content.length - 1] ^= 1;
+        Files.write(path, content);
+        assertFalse(snapshot.verify());
+        Files.delete(path);
+        assertFalse(snapshot.verify());
+    }
+}
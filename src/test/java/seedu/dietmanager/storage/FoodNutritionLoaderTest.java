@@ -0,0 +1,51 @@
+package seedu.dietmanager.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.dietmanager.commons.exceptions.InvalidCaloriesException;
+import seedu.dietmanager.commons.exceptions.InvalidFormatException;
+import seedu.dietmanager.model.Food;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FoodNutritionLoaderTest {
+
+    @Test
+    void load() throws Exception {
+        Path path = Files.createTempFile("food-nutrition-record", ".txt");
+        Files.writeString(path, "chicken-rice,702.0\r\n  Fried Rice , 508.25\ncheeseburger,1.0E2\n"
+                + "chicken-rice,1.0\nsoft-drink,0.1");
+        List<Food> foods = FoodNutritionLoader.load(path);
+        assertEquals(4, foods.size());
+        assertEquals("chicken-rice", foods.get(0).getFoodName());
+        assertEquals(702.0, foods.get(0).getCalories().get());
+        assertEquals("fried-rice", foods.get(1).getFoodName());
+        assertEquals(508.25, foods.get(1).getCalories().get());
+        assertEquals(100.0, foods.get(2).getCalories().get());
+        assertEquals(Double.parseDouble("0.1"), foods.get(3).getCalories().get());
+        Files.delete(path);
+    }
+
+    @Test
+    void load_invalidLine() throws IOException {
+        Path path = Files.createTempFile("food-nutrition-record", ".txt");
+        Files.writeString(path, "chicken-rice,702.0\nfried-rice\n");
+        assertThrows(InvalidFormatException.class, () -> {
+            FoodNutritionLoader.load(path);
+        });
+        Files.writeString(path, "chicken-rice,-702.0\n");
+        assertThrows(InvalidCaloriesException.class, () -> {
+            FoodNutritionLoader.load(path);
+        });
+        Files.writeString(path, "chicken-rice,+\n");
+        assertThrows(InvalidCaloriesException.class, () -> {
+            FoodNutritionLoader.load(path);
+        });
+        Files.delete(path);
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.dietmanager.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.MealChange;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MealJournalTest {
+
+    private static final List<MealChange> CHANGES = List.of(
+            MealChange.record("2020-04-06", "morning", List.of(new Food("rice", 456))),
+            MealChange.recipe("MONDAY", "night", List.of(new Food("noodles"))),
+            MealChange.clear());
+
+    @Test
+    void append_thenReadEntries_entriesInOrder() throws IOException {
+        Path path = Files.createTempFile("meal-journal", ".txt");
+        Files.delete(path);
+        try {
+            MealJournal journal = new MealJournal(path);
+            assertTrue(journal.readEntries().isEmpty());
+            journal.append(CHANGES.subList(0, 2));
+            journal.append(CHANGES.subList(2, 3));
+
+            List<String> entries = new MealJournal(path).readEntries();
+            assertEquals(3, entries.size());
+            assertEquals("RECORD 2020-04-06 morning: rice(456.00)", entries.get(0));
+            assertEquals("RECIPE MONDAY night: noodles(Nan)", entries.get(1));
+            assertEquals("CLEAR", entries.get(2));
+            assertEquals(Files.size(path), journal.size());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    void readEntries_tornFinalLine_truncated() throws IOException {
+        Path path = Files.createTempFile("meal-journal", ".txt");
+        try {
+            MealJournal journal = new MealJournal(path);
+            journal.append(CHANGES.subList(0, 1));
+            long completeSize = Files.size(path);
+            Files.write(path, "RECORD 2020-04-07 mor".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+            List<String> entries = new MealJournal(path).readEntries();
+            assertEquals(List.of("RECORD 2020-04-06 morning: rice(456.00)"), entries);
+            assertEquals(completeSize, Files.size(path));
+
+            journal.append(CHANGES.subList(2, 3));
+            assertEquals(List.of("RECORD 2020-04-06 morning: rice(456.00)", "CLEAR"),
+                    new MealJournal(path).readEntries());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void reset_entriesRemoved_generationKept() throws IOException {
+        Path path = Files.createTempFile("meal-journal", ".txt");
+        try {
+            MealJournal journal = new MealJournal(path);
+            journal.append(CHANGES);
+            journal.reset(3);
+            assertEquals(3, journal.getGeneration());
+            journal.append(CHANGES.subList(2, 3));
+
+            MealJournal reopened = new MealJournal(path);
+            assertEquals(List.of("CLEAR"), reopened.readEntries());
+            assertEquals(3, reopened.getGeneration());
+            assertFalse(Files.exists(path.resolveSibling(path.getFileName() + ".tmp")));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+}
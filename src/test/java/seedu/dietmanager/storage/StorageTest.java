@@ -0,0 +1,142 @@
+package seedu.dietmanager.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.dietmanager.commons.core.LogsCentre;
+import seedu.dietmanager.model.Food;
+import seedu.dietmanager.model.FoodNutritionRecord;
+import seedu.dietmanager.model.Profile;
+import seedu.dietmanager.ui.UI;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageTest {
+
+    private static final LocalDate APRIL_DAY = LocalDate.of(2020, 4, 6);
+
+    private static final LocalDate MARCH_DAY = LocalDate.of(2020, 3, 2);
+
+    @Test
+    void load_journalOfCurrentGeneration_replayedOnMonthFile() throws IOException {
+        Path dataDirectory = Files.createTempDirectory("storage");
+        try {
+            writeMonthFile(dataDirectory, "2020-04", 1, "2020-04-06 morning: rice(456.00)");
+            writeJournal(dataDirectory, "GENERATION 1\nRECORD 2020-04-06 night: noodles(300.00)\n");
+
+            Profile profile = loadProfile(dataDirectory);
+            assertEquals(List.of("rice"), getFoodNames(profile, APRIL_DAY, "morning"));
+            assertEquals(List.of("noodles"), getFoodNames(profile, APRIL_DAY, "night"));
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+    }
+
+    @Test
+    void load_tornFinalJournalLine_discarded() throws IOException {
+        Path dataDirectory = Files.createTempDirectory("storage");
+        try {
+            writeMonthFile(dataDirectory, "2020-04", 0, "2020-04-06 morning: rice(456.00)");
+            writeJournal(dataDirectory, "GENERATION 0\nRECORD 2020-04-06 night: noodles(300.00)\n"
+                    + "RECORD 2020-04-06 afternoon: bre");
+
+            Profile profile = loadProfile(dataDirectory);
+            assertEquals(List.of("noodles"), getFoodNames(profile, APRIL_DAY, "night"));
+            assertTrue(getFoodNames(profile, APRIL_DAY, "afternoon").isEmpty());
+            assertTrue(Files.readString(dataDirectory.resolve("meal-journal.txt")).endsWith("300.00)\n"));
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+    }
+
+    @Test
+    void load_compactionInterrupted_journalNotReplayedOnRewrittenMonth() throws IOException {
+        Path dataDirectory = Files.createTempDirectory("storage");
+        try {
+            // The compaction to generation 2 rewrote the April file, but not the March file or the journal.
+            writeMonthFile(dataDirectory, "2020-03", 1, "2020-03-02 morning: bread(77.00)");
+            writeMonthFile(dataDirectory, "2020-04", 2, "2020-04-06 morning: rice(456.00)");
+            writeJournal(dataDirectory, "GENERATION 1\nRECORD 2020-04-06 morning: rice(456.00)\n"
+                    + "RECORD 2020-03-02 night: soup(100.00)\n");
+
+            Profile profile = loadProfile(dataDirectory);
+            assertEquals(List.of("rice"), getFoodNames(profile, APRIL_DAY, "morning"));
+            assertEquals(List.of("bread"), getFoodNames(profile, MARCH_DAY, "morning"));
+            assertEquals(List.of("soup"), getFoodNames(profile, MARCH_DAY, "night"));
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+    }
+
+    @Test
+    void compactMealJournal_journalReset_recordsKept() throws IOException {
+        Path dataDirectory = Files.createTempDirectory("storage");
+        try {
+            Profile profile = new Profile(new FoodNutritionRecord());
+            Storage storage = newStorage(dataDirectory, profile);
+            profile.setProfile("John Doe", 20, "Male", 180, 80, 75);
+            ArrayList<Food> foods = new ArrayList<>(List.of(new Food("rice", 456)));
+            profile.recordMeals(APRIL_DAY, "morning", foods);
+            storage.saveChanges();
+            assertTrue(Files.readString(dataDirectory.resolve("meal-journal.txt")).contains("rice(456.00)"));
+
+            storage.compactMealJournal();
+            assertEquals("GENERATION 1\n", Files.readString(dataDirectory.resolve("meal-journal.txt")));
+            assertTrue(Files.readString(dataDirectory.resolve("daily-food-record").resolve("2020-04.txt"))
+                    .startsWith("Generation: 1"));
+
+            assertEquals(List.of("rice"), getFoodNames(loadProfile(dataDirectory), APRIL_DAY, "morning"));
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+    }
+
+    private static Storage newStorage(Path dataDirectory, Profile profile) {
+        UI ui = new UI(new ByteArrayInputStream(new byte[0]), new PrintStream(new ByteArrayOutputStream()));
+        return new Storage(ui, new LogsCentre(), profile, profile.getFoodNutritionRecord(), dataDirectory);
+    }
+
+    private static Profile loadProfile(Path dataDirectory) {
+        Profile profile = new Profile(new FoodNutritionRecord());
+        newStorage(dataDirectory, profile);
+        return profile;
+    }
+
+    private static List<String> getFoodNames(Profile profile, LocalDate date, String mealType) {
+        List<String> foodNames = new ArrayList<>();
+        for (Food food : profile.getRecordOfDay(date).getDailyFood(mealType)) {
+            foodNames.add(food.getFoodName());
+        }
+        return foodNames;
+    }
+
+    private static void writeMonthFile(Path dataDirectory, String month, int generation, String line)
+            throws IOException {
+        Path monthDirectory = dataDirectory.resolve("daily-food-record");
+        Files.createDirectories(monthDirectory);
+        Files.writeString(monthDirectory.resolve(month + ".txt"), "Generation: " + generation
+                + System.lineSeparator() + line + System.lineSeparator());
+    }
+
+    private static void writeJournal(Path dataDirectory, String journal) throws IOException {
+        Files.writeString(dataDirectory.resolve("meal-journal.txt"), journal);
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+package seedu.dietmanager.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.dietmanager.commons.core.LogsCentre;
+import seedu.dietmanager.ui.UI;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindWriterTest {
+
+    private static final String WRITER_THREAD_NAME = "storage-writer";
+
+    @Test
+    void submit_samePathTwice_writesLatestContent() throws Exception {
+        Path directory = Files.createTempDirectory("writer");
+        WriteBehindWriter writer = newWriter(new ByteArrayOutputStream());
+        try {
+            Path path = directory.resolve("profile.txt");
+            writer.submit(path, "first");
+            writer.submit(path, "second");
+            assertTrue(writer.flush());
+            assertEquals("second", Files.readString(path));
+            assertTrue(writer.flush());
+            assertEquals("second", Files.readString(path));
+        } finally {
+            writer.close();
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    void submit_withoutFlush_writtenInBackground() throws Exception {
+        Path directory = Files.createTempDirectory("writer");
+        WriteBehindWriter writer = newWriter(new ByteArrayOutputStream());
+        try {
+            Path path = directory.resolve("recipe.txt");
+            writer.submit(path, "recipe");
+            for (int attempt = 0; attempt < 200 && !Files.exists(path); attempt++) {
+                Thread.sleep(10);
+            }
+            assertEquals("recipe", Files.readString(path));
+        } finally {
+            writer.close();
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    void flush_unwritableFile_returnsFalse() throws Exception {
+        Path directory = Files.createTempDirectory("writer");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        WriteBehindWriter writer = newWriter(output);
+        try {
+            Path path = directory.resolve("profile.txt");
+            writer.submit(directory.resolve("missing").resolve("profile.txt"), "lost");
+            writer.submit(path, "kept");
+            assertFalse(writer.flush());
+            assertEquals("kept", Files.readString(path));
+            assertFalse(output.toString().isEmpty());
+            assertTrue(writer.flush());
+        } finally {
+            writer.close();
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    void flushPaths_otherFileUnwritable_returnsResultOfPaths() throws Exception {
+        Path directory = Files.createTempDirectory("writer");
+        WriteBehindWriter writer = newWriter(new ByteArrayOutputStream());
+        try {
+            Path path = directory.resolve("recipe.txt");
+            Path otherPath = directory.resolve("missing").resolve("recipe.txt");
+            writer.submit(otherPath, "lost");
+            writer.submit(path, "kept");
+            assertTrue(writer.flush(List.of(path)));
+            assertFalse(writer.flush(List.of(path, otherPath)));
+
+            Files.createDirectories(otherPath.getParent());
+            writer.submit(otherPath, "written");
+            assertTrue(writer.flush(List.of(path, otherPath)));
+        } finally {
+            writer.close();
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    void close_pendingContent_writtenAndThreadStopped() throws Exception {
+        Path directory = Files.createTempDirectory("writer");
+        Set<Thread> threadsBefore = findWriterThreads();
+        WriteBehindWriter writer = newWriter(new ByteArrayOutputStream());
+        Path path = directory.resolve("profile.txt");
+        try {
+            writer.submit(path, "pending");
+            Set<Thread> writerThreads = findWriterThreads();
+            writerThreads.removeAll(threadsBefore);
+            assertFalse(writerThreads.isEmpty());
+            writer.close();
+            assertEquals("pending", Files.readString(path));
+            for (Thread thread : writerThreads) {
+                thread.join(1000);
+                assertFalse(thread.isAlive());
+            }
+
+            writer.submit(path, "after close");
+            Thread.sleep(400);
+            assertEquals("pending", Files.readString(path));
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    void writeAtomically_existingFile_replacedWithoutTemporaryFile() throws Exception {
+        Path directory = Files.createTempDirectory("writer");
+        try {
+            Path path = directory.resolve("food-nutrition-record.txt");
+            WriteBehindWriter.writeAtomically(path, "first");
+            WriteBehindWriter.writeAtomically(path, "second");
+            assertEquals("second", Files.readString(path));
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(1, files.count());
+            }
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    private static WriteBehindWriter newWriter(ByteArrayOutputStream output) {
+        UI ui = new UI(new ByteArrayInputStream(new byte[0]), new PrintStream(output, true));
+        return new WriteBehindWriter(ui, new LogsCentre());
+    }
+
+    private static Set<Thread> findWriterThreads() {
+        Set<Thread> writerThreads = new HashSet<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals(WRITER_THREAD_NAME)) {
+                writerThreads.add(thread);
+            }
+        }
+        return writerThreads;
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+}
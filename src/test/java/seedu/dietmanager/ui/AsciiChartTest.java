@@ -0,0 +1,45 @@
+package seedu.dietmanager.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsciiChartTest {
+
+    @Test
+    void downsample_shortSeries_keepsEveryPoint() {
+        assertTrue(Arrays.equals(new int[] {0, 1, 2}, AsciiChart.downsample(3, i -> i, i -> i, 10)));
+    }
+
+    @Test
+    void downsample_longSeries_keepsEndsAndSpike() {
+        int count = 100_000;
+        int spike = 31_415;
+        int[] indices = AsciiChart.downsample(count, i -> i, i -> i == spike ? 1000 : Math.sin(i / 500.0), 60);
+        assertEquals(60, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(count - 1, indices[59]);
+        boolean hasSpike = false;
+        for (int i = 1; i < indices.length; i++) {
+            assertTrue(indices[i] > indices[i - 1]);
+            hasSpike |= indices[i] == spike;
+        }
+        assertTrue(hasSpike);
+    }
+
+    @Test
+    void render_sizeDoesNotDependOnSeriesLength() {
+        String shortChart = AsciiChart.render("title", 2, i -> 18_000 + i, i -> 80 - i);
+        String longChart = AsciiChart.render("title", 50_000, i -> 18_000 + i, i -> 80 - i / 10_000.0);
+        assertEquals(shortChart.length(), longChart.length());
+        String[] lines = longChart.split(System.lineSeparator());
+        assertEquals(AsciiChart.HEIGHT + 3, lines.length);
+        assertTrue(lines[1].startsWith("    80.00 |*"));
+        assertTrue(lines[AsciiChart.HEIGHT].endsWith("*"));
+        assertTrue(lines[AsciiChart.HEIGHT + 2].trim().startsWith("2019-04-14"));
+    }
+
+}